@@ -0,0 +1,371 @@
+package benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+import predictive.Dictionary;
+import predictive.DictionaryListImpl;
+import predictive.DictionaryMapImpl;
+import predictive.DictionaryTreeImpl;
+import predictive.PredictivePrototype;
+import predictive.SignatureConverter;
+
+/**
+ * This class is used to compare the speed and the memory of every dictionary engine on a big synthetic dictionary
+ * Measured for every engine : the time to load the dictionary file, the heap used by the loaded dictionary,
+ * the time of one search for signatures of whole words (exact) and for prefix signatures with length 1 - 8,
+ * and the number of signatures searched per second by signaturesToWords (batch)
+ * Every measurement is run some rounds first without measured, so the JIT already compile the code,
+ * and the best round is reported (JMH can't be used without a build tool, so the rounds are measured here)
+ * Run with big heap for the multi-million words dictionary (like -Xmx4g), the heap measurement is only
+ * an estimation (used heap after garbage collection)
+ * @author Hans Sean Nathanael
+ *
+ */
+public class DictionaryBenchmark {
+
+	// number of rounds that not measured and the number of rounds measured
+	private static final int WARMUP_ROUNDS = 3;
+	private static final int MEASURED_ROUNDS = 5;
+
+	// number of times the dictionary is loaded to measure the load time (loading is slow)
+	private static final int LOAD_ROUNDS = 2;
+
+	// number of different signatures for every signature length
+	private static final int SIGNATURES_PER_LENGTH = 2000;
+
+	// minimum time of one round of search, the signatures are searched again and again until this time
+	// (a short prefix signature in the tree could take milliseconds, a long one only nanoseconds)
+	private static final long ROUND_NANOS = 200000000L;
+
+	// the longest signature measured
+	private static final int MAX_SIGNATURE_LENGTH = 8;
+
+	// number of signatures of the batch
+	private static final int BATCH_SIZE = 20000;
+
+	// number of search by PredictivePrototype, every search read the whole file
+	private static final int PROTOTYPE_SEARCHES = 3;
+
+	// the number of words found is added here, so the JIT can't remove the search that the result is never used
+	private static long resultSink = 0;
+
+	/**
+	 * Search that is measured
+	 * @author Hans Sean Nathanael
+	 *
+	 */
+	private interface Search {
+
+		/**
+		 * Method to search one signature
+		 * @param signature : the searched signature
+		 * @return number of words found
+		 */
+		int run(String signature);
+	}
+
+	/**
+	 * Run the benchmark, the dictionary file is created first if it doesn't exist
+	 * @param args : first argument is the dictionary file (default assets/synthetic-words), second argument is
+	 *        the number of words if the file is created (default 2000000)
+	 */
+	public static void main(String[] args) throws IOException {
+		String path = args.length > 0 ? args[0] : "assets/synthetic-words";
+		int wordCount = args.length > 1 ? Integer.parseInt(args[1]) : 2000000;
+
+		if (new File(path).exists() == false)
+		{
+			System.out.println("creating " + wordCount + " words in " + path);
+			SyntheticDictionaryGenerator.generate(path, wordCount, 1);
+		}
+
+		// the signatures are taken from the words of the dictionary, so most of the signatures exist
+		List<String> listWords = readWords(path);
+		Random random = new Random(7);
+		String exactSignatures[][] = new String[MAX_SIGNATURE_LENGTH + 1][];
+		String prefixSignatures[][] = new String[MAX_SIGNATURE_LENGTH + 1][];
+		for (int length = 1; length <= MAX_SIGNATURE_LENGTH; length++)
+		{
+			exactSignatures[length] = sampleSignatures(listWords, length, true, random);
+			prefixSignatures[length] = sampleSignatures(listWords, length, false, random);
+		}
+		List<String> batchSignatures = new ArrayList<String>(BATCH_SIZE);
+		for (int i = 0; i < BATCH_SIZE; i++)
+		{
+			int length = 1 + random.nextInt(MAX_SIGNATURE_LENGTH);
+			batchSignatures.add(exactSignatures[length][random.nextInt(SIGNATURES_PER_LENGTH)]);
+		}
+		System.out.println(listWords.size() + " lines in " + path);
+		listWords = null;
+
+		// every engine is created by the path of the dictionary file
+		Map<String, Function<String, Dictionary>> engines = new LinkedHashMap<String, Function<String, Dictionary>>();
+		engines.put("DictionaryListImpl", new Function<String, Dictionary>() {
+
+			@Override
+			public Dictionary apply(String dictionaryPath)
+			{
+				return new DictionaryListImpl(dictionaryPath);
+			}
+		});
+		engines.put("DictionaryMapImpl", new Function<String, Dictionary>() {
+
+			@Override
+			public Dictionary apply(String dictionaryPath)
+			{
+				return new DictionaryMapImpl(dictionaryPath);
+			}
+		});
+		engines.put("DictionaryTreeImpl", new Function<String, Dictionary>() {
+
+			@Override
+			public Dictionary apply(String dictionaryPath)
+			{
+				return new DictionaryTreeImpl(dictionaryPath);
+			}
+		});
+
+		for (Map.Entry<String, Function<String, Dictionary>> element : engines.entrySet())
+		{
+			System.out.println();
+			System.out.println(element.getKey());
+			benchmarkEngine(element.getValue(), path, exactSignatures, prefixSignatures, batchSignatures);
+		}
+
+		// the prototype doesn't load the dictionary, every search read the whole file
+		System.out.println();
+		System.out.println("PredictivePrototype");
+		String prototypeSignatures[] = Arrays.copyOf(exactSignatures[5], PROTOTYPE_SEARCHES);
+		long startTime = System.nanoTime();
+		for (String signature : prototypeSignatures)
+		{
+			resultSink += PredictivePrototype.signatureToWords(signature, path).size();
+		}
+		System.out.println(String.format("  search (exact, length 5) : %.2f ms/op",
+										 (System.nanoTime() - startTime) / 1e6 / PROTOTYPE_SEARCHES));
+
+		// many signatures are searched with one scan of the file
+		startTime = System.nanoTime();
+		for (Set<String> element : PredictivePrototype.signaturesToWords(batchSignatures, path))
+		{
+			resultSink += element.size();
+		}
+		System.out.println(String.format("  batch of %d signatures (one scan) : %.2f ms",
+										 batchSignatures.size(), (System.nanoTime() - startTime) / 1e6));
+
+		System.out.println();
+		System.out.println("(result sink " + resultSink + ")");
+	}
+
+	/**
+	 * Method to measure one engine and print the result
+	 * @param engine : function to create the dictionary from the dictionary file
+	 * @param path : directory path to dictionary file
+	 * @param exactSignatures : signatures of whole words for every length
+	 * @param prefixSignatures : prefix signatures of words for every length
+	 * @param batchSignatures : signatures searched in one batch
+	 */
+	private static void benchmarkEngine(Function<String, Dictionary> engine, String path, String exactSignatures[][],
+										String prefixSignatures[][], List<String> batchSignatures)
+	{
+		// load time, the best of LOAD_ROUNDS
+		long bestLoadTime = Long.MAX_VALUE;
+		for (int i = 0; i < LOAD_ROUNDS; i++)
+		{
+			long startTime = System.nanoTime();
+			Dictionary dictionary = engine.apply(path);
+			bestLoadTime = Math.min(bestLoadTime, System.nanoTime() - startTime);
+			resultSink += dictionary.hashCode() & 1;
+		}
+		System.out.println(String.format("  load : %.1f ms", bestLoadTime / 1e6));
+
+		// retained heap, the dictionary must still be referenced when the heap is measured
+		long heapBefore = usedHeap();
+		final Dictionary dictionary = engine.apply(path);
+		long heapAfter = usedHeap();
+		System.out.println(String.format("  retained heap : %.1f MB", (heapAfter - heapBefore) / 1e6));
+
+		Search search = new Search() {
+
+			@Override
+			public int run(String signature)
+			{
+				return dictionary.signatureToWords(signature).size();
+			}
+		};
+
+		for (int length = 1; length <= MAX_SIGNATURE_LENGTH; length++)
+		{
+			System.out.println(String.format("  search length %d : exact %10.1f ns/op, prefix %10.1f ns/op", length,
+											 measureSearch(search, exactSignatures[length]),
+											 measureSearch(search, prefixSignatures[length])));
+		}
+
+		if (dictionary instanceof DictionaryListImpl)
+		{
+			// the list can search by prefix like the tree too
+			final DictionaryListImpl listDictionary = (DictionaryListImpl)dictionary;
+			Search prefixSearch = new Search() {
+
+				@Override
+				public int run(String signature)
+				{
+					return listDictionary.prefixSignatureToWords(signature).size();
+				}
+			};
+			for (int length = 1; length <= MAX_SIGNATURE_LENGTH; length++)
+			{
+				System.out.println(String.format("  prefixSignatureToWords length %d : %10.1f ns/op", length,
+												 measureSearch(prefixSearch, prefixSignatures[length])));
+			}
+		}
+
+		// batch throughput, the best of the measured rounds
+		long bestBatchTime = Long.MAX_VALUE;
+		for (int i = 0; i < WARMUP_ROUNDS + MEASURED_ROUNDS; i++)
+		{
+			long startTime = System.nanoTime();
+			resultSink += dictionary.signaturesToWords(batchSignatures).size();
+			if (i >= WARMUP_ROUNDS)
+			{
+				bestBatchTime = Math.min(bestBatchTime, System.nanoTime() - startTime);
+			}
+		}
+		System.out.println(String.format("  batch : %.0f signatures/s", batchSignatures.size() / (bestBatchTime / 1e9)));
+	}
+
+	/**
+	 * Method to measure the average time of one search
+	 * @param search : the search that is measured
+	 * @param signatures : the signatures searched every round
+	 * @return average time of one search in the best round in nanoseconds
+	 */
+	private static double measureSearch(Search search, String signatures[])
+	{
+		double bestTime = Double.MAX_VALUE;
+		int signatureIndex = 0;
+		for (int i = 0; i < WARMUP_ROUNDS + MEASURED_ROUNDS; i++)
+		{
+			// the time is checked every 16 searches, so System.nanoTime doesn't take most of the time of fast search
+			long startTime = System.nanoTime();
+			long elapsedTime = 0;
+			int searchCount = 0;
+			while (elapsedTime < ROUND_NANOS)
+			{
+				for (int j = 0; j < 16; j++)
+				{
+					resultSink += search.run(signatures[signatureIndex]);
+					signatureIndex = (signatureIndex + 1) % signatures.length;
+				}
+				searchCount += 16;
+				elapsedTime = System.nanoTime() - startTime;
+			}
+			if (i >= WARMUP_ROUNDS)
+			{
+				bestTime = Math.min(bestTime, (double)elapsedTime / searchCount);
+			}
+		}
+		return bestTime;
+	}
+
+	/**
+	 * Method to take random signatures from the words
+	 * @param listWords : all valid words of the dictionary
+	 * @param length : length of the signatures
+	 * @param isExact : true for the signature of a word with the same length, false for the beginning of the
+	 *        signature of a word that is at least as long as the length
+	 * @param random : random generator to choose the words
+	 * @return SIGNATURES_PER_LENGTH signatures
+	 */
+	private static String[] sampleSignatures(List<String> listWords, int length, boolean isExact, Random random)
+	{
+		List<String> listCandidates = new ArrayList<String>();
+		for (String element : listWords)
+		{
+			if (isExact ? element.length() == length : element.length() >= length)
+			{
+				listCandidates.add(element);
+			}
+		}
+
+		String signatures[] = new String[SIGNATURES_PER_LENGTH];
+		char signature[] = new char[length];
+		for (int i = 0; i < signatures.length; i++)
+		{
+			if (listCandidates.isEmpty())
+			{
+				// no word with the length, the signature doesn't exist
+				Arrays.fill(signature, '2');
+			}
+			else
+			{
+				String word = listCandidates.get(random.nextInt(listCandidates.size()));
+				SignatureConverter.wordToSignature(word.substring(0, length), signature);
+			}
+			signatures[i] = new String(signature);
+		}
+		return signatures;
+	}
+
+	/**
+	 * Method to read all valid words of the dictionary file (lower case, alphabet only)
+	 * @param path : directory path to dictionary file
+	 * @return list of the words
+	 * @throws IOException if the file can't be read
+	 */
+	private static List<String> readWords(String path) throws IOException
+	{
+		List<String> listWords = new ArrayList<String>();
+		BufferedReader fileReader = new BufferedReader(new FileReader(path));
+		try
+		{
+			String fileOneLine = null;
+			while((fileOneLine = fileReader.readLine()) != null)
+			{
+				fileOneLine = fileOneLine.toLowerCase();
+				if (fileOneLine.length() > 0 && fileOneLine.matches("[a-z]+"))
+				{
+					listWords.add(fileOneLine);
+				}
+			}
+		}
+		finally
+		{
+			fileReader.close();
+		}
+		return listWords;
+	}
+
+	/**
+	 * Method to get the used heap after garbage collection
+	 * @return used heap in bytes
+	 */
+	private static long usedHeap()
+	{
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 4; i++)
+		{
+			System.gc();
+			try
+			{
+				Thread.sleep(50);
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
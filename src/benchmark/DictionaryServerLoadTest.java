@@ -0,0 +1,268 @@
+package benchmark;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
+
+import predictive.Dictionary;
+import predictive.DictionaryTreeImpl;
+import predictive.LatencyHistogram;
+import predictiveserver.DictionaryServer;
+
+/**
+ * This class is used to measure the throughput and the latency of DictionaryServer
+ * The server is started in the same process on the loopback address, and many client threads send requests
+ * to it by HTTP (keep-alive, so the connection is reused) until the time is over
+ * Every client send /words most of the time, /prefix sometimes, and /batch rarely, the signatures are
+ * taken from the words of the dictionary (whole word or a prefix of it), so most of the signatures exist
+ * The latency is measured by the client, so it include the loopback network and the HTTP parsing
+ * @author Hans Sean Nathanael
+ *
+ */
+public class DictionaryServerLoadTest {
+
+	// percentage of /words and /prefix requests, the rest is /batch
+	private static final int WORDS_PERCENT = 80;
+	private static final int PREFIX_PERCENT = 15;
+
+	// number of signatures of one batch request
+	private static final int BATCH_SIZE = 50;
+
+	// number of signatures taken from the dictionary
+	private static final int SIGNATURE_COUNT = 20000;
+
+	// the time that is not measured, so the JIT already compile the server and the client
+	private static final long WARMUP_NANOS = 2000000000L;
+
+	// latency of every request type and the number of failed requests
+	private static LatencyHistogram wordsLatency = new LatencyHistogram();
+	private static LatencyHistogram prefixLatency = new LatencyHistogram();
+	private static LatencyHistogram batchLatency = new LatencyHistogram();
+	private static LongAdder failedRequests = new LongAdder();
+
+	/**
+	 * Run the load test
+	 * @param args : first argument is the dictionary file (default assets/words), second argument is the number
+	 *        of client threads (default 32), third argument is the measured seconds (default 10)
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		String path = args.length > 0 ? args[0] : "assets/words";
+		int clientCount = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+		int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+		// HttpURLConnection keep only 5 idle connections to the same server by default,
+		// the other clients would open a new connection for every request
+		System.setProperty("http.maxConnections", String.valueOf(clientCount));
+
+		// the server is created without DictionaryServer.main, so the TCP_NODELAY property is set here
+		// (before the first JDK server is created), the value given on the command line is kept
+		if (System.getProperty("sun.net.httpserver.nodelay") == null)
+		{
+			System.setProperty("sun.net.httpserver.nodelay", "true");
+		}
+
+		Dictionary dictionary = new DictionaryTreeImpl(path);
+		final String signatures[] = sampleSignatures(dictionary, path, new Random(7));
+		System.out.println(signatures.length + " signatures from " + path);
+
+		DictionaryServer server = new DictionaryServer(dictionary, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+		server.start();
+		final String baseUrl = "http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + server.getPort();
+		System.out.println("server on " + baseUrl + ", " + clientCount + " clients, " + seconds + " s");
+
+		final long warmupEnd = System.nanoTime() + WARMUP_NANOS;
+		final long measureEnd = warmupEnd + seconds * 1000000000L;
+		List<Thread> clients = new ArrayList<Thread>();
+		for (int i = 0; i < clientCount; i++)
+		{
+			final Random random = new Random(i);
+			Thread client = new Thread(new Runnable() {
+
+				@Override
+				public void run()
+				{
+					runClient(baseUrl, signatures, random, warmupEnd, measureEnd);
+				}
+			});
+			client.start();
+			clients.add(client);
+		}
+		for (Thread element : clients)
+		{
+			element.join();
+		}
+		server.stop(1);
+
+		long requestCount = wordsLatency.getCount() + prefixLatency.getCount() + batchLatency.getCount();
+		System.out.println(String.format("%d requests, %.0f requests/s, %d failed", requestCount,
+										 requestCount / (double)seconds, failedRequests.sum()));
+		printLatency("/words", wordsLatency);
+		printLatency("/prefix", prefixLatency);
+		printLatency("/batch (" + BATCH_SIZE + " signatures)", batchLatency);
+	}
+
+	/**
+	 * Method to send requests until the time is over, the latency is recorded after the warmup
+	 * @param baseUrl : URL of the server without path
+	 * @param signatures : signatures that are searched
+	 * @param random : random of this client
+	 * @param warmupEnd : time (System.nanoTime) when the latency start to be recorded
+	 * @param measureEnd : time (System.nanoTime) when the client stop
+	 */
+	private static void runClient(String baseUrl, String signatures[], Random random, long warmupEnd, long measureEnd)
+	{
+		long startTime;
+		while ((startTime = System.nanoTime()) < measureEnd)
+		{
+			int requestType = random.nextInt(100);
+			LatencyHistogram latency;
+			try
+			{
+				if (requestType < WORDS_PERCENT)
+				{
+					latency = wordsLatency;
+					get(baseUrl + "/words?signature=" + signatures[random.nextInt(signatures.length)]);
+				}
+				else if (requestType < WORDS_PERCENT + PREFIX_PERCENT)
+				{
+					latency = prefixLatency;
+					get(baseUrl + "/prefix?signature=" + signatures[random.nextInt(signatures.length)] + "&limit=10");
+				}
+				else
+				{
+					latency = batchLatency;
+					StringBuilder body = new StringBuilder();
+					for (int i = 0; i < BATCH_SIZE; i++)
+					{
+						body.append(signatures[random.nextInt(signatures.length)]).append('\n');
+					}
+					post(baseUrl + "/batch", body.toString());
+				}
+			}
+			catch (IOException e)
+			{
+				failedRequests.increment();
+				continue;
+			}
+
+			if (startTime >= warmupEnd)
+			{
+				latency.record(System.nanoTime() - startTime);
+			}
+		}
+	}
+
+	/**
+	 * Method to send GET request and read the whole response
+	 * @param url : URL of the request
+	 * @throws IOException if the request failed or the status is not 200
+	 */
+	private static void get(String url) throws IOException
+	{
+		HttpURLConnection connection = (HttpURLConnection)new URL(url).openConnection();
+		readResponse(connection);
+	}
+
+	/**
+	 * Method to send POST request and read the whole response
+	 * @param url : URL of the request
+	 * @param body : body of the request
+	 * @throws IOException if the request failed or the status is not 200
+	 */
+	private static void post(String url, String body) throws IOException
+	{
+		HttpURLConnection connection = (HttpURLConnection)new URL(url).openConnection();
+		connection.setRequestMethod("POST");
+		connection.setDoOutput(true);
+		byte bodyBytes[] = body.getBytes(StandardCharsets.UTF_8);
+		connection.setFixedLengthStreamingMode(bodyBytes.length);
+		try (OutputStream output = connection.getOutputStream())
+		{
+			output.write(bodyBytes);
+		}
+		readResponse(connection);
+	}
+
+	/**
+	 * Method to read the whole response, so the connection can be reused by the next request
+	 * @param connection : connection of the request
+	 * @throws IOException if the request failed or the status is not 200
+	 */
+	private static void readResponse(HttpURLConnection connection) throws IOException
+	{
+		if (connection.getResponseCode() != 200)
+		{
+			throw new IOException("status " + connection.getResponseCode());
+		}
+
+		byte buffer[] = new byte[8192];
+		try (InputStream input = connection.getInputStream())
+		{
+			while (input.read(buffer) >= 0)
+			{
+			}
+		}
+	}
+
+	/**
+	 * Method to take the signatures of random words of the dictionary file, half of them are a prefix of the word
+	 * @param dictionary : the dictionary, its layout is used to convert the words
+	 * @param path : directory path to dictionary file
+	 * @param random : random to choose the words and the length of the prefix
+	 * @return the signatures
+	 * @throws IOException if the file can't be read
+	 */
+	private static String[] sampleSignatures(Dictionary dictionary, String path, Random random) throws IOException
+	{
+		List<String> wordSignatures = new ArrayList<String>();
+		BufferedReader fileReader = new BufferedReader(new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8));
+		try
+		{
+			String fileOneLine = null;
+			while((fileOneLine = fileReader.readLine()) != null)
+			{
+				if (fileOneLine.length() > 0 && dictionary.getLayout().isValidWord(fileOneLine))
+				{
+					wordSignatures.add(dictionary.getLayout().wordToSignature(fileOneLine));
+				}
+			}
+		}
+		finally
+		{
+			fileReader.close();
+		}
+
+		String signatures[] = new String[SIGNATURE_COUNT];
+		for (int i = 0; i < SIGNATURE_COUNT; i++)
+		{
+			String signature = wordSignatures.get(random.nextInt(wordSignatures.size()));
+			signatures[i] = random.nextBoolean() ? signature : signature.substring(0, 1 + random.nextInt(signature.length()));
+		}
+		return signatures;
+	}
+
+	/**
+	 * Method to print the percentiles of the latency
+	 * @param name : name of the request type
+	 * @param latency : latency of the request type
+	 */
+	private static void printLatency(String name, LatencyHistogram latency)
+	{
+		System.out.println(String.format("  %s : %d requests, mean %.1f us, p50 %.1f us, p99 %.1f us, max %.1f us",
+										 name, latency.getCount(), latency.getMean() / 1e3,
+										 latency.getValueAtPercentile(50) / 1e3, latency.getValueAtPercentile(99) / 1e3,
+										 latency.getMax() / 1e3));
+	}
+}
@@ -0,0 +1,115 @@
+package benchmark;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * This class is used to create a big dictionary file with random words for the benchmark
+ * The letters are chosen by the frequency of the letter in English, and the length of the word is
+ * mostly 5 - 9 characters, so the signatures are distributed like a real dictionary (many words share
+ * a short prefix signature and only few words share a long signature)
+ * @author Hans Sean Nathanael
+ *
+ */
+public class SyntheticDictionaryGenerator {
+
+	// frequency of every letter (a - z) in English text in 0.01 %, used as the weight to choose the letter
+	private static final int LETTER_WEIGHT[] = {817, 149, 278, 425, 1270, 223, 202, 609, 697, 15,
+												77, 403, 241, 675, 751, 193, 10, 599, 633, 906,
+												276, 98, 236, 15, 197, 7};
+
+	// weight of every word length from 0 until 15, no word shorter than 2 characters
+	private static final int LENGTH_WEIGHT[] = {0, 0, 20, 60, 120, 170, 180, 160, 120, 80, 50, 30, 15, 8, 4, 2};
+
+	/**
+	 * Method to write a dictionary file with random words, one word each line
+	 * the same seed always create the same file
+	 * @param path : directory path of the dictionary file that will be written
+	 * @param wordCount : number of words (lines) of the file, the same word could be written more than once
+	 * @param seed : seed of the random generator
+	 * @throws IOException if the file can't be written
+	 */
+	public static void generate(String path, int wordCount, long seed) throws IOException
+	{
+		Random random = new Random(seed);
+		int letterWeightTotal = sumOf(LETTER_WEIGHT);
+		int lengthWeightTotal = sumOf(LENGTH_WEIGHT);
+
+		// every word is written to the same array first, so no new object for every word
+		char word[] = new char[LENGTH_WEIGHT.length];
+
+		BufferedWriter fileWriter = new BufferedWriter(new FileWriter(path), 1 << 16);
+		try
+		{
+			for (int i = 0; i < wordCount; i++)
+			{
+				int length = chooseByWeight(LENGTH_WEIGHT, random.nextInt(lengthWeightTotal));
+				for (int j = 0; j < length; j++)
+				{
+					word[j] = (char)('a' + chooseByWeight(LETTER_WEIGHT, random.nextInt(letterWeightTotal)));
+				}
+				fileWriter.write(word, 0, length);
+				fileWriter.newLine();
+			}
+		}
+		finally
+		{
+			fileWriter.close();
+		}
+	}
+
+	/**
+	 * Method to choose an index, the index with bigger weight is chosen more often
+	 * @param weight : weight of every index
+	 * @param randomValue : random number from 0 until the total of the weight (exclusive)
+	 * @return the chosen index
+	 */
+	private static int chooseByWeight(int weight[], int randomValue)
+	{
+		int index = 0;
+		while (randomValue >= weight[index])
+		{
+			randomValue -= weight[index];
+			index += 1;
+		}
+		return index;
+	}
+
+	/**
+	 * Method to sum all elements of an array
+	 * @param values : the array
+	 * @return total of all elements
+	 */
+	private static int sumOf(int values[])
+	{
+		int total = 0;
+		for (int element : values)
+		{
+			total += element;
+		}
+		return total;
+	}
+
+	/**
+	 * Create a dictionary file with random words
+	 * @param args : first argument is the file (default assets/synthetic-words), second argument is
+	 *        the number of words (default 2000000), third argument is the seed (default 1)
+	 */
+	public static void main(String[] args) {
+		String path = args.length > 0 ? args[0] : "assets/synthetic-words";
+		int wordCount = args.length > 1 ? Integer.parseInt(args[1]) : 2000000;
+		long seed = args.length > 2 ? Long.parseLong(args[2]) : 1;
+
+		try
+		{
+			generate(path, wordCount, seed);
+			System.out.println(wordCount + " words written to " + path);
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+	}
+}
@@ -0,0 +1,150 @@
+package predictive;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * This class is used to count the words and the pairs of neighbor words (bigram) of a corpus
+ * and write them into binary bigram table, the table can be opened by BigramModel
+ * The corpus is counted by CorpusCounter, it's read twice, first to find all words (vocabulary) and then to
+ * count the bigrams with the index of the words, so only the counts are stored in the memory, not the corpus
+ * The beginning and the end of a sentence is the sentence boundary, it have index V (after the last word),
+ * so "good home." is counted as 3 bigrams : (boundary, good), (good, home), (home, boundary)
+ *
+ * Format of the table (all int are 4 bytes big endian):
+ * int magic number (MAGIC_NUMBER), int version (VERSION)
+ * int word count (V), int bigram count (B), int length of word bytes, int number of words in the corpus
+ * int[V + 1] offset of every word in word bytes (the last one is the end of the last word)
+ * int[V + 1] count of every word, the last one is the number of sentences (count of sentence boundary)
+ * int[V + 2] index of the first bigram of every word and the sentence boundary (the last one is B)
+ * int[B] index of the next word of every bigram, sorted for every word
+ * int[B] count of every bigram
+ * byte[] word bytes, all words sorted and packed without separator (ASCII 'a' - 'z')
+ * @author Hans Sean Nathanael
+ *
+ */
+public class BigramCompiler {
+
+	// magic number in the beginning of the table, it's "PBIG" in ASCII
+	public static final int MAGIC_NUMBER = 0x50424947;
+
+	// version of the table format, must be changed if the format is changed
+	public static final int VERSION = 1;
+
+	// size of the header (magic number, version, and 4 count) in bytes
+	public static final int HEADER_SIZE = 6 * 4;
+
+	/**
+	 * Method to compile corpus into binary bigram table
+	 * @param corpusPath : directory path to the corpus file (plain text)
+	 * @param tablePath : directory path of the binary bigram table that will be written
+	 * @throws IOException if the corpus can't be read or the table can't be written
+	 */
+	public static void compile(String corpusPath, String tablePath) throws IOException
+	{
+		// the words and the bigrams are counted by reading the corpus twice
+		CorpusCounter corpusCounter = new CorpusCounter(corpusPath, false);
+		String words[] = corpusCounter.getWords();
+		int wordCounts[] = corpusCounter.getWordCounts();
+		int boundaryIndex = corpusCounter.getSentenceBoundary();
+		Map<Long, int[]> mapBigramCounts = corpusCounter.getBigramCounts();
+
+		long bigramKeys[] = new long[mapBigramCounts.size()];
+		int index = 0;
+		for (Long element : mapBigramCounts.keySet())
+		{
+			bigramKeys[index] = element;
+			index += 1;
+		}
+		Arrays.sort(bigramKeys);
+
+		int wordBytesLength = 0;
+		for (String element : words)
+		{
+			wordBytesLength += element.length();
+		}
+
+		DataOutputStream tableWriter = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tablePath)));
+		try
+		{
+			tableWriter.writeInt(MAGIC_NUMBER);
+			tableWriter.writeInt(VERSION);
+			tableWriter.writeInt(words.length);
+			tableWriter.writeInt(bigramKeys.length);
+			tableWriter.writeInt(wordBytesLength);
+			tableWriter.writeInt(corpusCounter.getCorpusWordCount());
+
+			// offset of every word
+			int offset = 0;
+			for (String element : words)
+			{
+				tableWriter.writeInt(offset);
+				offset += element.length();
+			}
+			tableWriter.writeInt(offset);
+
+			// count of every word and the sentence boundary
+			for (int element : wordCounts)
+			{
+				tableWriter.writeInt(element);
+			}
+			tableWriter.writeInt(corpusCounter.getSentenceCount());
+
+			// first bigram of every word and the sentence boundary
+			int bigramIndex = 0;
+			for (int i = 0; i <= boundaryIndex; i++)
+			{
+				tableWriter.writeInt(bigramIndex);
+				while (bigramIndex < bigramKeys.length && (int)(bigramKeys[bigramIndex] >>> 32) == i)
+				{
+					bigramIndex += 1;
+				}
+			}
+			tableWriter.writeInt(bigramKeys.length);
+
+			// next word and count of every bigram
+			for (long element : bigramKeys)
+			{
+				tableWriter.writeInt((int)element);
+			}
+			for (long element : bigramKeys)
+			{
+				tableWriter.writeInt(mapBigramCounts.get(element)[0]);
+			}
+
+			// all characters are ASCII, so writeBytes (1 byte each character) is enough
+			for (String element : words)
+			{
+				tableWriter.writeBytes(element);
+			}
+		}
+		finally
+		{
+			tableWriter.close();
+		}
+	}
+
+	/**
+	 * Compile corpus into binary bigram table
+	 * @param args : first argument is the corpus file (default assets/corpus), second argument is
+	 *        the table file (default assets/corpus.bigram)
+	 */
+	public static void main(String[] args) {
+		String corpusPath = args.length > 0 ? args[0] : "assets/corpus";
+		String tablePath = args.length > 1 ? args[1] : "assets/corpus.bigram";
+
+		try
+		{
+			compile(corpusPath, tablePath);
+			System.out.println(corpusPath + " compiled to " + tablePath);
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+	}
+}
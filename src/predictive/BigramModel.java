@@ -0,0 +1,318 @@
+package predictive;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * This class is used to get the probability of a word after another word from binary bigram table
+ * made by BigramCompiler, the table is memory mapped like DictionaryMappedImpl
+ *
+ * The probability is the probability of the bigram interpolated with the probability of the word
+ * (Jelinek-Mercer smoothing), so a pair of words that never seen in the corpus still have probability :
+ * P(word | previous) = INTERPOLATION_WEIGHT * count(previous, word) / count(previous)
+ *                    + (1 - INTERPOLATION_WEIGHT) * P(word)
+ * P(word) = (count(word) + 1) / (number of words + number of sentences + V + 1)
+ * the +1 (Laplace smoothing) give probability to the word that is not in the corpus
+ * If the table can't be read, the model is empty : every word is UNKNOWN_WORD, every count is 0
+ * (the sentence boundary too) and every word have the same probability
+ * @author Hans Sean Nathanael
+ *
+ */
+public class BigramModel {
+
+	// weight of the bigram probability, the rest is the weight of the word probability
+	private static final double INTERPOLATION_WEIGHT = 0.8;
+
+	// index of the word that is not in the table
+	public static final int UNKNOWN_WORD = -1;
+
+	// the memory mapped table, it's never changed (position and limit) after the constructor
+	// so it's safe to be read by absolute get from many thread
+	private ByteBuffer mappedModel = ByteBuffer.allocate(0);
+
+	// number of words and bigrams in the table
+	private int wordCount = 0;
+	private int bigramCount = 0;
+
+	// total count of the words and the sentence boundary, with the Laplace smoothing
+	private double smoothedTotalCount = 1;
+
+	// false if the table can't be read, the empty model doesn't have the count of the sentence boundary
+	private boolean isLoaded = false;
+
+	// position of every part of the table (see BigramCompiler for the format)
+	private int wordOffsetsPosition = 0;
+	private int wordCountsPosition = 0;
+	private int firstBigramsPosition = 0;
+	private int nextWordsPosition = 0;
+	private int bigramCountsPosition = 0;
+	private int wordBytesPosition = 0;
+
+	/**
+	 * Constructor of this class, the binary bigram table will be memory mapped
+	 * @param tablePath : directory path to binary bigram table made by BigramCompiler
+	 */
+	public BigramModel(String tablePath)
+	{
+		try
+		{
+			RandomAccessFile tableFile = new RandomAccessFile(tablePath, "r");
+			try
+			{
+				// the mapped buffer is still valid after the file is closed
+				FileChannel tableChannel = tableFile.getChannel();
+				MappedByteBuffer mappedTable = tableChannel.map(FileChannel.MapMode.READ_ONLY, 0, tableChannel.size());
+
+				if (mappedTable.capacity() < BigramCompiler.HEADER_SIZE ||
+					mappedTable.getInt(0) != BigramCompiler.MAGIC_NUMBER)
+				{
+					throw new IOException(tablePath + " is not a bigram table");
+				}
+				if (mappedTable.getInt(4) != BigramCompiler.VERSION)
+				{
+					throw new IOException(tablePath + " have version " + mappedTable.getInt(4) +
+										  ", expected version " + BigramCompiler.VERSION);
+				}
+
+				int wordCountOfTable = mappedTable.getInt(8);
+				int bigramCountOfTable = mappedTable.getInt(12);
+				int wordBytesLength = mappedTable.getInt(16);
+				int corpusWordCount = mappedTable.getInt(20);
+
+				// the position of every part, all of them are after the header
+				this.wordOffsetsPosition = BigramCompiler.HEADER_SIZE;
+				this.wordCountsPosition = this.wordOffsetsPosition + (wordCountOfTable + 1) * 4;
+				this.firstBigramsPosition = this.wordCountsPosition + (wordCountOfTable + 1) * 4;
+				this.nextWordsPosition = this.firstBigramsPosition + (wordCountOfTable + 2) * 4;
+				this.bigramCountsPosition = this.nextWordsPosition + bigramCountOfTable * 4;
+				this.wordBytesPosition = this.bigramCountsPosition + bigramCountOfTable * 4;
+
+				if (this.wordBytesPosition + wordBytesLength != mappedTable.capacity())
+				{
+					throw new IOException(tablePath + " is not complete");
+				}
+
+				this.wordCount = wordCountOfTable;
+				this.bigramCount = bigramCountOfTable;
+				this.mappedModel = mappedTable;
+				this.isLoaded = true;
+
+				// number of words, number of sentences, and one for every word, the sentence boundary,
+				// and the unknown word
+				this.smoothedTotalCount = (double)corpusWordCount + this.getCount(this.getSentenceBoundary()) +
+										  wordCountOfTable + 2;
+			}
+			finally
+			{
+				// don't forget to close the file
+				tableFile.close();
+			}
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Method to get how many different words in the table
+	 * @return number of words in the table
+	 */
+	public int getWordCount()
+	{
+		return this.wordCount;
+	}
+
+	/**
+	 * Method to get how many different bigrams in the table
+	 * @return number of bigrams in the table
+	 */
+	public int getBigramCount()
+	{
+		return this.bigramCount;
+	}
+
+	/**
+	 * Method to get the index of the sentence boundary, it's used as the word before the first word
+	 * and the word after the last word of a sentence
+	 * @return index of the sentence boundary
+	 */
+	public int getSentenceBoundary()
+	{
+		return this.wordCount;
+	}
+
+	/**
+	 * Method to find the index of a word using binary search, the words are sorted in the table
+	 * @param word : word in lower case
+	 * @return index of the word, or UNKNOWN_WORD if the word is not in the table
+	 */
+	public int getWordIndex(String word)
+	{
+		int low = 0;
+		int high = this.wordCount - 1;
+
+		while (low <= high)
+		{
+			int middle = (low + high) >>> 1;
+			int comparison = this.compareWord(middle, word);
+
+			if (comparison < 0)
+			{
+				low = middle + 1;
+			}
+			else if (comparison > 0)
+			{
+				high = middle - 1;
+			}
+			else
+			{
+				return middle;
+			}
+		}
+
+		return UNKNOWN_WORD;
+	}
+
+	/**
+	 * Method to get how many times a word is in the corpus
+	 * @param wordIndex : index of the word, or the sentence boundary for the number of sentences
+	 * @return count of the word, 0 for UNKNOWN_WORD (and for every word if the model is empty)
+	 */
+	public int getCount(int wordIndex)
+	{
+		if (this.isLoaded == false || wordIndex < 0 || wordIndex > this.wordCount)
+		{
+			return 0;
+		}
+		return this.mappedModel.getInt(this.wordCountsPosition + wordIndex * 4);
+	}
+
+	/**
+	 * Method to get how many times a word is right after another word in the corpus
+	 * the next words of a word are sorted, so it's found with binary search
+	 * @param previousWordIndex : index of the previous word (or the sentence boundary)
+	 * @param wordIndex : index of the word (or the sentence boundary)
+	 * @return count of the bigram, 0 if one of the word is UNKNOWN_WORD (and for every bigram if the model is empty)
+	 */
+	public int getCount(int previousWordIndex, int wordIndex)
+	{
+		if (this.isLoaded == false || previousWordIndex < 0 || previousWordIndex > this.wordCount || wordIndex < 0)
+		{
+			return 0;
+		}
+
+		int low = this.mappedModel.getInt(this.firstBigramsPosition + previousWordIndex * 4);
+		int high = this.mappedModel.getInt(this.firstBigramsPosition + (previousWordIndex + 1) * 4) - 1;
+		while (low <= high)
+		{
+			int middle = (low + high) >>> 1;
+			int nextWordIndex = this.mappedModel.getInt(this.nextWordsPosition + middle * 4);
+
+			if (nextWordIndex < wordIndex)
+			{
+				low = middle + 1;
+			}
+			else if (nextWordIndex > wordIndex)
+			{
+				high = middle - 1;
+			}
+			else
+			{
+				return this.mappedModel.getInt(this.bigramCountsPosition + middle * 4);
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Method to get the natural logarithm of the probability of a word without the previous word
+	 * @param wordIndex : index of the word, the sentence boundary, or UNKNOWN_WORD
+	 * @return logarithm of the probability (always negative)
+	 */
+	public double getLogProbability(int wordIndex)
+	{
+		return Math.log((this.getCount(wordIndex) + 1) / this.smoothedTotalCount);
+	}
+
+	/**
+	 * Method to get the natural logarithm of the probability of a word right after another word
+	 * the logarithm is used so the probability of a long sentence is the sum and never become 0
+	 * @param previousWordIndex : index of the previous word, the sentence boundary, or UNKNOWN_WORD
+	 * @param wordIndex : index of the word, the sentence boundary, or UNKNOWN_WORD
+	 * @return logarithm of the probability (always negative)
+	 */
+	public double getLogProbability(int previousWordIndex, int wordIndex)
+	{
+		double wordProbability = (this.getCount(wordIndex) + 1) / this.smoothedTotalCount;
+
+		// nothing is known after the unknown word, only the word probability is used
+		int previousCount = this.getCount(previousWordIndex);
+		if (previousCount == 0)
+		{
+			return Math.log(wordProbability);
+		}
+
+		double bigramProbability = (double)this.getCount(previousWordIndex, wordIndex) / previousCount;
+		return Math.log(INTERPOLATION_WEIGHT * bigramProbability + (1 - INTERPOLATION_WEIGHT) * wordProbability);
+	}
+
+	/**
+	 * Method to get the natural logarithm of the probability of a word right after another word
+	 * @param previousWord : the previous word, or null for the beginning of a sentence
+	 * @param word : the word, or null for the end of a sentence
+	 * @return logarithm of the probability (always negative)
+	 */
+	public double getLogProbability(String previousWord, String word)
+	{
+		int previousWordIndex = previousWord == null ? this.getSentenceBoundary() : this.getWordIndex(previousWord);
+		int wordIndex = word == null ? this.getSentenceBoundary() : this.getWordIndex(word);
+		return this.getLogProbability(previousWordIndex, wordIndex);
+	}
+
+	/**
+	 * Method to make String of a word in the table
+	 * @param wordIndex : index of the word
+	 * @return the word
+	 */
+	public String getWord(int wordIndex)
+	{
+		int start = this.mappedModel.getInt(this.wordOffsetsPosition + wordIndex * 4);
+		int end = this.mappedModel.getInt(this.wordOffsetsPosition + (wordIndex + 1) * 4);
+
+		char word[] = new char[end - start];
+		for (int i = 0; i < word.length; i++)
+		{
+			word[i] = (char)this.mappedModel.get(this.wordBytesPosition + start + i);
+		}
+		return new String(word);
+	}
+
+	/**
+	 * Method to compare word in the table with a word, the same as String.compareTo
+	 * but without making String from the table
+	 * @param wordIndex : index of word in the table
+	 * @param word : word to be compared
+	 * @return negative if word in the table is smaller, 0 if equal, positive if bigger
+	 */
+	private int compareWord(int wordIndex, String word)
+	{
+		int start = this.mappedModel.getInt(this.wordOffsetsPosition + wordIndex * 4);
+		int length = this.mappedModel.getInt(this.wordOffsetsPosition + (wordIndex + 1) * 4) - start;
+
+		for (int i = 0; i < length && i < word.length(); i++)
+		{
+			int difference = this.mappedModel.get(this.wordBytesPosition + start + i) - word.charAt(i);
+			if (difference != 0)
+			{
+				return difference;
+			}
+		}
+
+		return length - word.length();
+	}
+}
@@ -0,0 +1,345 @@
+package predictive;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * This class is used to store all words in dictionary using Tree like DictionaryTreeImpl (search by prefix
+ * of the signature), but words can be added and removed while other threads search the tree
+ * The next node is only set by compare and set on an empty slot, so a node is never replaced after it's seen
+ * by other thread, and the words of a node is an array that never changed, adding or removing a word
+ * create a new array and swap it by compare and set, so the search always see the whole old array or the
+ * whole new array (never a half changed set), no lock used at all
+ * @author Hans Sean Nathanael
+ *
+ */
+public class ConcurrentDictionaryTreeImpl implements Dictionary {
+
+	// words of the node that doesn't have any word, shared because the array is never changed
+	private static final String NO_WORDS[] = new String[0];
+
+	// used to swap the words array of a node
+	private static final AtomicReferenceFieldUpdater<TreeNode, String[]> WORDS_UPDATER =
+			AtomicReferenceFieldUpdater.newUpdater(TreeNode.class, String[].class, "words");
+
+	// root of the tree, it represent the empty signature
+	private TreeNode rootOfTree = new TreeNode();
+
+	// keypad layout used to convert the words to signature, never changed after the constructor
+	private final KeypadLayout layout;
+
+	/**
+	 * Constructor of this class, create an empty dictionary tree
+	 */
+	public ConcurrentDictionaryTreeImpl()
+	{
+		this(KeypadLayout.STANDARD);
+	}
+
+	/**
+	 * Constructor of this class, create an empty dictionary tree
+	 * @param layout : keypad layout used to convert the words to signature
+	 */
+	public ConcurrentDictionaryTreeImpl(KeypadLayout layout)
+	{
+		this.layout = layout;
+	}
+
+	/**
+	 * Constructor of this class, create the tree containing all valid words from dictionary file
+	 * @param path : directory path to dictionary file
+	 */
+	public ConcurrentDictionaryTreeImpl(String path)
+	{
+		this(path, KeypadLayout.STANDARD);
+	}
+
+	/**
+	 * Constructor of this class, create the tree containing all valid words from dictionary file
+	 * @param path : directory path to dictionary file
+	 * @param layout : keypad layout used to convert the words to signature
+	 */
+	public ConcurrentDictionaryTreeImpl(String path, KeypadLayout layout)
+	{
+		this.layout = layout;
+
+		// the time of reading, parsing, and inserting is recorded by Java Flight Recorder
+		DictionaryLoadEvent loadEvent = new DictionaryLoadEvent(ConcurrentDictionaryTreeImpl.class, path);
+
+		try
+		{
+			// BufferedReader used because it is faster than Scanner when used to read each line of file
+			BufferedReader fileReader = new BufferedReader(new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8));
+
+			// lineParser change the line to lower case, remove the frequency, and check the word
+			DictionaryLineParser lineParser = new DictionaryLineParser(this.layout);
+
+			String fileOneLine = null;
+			while((fileOneLine = fileReader.readLine()) != null)
+			{
+				loadEvent.endRead();
+
+				if (lineParser.parse(fileOneLine))
+				{
+					loadEvent.endParse();
+					loadEvent.countWord();
+
+					this.addWord(lineParser.getWord());
+					loadEvent.endInsert();
+				}
+				else
+				{
+					loadEvent.endParse();
+				}
+			}
+
+			// Don't forget to close the BufferedReader
+			fileReader.close();
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+
+		loadEvent.finish();
+	}
+
+	/**
+	 * Method to add a word to the dictionary, can be called while other threads add, remove, or search
+	 * @param word : word that will be added (composed and changed to lower case)
+	 * @return true if the word is added, false if the word is not valid (empty or not on the keypad)
+	 *         or already exist
+	 */
+	public boolean addWord(String word)
+	{
+		word = KeypadLayout.composeWord(word).toLowerCase();
+		if (word.length() == 0 || this.layout.isValidWord(word) == false)
+		{
+			return false;
+		}
+
+		// walk to the node of the last signature, the missing node is created
+		TreeNode node = this.rootOfTree;
+		for (int i = 0; i < word.length(); i++)
+		{
+			int signatureIndex = this.layout.signatureOf(word.charAt(i)) - '2';
+			TreeNode nextNode = node.nextNode.get(signatureIndex);
+			if (nextNode == null)
+			{
+				// if other thread already set the node, the node of that thread is used
+				TreeNode newNode = new TreeNode();
+				if (node.nextNode.compareAndSet(signatureIndex, null, newNode))
+				{
+					nextNode = newNode;
+				}
+				else
+				{
+					nextNode = node.nextNode.get(signatureIndex);
+				}
+			}
+			node = nextNode;
+		}
+
+		// copy the words with the new word and swap, try again if other thread swap it first
+		while (true)
+		{
+			String oldWords[] = node.words;
+			if (indexOf(oldWords, word) >= 0)
+			{
+				return false;
+			}
+
+			String newWords[] = Arrays.copyOf(oldWords, oldWords.length + 1);
+			newWords[oldWords.length] = word;
+			if (WORDS_UPDATER.compareAndSet(node, oldWords, newWords))
+			{
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Method to remove a word from the dictionary, can be called while other threads add, remove, or search
+	 * the nodes are never removed (even without any word), so the node seen by the search is never detached
+	 * @param word : word that will be removed (composed and changed to lower case)
+	 * @return true if the word is removed, false if the word doesn't exist
+	 */
+	public boolean removeWord(String word)
+	{
+		word = KeypadLayout.composeWord(word).toLowerCase();
+		if (word.length() == 0 || this.layout.isValidWord(word) == false)
+		{
+			return false;
+		}
+
+		TreeNode node = this.findNode(this.wordToSignature(word));
+		if (node == null)
+		{
+			return false;
+		}
+
+		// copy the words without the removed word and swap, try again if other thread swap it first
+		while (true)
+		{
+			String oldWords[] = node.words;
+			int wordIndex = indexOf(oldWords, word);
+			if (wordIndex < 0)
+			{
+				return false;
+			}
+
+			String newWords[] = NO_WORDS;
+			if (oldWords.length > 1)
+			{
+				// the last word move to the place of the removed word, the order of the words doesn't matter
+				newWords = Arrays.copyOf(oldWords, oldWords.length - 1);
+				if (wordIndex < newWords.length)
+				{
+					newWords[wordIndex] = oldWords[oldWords.length - 1];
+				}
+			}
+			if (WORDS_UPDATER.compareAndSet(node, oldWords, newWords))
+			{
+				return true;
+			}
+		}
+	}
+
+	@Override
+	public String wordToSignature(String word)
+	{
+		// the word must not null to be converted
+		if (word == null)
+		{
+			return word;
+		}
+
+		// the signature have the same length with the word
+		char signature[] = new char[word.length()];
+		return new String(signature, 0, this.layout.wordToSignature(word, signature));
+	}
+
+	@Override
+	public KeypadLayout getLayout()
+	{
+		return this.layout;
+	}
+
+	@Override
+	public Set<String> signatureToWords(String signature)
+	{
+		// HashSet to store all words with the same prefix signature, trimmed to the length of signature
+		Set<String> matchedPossibleWord = new HashSet<String>();
+
+		// the same check with DictionaryTreeImpl, empty signature would be all words trimmed to ""
+		if (signature.length() == 0 || isNumericWord(signature) == false)
+		{
+			return matchedPossibleWord;
+		}
+
+		TreeNode node = this.findNode(signature);
+		if (node == null)
+		{
+			return matchedPossibleWord;
+		}
+
+		// walk all the sub branch, every node is read once so the words array can't change while it's read
+		Deque<TreeNode> nodesToVisit = new ArrayDeque<TreeNode>();
+		nodesToVisit.push(node);
+		while (nodesToVisit.isEmpty() == false)
+		{
+			TreeNode visitedNode = nodesToVisit.pop();
+			for (String element : visitedNode.words)
+			{
+				matchedPossibleWord.add(element.substring(0, signature.length()));
+			}
+
+			for (int i = 0; i < 8; i++)
+			{
+				TreeNode nextNode = visitedNode.nextNode.get(i);
+				if (nextNode != null)
+				{
+					nodesToVisit.push(nextNode);
+				}
+			}
+		}
+
+		return matchedPossibleWord;
+	}
+
+	/**
+	 * Method to walk from the root to the node of a signature without creating any node
+	 * @param signature : signature of the node (all characters must be 2-9)
+	 * @return node of the signature, null if the node doesn't exist
+	 */
+	private TreeNode findNode(String signature)
+	{
+		TreeNode node = this.rootOfTree;
+		for (int i = 0; i < signature.length() && node != null; i++)
+		{
+			node = node.nextNode.get(signature.charAt(i) - '2');
+		}
+		return node;
+	}
+
+	/**
+	 * Method to find a word in the words array of a node
+	 * @param words : words array of a node
+	 * @param word : the word that is searched
+	 * @return index of the word, -1 if the word doesn't exist
+	 */
+	private static int indexOf(String words[], String word)
+	{
+		for (int i = 0; i < words.length; i++)
+		{
+			if (words[i].equals(word))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Method to check if a all string characters are numeric with range from 2 to 9
+	 * @param word : string to be checked
+	 * @return true if string just contain numeric, false if there's one or more non numeric or '1' in string
+	 */
+	private static boolean isNumericWord(String word)
+	{
+		for (int i = 0; i < word.length(); i++)
+		{
+			if (word.charAt(i) < '2' || word.charAt(i) > '9')
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Node of the tree, the next node index 0 is for signature 2 until index 7 for signature 9
+	 * @author Hans Sean Nathanael
+	 *
+	 */
+	private static class TreeNode {
+
+		// next node (child node), the slot is only changed from null to a node by compare and set
+		private final AtomicReferenceArray<TreeNode> nextNode = new AtomicReferenceArray<TreeNode>(8);
+
+		// all words that the signature is the signature of this node, the array is never changed
+		// volatile so the new array swapped by other thread is seen with all of it's words
+		// not private because AtomicReferenceFieldUpdater created by the outer class can't access private field before Java 11
+		volatile String words[] = NO_WORDS;
+	}
+}
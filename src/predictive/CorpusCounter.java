@@ -0,0 +1,214 @@
+package predictive;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class is used to count the words and the neighbor words of a corpus, for BigramCompiler and NextWordIndex
+ * The corpus is read twice by CorpusTokenizer, first to find all words (vocabulary) and then to count
+ * the bigrams (and the trigrams if it's needed) with the index of the words, so only the counts are stored
+ * in the memory, not the corpus
+ * The words are sorted and the index of a word is it's position, the beginning and the end of a sentence is
+ * the sentence boundary, it have index V (after the last word), so "good home." is counted as 3 bigrams :
+ * (boundary, good), (good, home), (home, boundary), and 1 trigram : (boundary, good, home)
+ * @author Hans Sean Nathanael
+ *
+ */
+class CorpusCounter {
+
+	// all words sorted, the index of a word is it's position
+	private String words[];
+
+	// count of every word
+	private int wordCounts[];
+
+	// number of sentences and number of words in the corpus
+	private int sentenceCount = 0;
+	private int corpusWordCount = 0;
+
+	// count of every bigram, the key is the index of both words in one long (previous word << 32 | next word)
+	// so sorting the keys sort the bigrams by the previous word and then by the next word
+	private Map<Long, int[]> mapBigramCounts = new HashMap<Long, int[]>();
+
+	// count of every next word for every pair of words (first word << 32 | second word), null if not counted
+	private Map<Long, Map<Integer, int[]>> mapTrigramCounts = null;
+
+	/**
+	 * Constructor of this class, the corpus is counted when it's created
+	 * @param corpusPath : directory path to the corpus file (plain text)
+	 * @param isTrigramCounted : true if the trigrams are counted too
+	 * @throws IOException if the corpus can't be read
+	 */
+	CorpusCounter(String corpusPath, boolean isTrigramCounted) throws IOException
+	{
+		// first read, count every word to find all words
+		Map<String, int[]> mapWordCounts = new HashMap<String, int[]>();
+		CorpusTokenizer corpusTokenizer = new CorpusTokenizer(corpusPath);
+		try
+		{
+			List<String> sentence = null;
+			while ((sentence = corpusTokenizer.nextSentence()) != null)
+			{
+				for (String element : sentence)
+				{
+					int wordCount[] = mapWordCounts.get(element);
+					if (wordCount == null)
+					{
+						wordCount = new int[1];
+						mapWordCounts.put(element, wordCount);
+					}
+					wordCount[0] += 1;
+				}
+				this.sentenceCount += 1;
+				this.corpusWordCount += sentence.size();
+			}
+		}
+		finally
+		{
+			corpusTokenizer.close();
+		}
+
+		this.words = mapWordCounts.keySet().toArray(new String[mapWordCounts.size()]);
+		Arrays.sort(this.words);
+		Map<String, Integer> mapWordIndex = new HashMap<String, Integer>();
+		this.wordCounts = new int[this.words.length];
+		for (int i = 0; i < this.words.length; i++)
+		{
+			mapWordIndex.put(this.words[i], i);
+			this.wordCounts[i] = mapWordCounts.get(this.words[i])[0];
+		}
+		int boundaryIndex = this.words.length;
+
+		// second read, count every bigram and trigram with the index of the words
+		if (isTrigramCounted)
+		{
+			this.mapTrigramCounts = new HashMap<Long, Map<Integer, int[]>>();
+		}
+		corpusTokenizer = new CorpusTokenizer(corpusPath);
+		try
+		{
+			List<String> sentence = null;
+			while ((sentence = corpusTokenizer.nextSentence()) != null)
+			{
+				int firstIndex = boundaryIndex;
+				int secondIndex = boundaryIndex;
+				for (int i = 0; i <= sentence.size(); i++)
+				{
+					int wordIndex = i < sentence.size() ? mapWordIndex.get(sentence.get(i)) : boundaryIndex;
+					countOnce(this.mapBigramCounts, ((long)secondIndex << 32) | wordIndex);
+
+					// the first word only have the sentence boundary before it, and the trigram
+					// only end with a word
+					if (this.mapTrigramCounts != null && i > 0 && i < sentence.size())
+					{
+						Long contextKey = ((long)firstIndex << 32) | secondIndex;
+						Map<Integer, int[]> mapNextWordCounts = this.mapTrigramCounts.get(contextKey);
+						if (mapNextWordCounts == null)
+						{
+							mapNextWordCounts = new HashMap<Integer, int[]>();
+							this.mapTrigramCounts.put(contextKey, mapNextWordCounts);
+						}
+						int nextWordCount[] = mapNextWordCounts.get(wordIndex);
+						if (nextWordCount == null)
+						{
+							nextWordCount = new int[1];
+							mapNextWordCounts.put(wordIndex, nextWordCount);
+						}
+						nextWordCount[0] += 1;
+					}
+
+					firstIndex = secondIndex;
+					secondIndex = wordIndex;
+				}
+			}
+		}
+		finally
+		{
+			corpusTokenizer.close();
+		}
+	}
+
+	/**
+	 * Method to add one to the count of a key
+	 * @param mapCounts : count of every key
+	 * @param key : the key that is counted
+	 */
+	private static void countOnce(Map<Long, int[]> mapCounts, Long key)
+	{
+		int count[] = mapCounts.get(key);
+		if (count == null)
+		{
+			count = new int[1];
+			mapCounts.put(key, count);
+		}
+		count[0] += 1;
+	}
+
+	/**
+	 * Method to get all words of the corpus
+	 * @return all words sorted, the index is the index of the word
+	 */
+	String[] getWords()
+	{
+		return this.words;
+	}
+
+	/**
+	 * Method to get the count of every word
+	 * @return count of every word, the index is the index of the word
+	 */
+	int[] getWordCounts()
+	{
+		return this.wordCounts;
+	}
+
+	/**
+	 * Method to get the index of the sentence boundary
+	 * @return index of the sentence boundary (the number of words)
+	 */
+	int getSentenceBoundary()
+	{
+		return this.words.length;
+	}
+
+	/**
+	 * Method to get the number of sentences in the corpus
+	 * @return number of sentences
+	 */
+	int getSentenceCount()
+	{
+		return this.sentenceCount;
+	}
+
+	/**
+	 * Method to get the number of words in the corpus
+	 * @return number of words (every time the word is in the corpus)
+	 */
+	int getCorpusWordCount()
+	{
+		return this.corpusWordCount;
+	}
+
+	/**
+	 * Method to get the count of every bigram, with the sentence boundary before the first word
+	 * and after the last word of every sentence
+	 * @return count of every bigram (previous word << 32 | next word)
+	 */
+	Map<Long, int[]> getBigramCounts()
+	{
+		return this.mapBigramCounts;
+	}
+
+	/**
+	 * Method to get the count of every trigram
+	 * @return count of every next word for every pair of words (first word << 32 | second word),
+	 *         null if the trigrams are not counted
+	 */
+	Map<Long, Map<Integer, int[]>> getTrigramCounts()
+	{
+		return this.mapTrigramCounts;
+	}
+}
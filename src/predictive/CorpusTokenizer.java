@@ -0,0 +1,163 @@
+package predictive;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class is used to split text of a corpus into sentences of words, the words can be typed
+ * with the keypad (lower case alphabet only), so they can be counted for the language model
+ * A token is the characters between whitespace, the punctuation in the beginning and the end of the
+ * token is removed ("(hello," become "hello"), and the token that still contain non alphabet
+ * ("don't", "42", "e-mail") is skipped, so the word before and after it become neighbor
+ * A sentence is ended by a token that end with '.', '!', or '?', by an empty line, or by the end of the text
+ * @author Hans Sean Nathanael
+ *
+ */
+public class CorpusTokenizer implements Closeable {
+
+	// the text of the corpus
+	private BufferedReader corpusReader;
+
+	// the character that is read but not used yet (the first character after an empty line),
+	// -2 if there is no character
+	private int unusedCharacter = -2;
+
+	// the token that is being read, reused for every token
+	private StringBuilder token = new StringBuilder();
+
+	/**
+	 * Constructor of this class to read a corpus file
+	 * @param corpusPath : directory path to the corpus file (plain text)
+	 * @throws IOException if the corpus file can't be opened
+	 */
+	public CorpusTokenizer(String corpusPath) throws IOException
+	{
+		this(new FileReader(corpusPath));
+	}
+
+	/**
+	 * Constructor of this class to read a corpus text
+	 * @param corpusReader : reader of the text, closed by close()
+	 */
+	public CorpusTokenizer(Reader corpusReader)
+	{
+		this.corpusReader = new BufferedReader(corpusReader);
+	}
+
+	/**
+	 * Method to read the next sentence
+	 * @return the words of the sentence in lower case (never empty), or null if the end of the text is reached
+	 * @throws IOException if the text can't be read
+	 */
+	public List<String> nextSentence() throws IOException
+	{
+		List<String> sentence = new ArrayList<String>();
+
+		int character = this.read();
+		while (character != -1)
+		{
+			// skip the whitespace and count the line break to find empty line
+			int lineBreakCount = 0;
+			while (character != -1 && Character.isWhitespace(character))
+			{
+				if (character == '\n')
+				{
+					lineBreakCount += 1;
+				}
+				character = this.read();
+			}
+
+			// empty line end the sentence, the character after it is read again by the next call
+			if (lineBreakCount >= 2 && sentence.size() > 0)
+			{
+				this.unusedCharacter = character;
+				return sentence;
+			}
+
+			this.token.setLength(0);
+			while (character != -1 && Character.isWhitespace(character) == false)
+			{
+				this.token.append((char)character);
+				character = this.read();
+			}
+
+			if (this.addToken(sentence) && sentence.size() > 0)
+			{
+				this.unusedCharacter = character;
+				return sentence;
+			}
+		}
+
+		// the last sentence doesn't need to be ended
+		return sentence.size() > 0 ? sentence : null;
+	}
+
+	/**
+	 * Method to read one character, the unused character is read first
+	 * @return the character, or -1 if the end of the text is reached
+	 * @throws IOException if the text can't be read
+	 */
+	private int read() throws IOException
+	{
+		if (this.unusedCharacter != -2)
+		{
+			int character = this.unusedCharacter;
+			this.unusedCharacter = -2;
+			return character;
+		}
+		return this.corpusReader.read();
+	}
+
+	/**
+	 * Method to add the token to the sentence if it's a word
+	 * @param sentence : the sentence that is being read
+	 * @return true if the token end the sentence
+	 */
+	private boolean addToken(List<String> sentence)
+	{
+		// remove the punctuation in the beginning and the end of the token
+		int start = 0;
+		int end = this.token.length();
+		while (start < end && Character.isLetterOrDigit(this.token.charAt(start)) == false)
+		{
+			start += 1;
+		}
+
+		boolean isSentenceEnd = false;
+		while (end > start && Character.isLetterOrDigit(this.token.charAt(end - 1)) == false)
+		{
+			char punctuation = this.token.charAt(end - 1);
+			if (punctuation == '.' || punctuation == '!' || punctuation == '?')
+			{
+				isSentenceEnd = true;
+			}
+			end -= 1;
+		}
+
+		// the word is only added if all the characters are alphabet
+		for (int i = start; i < end; i++)
+		{
+			char character = this.token.charAt(i);
+			if ((character < 'a' || character > 'z') && (character < 'A' || character > 'Z'))
+			{
+				return isSentenceEnd;
+			}
+		}
+		if (end > start)
+		{
+			sentence.add(this.token.substring(start, end).toLowerCase());
+		}
+		return isSentenceEnd;
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		this.corpusReader.close();
+	}
+}
@@ -1,6 +1,15 @@
 package predictive;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
@@ -23,4 +32,54 @@ public interface Dictionary {
 	 * @return set of words that have the same signature
 	 */
 	Set<String> signatureToWords(String signature);
+	
+	/**
+	 * Method to get the keypad layout used to convert the words of the dictionary to signature
+	 * @return the keypad layout (the default is KeypadLayout.STANDARD)
+	 */
+	default KeypadLayout getLayout()
+	{
+		return KeypadLayout.STANDARD;
+	}
+	
+	/**
+	 * Method to get all words in dictionary for many signatures at once
+	 * the implementation could share the search of signatures with the same prefix or search in parallel
+	 * (the default implementation just call signatureToWords for every signature)
+	 * @param signatures : signatures of the words that will be retrieve
+	 * @return list of set of words, the set at index i is the words of the signature i in the iteration order of signatures
+	 */
+	default List<Set<String>> signaturesToWords(Collection<String> signatures)
+	{
+		List<Set<String>> listWords = new ArrayList<Set<String>>(signatures.size());
+		for (String element : signatures)
+		{
+			listWords.add(this.signatureToWords(element));
+		}
+		return listWords;
+	}
+	
+	/**
+	 * Method to get all words in dictionary with a certain signature one word at a time
+	 * the implementation could find the next word only when it's needed, so the words that never
+	 * taken are never searched (the default implementation just iterate signatureToWords)
+	 * @param signature : signature of the words that will be retrieve
+	 * @return iterator of the same words as signatureToWords (without the same word), can't remove the word
+	 */
+	default Iterator<String> signatureToWordsIterator(String signature)
+	{
+		return Collections.unmodifiableSet(this.signatureToWords(signature)).iterator();
+	}
+	
+	/**
+	 * Method to get all words in dictionary with a certain signature as a sequential stream
+	 * the stream take the word from signatureToWordsIterator, so limit() or findFirst() stop the search
+	 * @param signature : signature of the words that will be retrieve
+	 * @return stream of the same words as signatureToWords
+	 */
+	default Stream<String> signatureToWordsStream(String signature)
+	{
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this.signatureToWordsIterator(signature),
+						Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.ORDERED), false);
+	}
 }
@@ -0,0 +1,843 @@
+package predictive;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * This class is used to store all words in dictionary using the same Tree (Trie) as DictionaryTreeImpl
+ * but the nodes are not objects, every node is just an index to a few primitive int arrays
+ * Tree's node have 8 child for representing signature range (2-9)
+ * Could do search up of words by prefix of it's signature
+ * Every line of dictionary file could have the frequency of the word after the word (separated by
+ * space or tab), the frequency is used by topK to find the most frequent words first
+ * @author Hans Sean Nathanael
+ *
+ */
+public class DictionaryArrayTreeImpl implements Dictionary {
+
+	// node 0 is always the root of the tree, so 0 can be used in childNodes to tell
+	// that the child doesn't exist (root is never a child of other node)
+	private static final int ROOT_NODE = 0;
+
+	// the distinct trimmed words of the signatures until this length are ranked when the tree is created,
+	// the sub branch of a short signature is big and most of its words are the same after trimmed,
+	// so topK can't stop early for them (it would take all the words of the sub branch)
+	// it must not be more than 3, the prefix of this length is packed into a long by packPrefix
+	private static final int RANKED_DEPTH = 3;
+
+	// kind of candidate in the priority queue of topK, word is before node if the frequency is the same
+	private static final int WORD_CANDIDATE = 0;
+	private static final int NODE_CANDIDATE = 1;
+
+	// order of candidate in the priority queue of topK, the candidate is {frequency, kind, index, end of words}
+	// the highest frequency first, then word before node, then the smallest index
+	// (this is only the order of the search, the words with the same frequency are sorted by the word by topK)
+	private static final Comparator<int[]> CANDIDATE_ORDER = new Comparator<int[]>() {
+
+		@Override
+		public int compare(int[] first, int[] second)
+		{
+			if (first[0] != second[0])
+			{
+				return first[0] > second[0] ? -1 : 1;
+			}
+			if (first[1] != second[1])
+			{
+				return first[1] - second[1];
+			}
+			return first[2] - second[2];
+		}
+	};
+
+	// all words in dictionary sorted by it's signature (and then by the frequency, the highest first)
+	// because sorted by signature, all words in a sub branch of the tree is in one range of this array
+	// and the words that end exactly in a node are the first words of that range
+	// (shorter signature is smaller than longer signature with the same prefix)
+	// the words are stored in one byte array, the String is only created when the word is returned
+	private WordArena dictionaryWords = new WordArena(Collections.<String>emptyList());
+
+	// frequency of every word in dictionaryWords with the same index
+	private int wordFrequency[] = new int[0];
+
+	// child of every node, the children of node n are in index n * 8 until n * 8 + 7
+	// index n * 8 is for signature 2, n * 8 + 1 for signature 3, and so on until n * 8 + 7 for signature 9
+	private int childNodes[] = new int[8];
+
+	// index in dictionaryWords of the first word in the sub branch of the node
+	private int firstWordOfNode[] = new int[1];
+
+	// how many words that end exactly in the node (the signature of the word is the path to the node)
+	private int wordCountOfNode[] = new int[1];
+
+	// index in dictionaryWords after the last word in the sub branch of the node (exclusive)
+	private int lastWordOfNode[] = new int[1];
+
+	// the highest frequency of all words in the sub branch of the node
+	// no word in the sub branch is more frequent than this, so topK could skip the node
+	private int maxFrequencyOfNode[] = new int[1];
+
+	// the nodes of the signatures until RANKED_DEPTH long, sorted, so the ranked words of a node
+	// are found by binary search
+	private int rankedNodes[] = new int[0];
+
+	// index in rankedWords of the first ranked word of every node in rankedNodes (the last one is the end)
+	private int firstRankedWordOfNode[] = new int[1];
+
+	// index in dictionaryWords of one word for every distinct trimmed word of the ranked nodes, the word
+	// is trimmed to the length of signature of the node, the most frequent first (the frequency of a trimmed
+	// word is the highest frequency of all words that trimmed to it), the same frequency ordered by the word
+	private int rankedWords[] = new int[0];
+
+	// how many node already used in the arrays
+	private int nodeCount = 1;
+
+	// keypad layout used to convert the words to signature
+	private KeypadLayout layout = KeypadLayout.STANDARD;
+
+	/**
+	 * Constructor of the dictionary tree, this will create the full tree containing
+	 * all valid words from dictionary file
+	 * @param path : directory path to dictionary file
+	 */
+	public DictionaryArrayTreeImpl(String path)
+	{
+		this(path, KeypadLayout.STANDARD);
+	}
+
+	/**
+	 * Constructor of the dictionary tree, this will create the full tree containing
+	 * all valid words from dictionary file
+	 * @param path : directory path to dictionary file
+	 * @param layout : keypad layout used to convert the words to signature
+	 */
+	public DictionaryArrayTreeImpl(String path, KeypadLayout layout)
+	{
+		this.layout = layout;
+
+		// all valid words from dictionary file paired with it's signature
+		List<WordSig> listDictionaryWords = new ArrayList<WordSig>();
+
+		// the time of reading, parsing, and inserting (sort and build the arrays) is recorded by Java Flight Recorder
+		DictionaryLoadEvent loadEvent = new DictionaryLoadEvent(DictionaryArrayTreeImpl.class, path);
+
+		try
+		{
+			// fileReader is used to read all line of dictionary file
+			// BufferedReader used because it is faster than Scanner when used to
+			// read each line of file
+			BufferedReader fileReader = new BufferedReader(new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8));
+
+			// string that used to store word that have been read from file
+			String fileOneLine = null;
+
+			// lineParser change the line to lower case, take the frequency after the word, and check the word
+			DictionaryLineParser lineParser = new DictionaryLineParser(this.layout);
+
+			while((fileOneLine = fileReader.readLine()) != null)
+			{
+				loadEvent.endRead();
+
+				// words that contain character that is not on the keypad can't be retrieved, so no need to be stored
+				if (lineParser.parse(fileOneLine))
+				{
+					listDictionaryWords.add(new WordSig(lineParser.getSignature(), lineParser.getWord(), lineParser.getFrequency()));
+					loadEvent.countWord();
+				}
+				loadEvent.endParse();
+			}
+
+			// Don't forget to close the BufferedReader
+			fileReader.close();
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+
+		// sorted by signature so every sub branch of the tree is one range of dictionaryWords
+		// and then by the word so the same word could be removed (the tree store the words in a set)
+		Collections.sort(listDictionaryWords, new Comparator<WordSig>() {
+
+			@Override
+			public int compare(WordSig first, WordSig second)
+			{
+				int comparison = first.compareTo(second);
+				if (comparison == 0)
+				{
+					comparison = first.getWord().compareTo(second.getWord());
+				}
+				return comparison;
+			}
+		});
+
+		this.buildTree(listDictionaryWords);
+		loadEvent.endInsert();
+		loadEvent.finish();
+	}
+
+	/**
+	 * Method to build all the tree arrays in one pass from the sorted words
+	 * @param listDictionaryWords : all words with it's signature, sorted by signature and then by word
+	 */
+	private void buildTree(List<WordSig> listDictionaryWords)
+	{
+		// remove the same word, the highest frequency of the same word is kept
+		List<WordSig> uniqueWords = new ArrayList<WordSig>(listDictionaryWords.size());
+		for (WordSig element : listDictionaryWords)
+		{
+			if (uniqueWords.size() > 0 && uniqueWords.get(uniqueWords.size() - 1).getWord().equals(element.getWord()))
+			{
+				if (uniqueWords.get(uniqueWords.size() - 1).getFrequency() < element.getFrequency())
+				{
+					uniqueWords.set(uniqueWords.size() - 1, element);
+				}
+				continue;
+			}
+			uniqueWords.add(element);
+		}
+
+		// words with the same signature sorted by frequency (the highest first), so the first word
+		// of a node is the most frequent word of that node (the sort is stable, so the same frequency
+		// is still sorted by the word)
+		Comparator<WordSig> frequencyOrder = new Comparator<WordSig>() {
+
+			@Override
+			public int compare(WordSig first, WordSig second)
+			{
+				return Integer.compare(second.getFrequency(), first.getFrequency());
+			}
+		};
+
+		int firstWordOfSignature = 0;
+		for (int i = 1; i <= uniqueWords.size(); i++)
+		{
+			if (i == uniqueWords.size() ||
+				uniqueWords.get(i).compareTo(uniqueWords.get(firstWordOfSignature)) != 0)
+			{
+				Collections.sort(uniqueWords.subList(firstWordOfSignature, i), frequencyOrder);
+				firstWordOfSignature = i;
+			}
+		}
+
+		List<String> listWords = new ArrayList<String>(uniqueWords.size());
+		for (WordSig element : uniqueWords)
+		{
+			listWords.add(element.getWord());
+		}
+		this.dictionaryWords = new WordArena(listWords);
+		this.wordFrequency = new int[uniqueWords.size()];
+
+		for (int wordIndex = 0; wordIndex < uniqueWords.size(); wordIndex++)
+		{
+			WordSig element = uniqueWords.get(wordIndex);
+			this.wordFrequency[wordIndex] = element.getFrequency();
+
+			// walk from the root to the node of the signature, create the node if not exist yet
+			// the node created by this word means this word is the first word in that sub branch
+			// because the words are sorted
+			String signature = element.getSignature();
+			int node = ROOT_NODE;
+			for (int i = 0; i < signature.length(); i++)
+			{
+				int childIndex = node * 8 + (signature.charAt(i) - '2');
+				if (this.childNodes[childIndex] == ROOT_NODE)
+				{
+					// createNode must be called before taking this.childNodes, because
+					// createNode could change this.childNodes to a bigger array
+					int newNode = this.createNode(wordIndex);
+					this.childNodes[childIndex] = newNode;
+				}
+				node = this.childNodes[childIndex];
+
+				// this word is the last word (until now) in every node on the path
+				this.lastWordOfNode[node] = wordIndex + 1;
+				this.maxFrequencyOfNode[node] = Math.max(this.maxFrequencyOfNode[node], element.getFrequency());
+			}
+			this.wordCountOfNode[node] += 1;
+		}
+
+
+		// remove the unused space of the arrays
+		this.childNodes = Arrays.copyOf(this.childNodes, this.nodeCount * 8);
+		this.firstWordOfNode = Arrays.copyOf(this.firstWordOfNode, this.nodeCount);
+		this.wordCountOfNode = Arrays.copyOf(this.wordCountOfNode, this.nodeCount);
+		this.lastWordOfNode = Arrays.copyOf(this.lastWordOfNode, this.nodeCount);
+		this.maxFrequencyOfNode = Arrays.copyOf(this.maxFrequencyOfNode, this.nodeCount);
+
+		this.rankTrimmedWords(listWords);
+	}
+
+	/**
+	 * Method to rank the distinct trimmed words of every node until RANKED_DEPTH
+	 * the words are grouped by their prefix until RANKED_DEPTH long (packPrefix) in a hash table, then the packed
+	 * prefixes are sorted in lexicographic order, so the prefixes that have the same beginning are next to each
+	 * other (one trimmed word of the node of its signature for every length of the beginning)
+	 * @param listWords : all words with the same index as dictionaryWords
+	 */
+	private void rankTrimmedWords(List<String> listWords)
+	{
+		// the prefixes are collected in a hash table (open addressing) with one word of the prefix and the highest
+		// frequency of the words with the prefix, the table have at least twice the slots of the words so it's
+		// never full, and 0 is the empty slot because every word have at least one character
+		int tableSize = Integer.highestOneBit(Math.max(listWords.size(), 1)) * 4;
+		long tablePrefixes[] = new long[tableSize];
+		int tableWords[] = new int[tableSize];
+		int tableFrequencies[] = new int[tableSize];
+		int prefixCount = 0;
+		for (int i = 0; i < listWords.size(); i++)
+		{
+			long packedPrefix = packPrefix(listWords.get(i));
+			int slot = findSlot(tablePrefixes, packedPrefix);
+			if (tablePrefixes[slot] == 0)
+			{
+				tablePrefixes[slot] = packedPrefix;
+				tableWords[slot] = i;
+				tableFrequencies[slot] = this.wordFrequency[i];
+				prefixCount += 1;
+			}
+			else if (tableFrequencies[slot] < this.wordFrequency[i])
+			{
+				tableWords[slot] = i;
+				tableFrequencies[slot] = this.wordFrequency[i];
+			}
+		}
+
+		// the packed prefixes sorted in lexicographic order
+		long packedPrefixes[] = new long[prefixCount];
+		int index = 0;
+		for (long element : tablePrefixes)
+		{
+			if (element != 0)
+			{
+				packedPrefixes[index] = element;
+				index += 1;
+			}
+		}
+		Arrays.sort(packedPrefixes);
+
+		// trimmed word is {node, index of one word with the prefix, highest frequency of the prefix}
+		// the trimmed words of a node are added in lexicographic order
+		List<int[]> trimmedWords = new ArrayList<int[]>();
+
+		// the trimmed word of every length (index 1 until RANKED_DEPTH) of the previous prefix
+		int lastTrimmedWords[][] = new int[RANKED_DEPTH + 1][];
+
+		long previousPrefix = 0;
+		for (long element : packedPrefixes)
+		{
+			int slot = findSlot(tablePrefixes, element);
+			boolean isSameBeginning = true;
+			int node = ROOT_NODE;
+			for (int i = 1; i <= RANKED_DEPTH; i++)
+			{
+				int shift = 16 * (RANKED_DEPTH - i);
+				char character = (char)(element >>> shift);
+				if (character == 0)
+				{
+					break;
+				}
+
+				// the beginning that is the same as the previous prefix is the same trimmed word
+				isSameBeginning = isSameBeginning && character == (char)(previousPrefix >>> shift);
+				node = this.childNodes[node * 8 + (this.layout.signatureOf(character) - '2')];
+				if (isSameBeginning)
+				{
+					lastTrimmedWords[i][2] = Math.max(lastTrimmedWords[i][2], tableFrequencies[slot]);
+				}
+				else
+				{
+					lastTrimmedWords[i] = new int[] {node, tableWords[slot], tableFrequencies[slot]};
+					trimmedWords.add(lastTrimmedWords[i]);
+				}
+			}
+			previousPrefix = element;
+		}
+
+		// sorted by the node and then by the frequency (the highest first), the sort is stable
+		// so the same frequency is still in lexicographic order
+		Collections.sort(trimmedWords, new Comparator<int[]>() {
+
+			@Override
+			public int compare(int[] first, int[] second)
+			{
+				if (first[0] != second[0])
+				{
+					return Integer.compare(first[0], second[0]);
+				}
+				return Integer.compare(second[2], first[2]);
+			}
+		});
+
+		int nodeOfTrimmedWords = 0;
+		int rankedNodeList[] = new int[trimmedWords.size()];
+		int firstRankedWordList[] = new int[trimmedWords.size() + 1];
+		this.rankedWords = new int[trimmedWords.size()];
+		for (int i = 0; i < trimmedWords.size(); i++)
+		{
+			int trimmedWord[] = trimmedWords.get(i);
+			if (i == 0 || trimmedWord[0] != rankedNodeList[nodeOfTrimmedWords - 1])
+			{
+				rankedNodeList[nodeOfTrimmedWords] = trimmedWord[0];
+				firstRankedWordList[nodeOfTrimmedWords] = i;
+				nodeOfTrimmedWords += 1;
+			}
+			this.rankedWords[i] = trimmedWord[1];
+		}
+		firstRankedWordList[nodeOfTrimmedWords] = trimmedWords.size();
+
+		this.rankedNodes = Arrays.copyOf(rankedNodeList, nodeOfTrimmedWords);
+		this.firstRankedWordOfNode = Arrays.copyOf(firstRankedWordList, nodeOfTrimmedWords + 1);
+	}
+
+	/**
+	 * Method to pack the prefix of a word until RANKED_DEPTH long into a long, 16 bit for every character
+	 * and 0 after the end of a shorter word, so the order of the packed prefixes is the lexicographic order
+	 * @param word : the word
+	 * @return the packed prefix
+	 */
+	private static long packPrefix(String word)
+	{
+		long packedPrefix = 0;
+		for (int i = 0; i < RANKED_DEPTH; i++)
+		{
+			packedPrefix = (packedPrefix << 16) | (i < word.length() ? word.charAt(i) : 0);
+		}
+		return packedPrefix;
+	}
+
+	/**
+	 * Method to find the slot of a packed prefix in the hash table of rankTrimmedWords
+	 * @param tablePrefixes : packed prefix of every slot, 0 for the empty slot (the size is a power of two)
+	 * @param packedPrefix : the packed prefix
+	 * @return index of the slot that have the packed prefix, or the empty slot where it can be added
+	 */
+	private static int findSlot(long tablePrefixes[], long packedPrefix)
+	{
+		// the characters are mixed so the prefixes with the same last character are spread on the table
+		int slot = (int)((packedPrefix * 0x9E3779B97F4A7C15L) >>> 32) & (tablePrefixes.length - 1);
+		while (tablePrefixes[slot] != 0 && tablePrefixes[slot] != packedPrefix)
+		{
+			slot = (slot + 1) & (tablePrefixes.length - 1);
+		}
+		return slot;
+	}
+
+	/**
+	 * Method to add new node to the arrays, the arrays will be doubled if already full
+	 * @param firstWord : index of first word in the sub branch of the new node
+	 * @return index of the new node
+	 */
+	private int createNode(int firstWord)
+	{
+		if (this.nodeCount == this.firstWordOfNode.length)
+		{
+			int newCapacity = this.nodeCount * 2;
+			this.childNodes = Arrays.copyOf(this.childNodes, newCapacity * 8);
+			this.firstWordOfNode = Arrays.copyOf(this.firstWordOfNode, newCapacity);
+			this.wordCountOfNode = Arrays.copyOf(this.wordCountOfNode, newCapacity);
+			this.lastWordOfNode = Arrays.copyOf(this.lastWordOfNode, newCapacity);
+			this.maxFrequencyOfNode = Arrays.copyOf(this.maxFrequencyOfNode, newCapacity);
+		}
+
+		this.firstWordOfNode[this.nodeCount] = firstWord;
+		this.lastWordOfNode[this.nodeCount] = firstWord + 1;
+		this.nodeCount += 1;
+
+		return this.nodeCount - 1;
+	}
+
+	/**
+	 * Method to find the node that represent a signature
+	 * @param signature : signature (all characters must in range 2-9) that represent path to the node
+	 * @return index of node, or -1 if the node doesn't exist
+	 */
+	private int findNode(String signature)
+	{
+		int node = ROOT_NODE;
+		for (int i = 0; i < signature.length(); i++)
+		{
+			node = this.childNodes[node * 8 + (signature.charAt(i) - '2')];
+			if (node == ROOT_NODE)
+			{
+				return -1;
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * Method to get how many node in the tree (including root)
+	 * @return number of node in the tree
+	 */
+	public int getNodeCount()
+	{
+		return this.nodeCount;
+	}
+
+	@Override
+	public String wordToSignature(String word)
+	{
+		// Convert a string of word to a signature (number)
+		// "Hello" become "43556" not "4433555555666"
+		// the characters are converted by the keypad layout to a char array, so the only new object
+		// is the char array and the String of signature (no StringBuffer and no lower case copy of the word)
+
+		// the word must not null to be converted
+		if (word == null)
+		{
+			return word;
+		}
+
+		// the signature have the same length with the word
+		char signature[] = new char[word.length()];
+		return new String(signature, 0, this.layout.wordToSignature(word, signature));
+	}
+
+	@Override
+	public KeypadLayout getLayout()
+	{
+		return this.layout;
+	}
+
+	@Override
+	public Set<String> signatureToWords(String signature)
+	{
+		// Set to store all words with the same prefix, trimmed to the length of signature
+		Set<String> allWordsWithSamePrefix = new HashSet<String>();
+
+		// empty signature and signature with character outside 2-9 doesn't represent any word
+		if (signature.length() > 0 && isNumericWord(signature))
+		{
+			int node = this.findNode(signature);
+			if (node != -1)
+			{
+				// all words in sub branch of the node have the same prefix signature
+				for (int i = this.firstWordOfNode[node]; i < this.lastWordOfNode[node]; i++)
+				{
+					allWordsWithSamePrefix.add(this.dictionaryWords.getWord(i, signature.length()));
+				}
+			}
+		}
+
+		return allWordsWithSamePrefix;
+	}
+
+	/**
+	 * Method to get the k most frequent words with a certain prefix signature, the words are trimmed
+	 * to the length of signature like signatureToWords (the frequency of a trimmed word is the highest
+	 * frequency of all words that trimmed to it)
+	 * The nodes and words are taken from priority queue by the frequency, a node is only opened when no
+	 * word found is more frequent than the most frequent word of the node, so the node with less frequent
+	 * words is never opened if k words already found
+	 * The words with the same frequency are collected until all of them are found (the next candidate is
+	 * less frequent) and sorted by the trimmed word, so the words without frequency are in lexicographic order
+	 * The signature until RANKED_DEPTH long already have its trimmed words ranked, so it's only taking the
+	 * first k words (the short signature can have less than k distinct trimmed words, then the search
+	 * would take all the words of its big sub branch)
+	 * @param signature : prefix signature of the words
+	 * @param k : maximum number of words
+	 * @return list of at most k words, the most frequent first (the same frequency ordered by the word)
+	 */
+	public List<String> topK(String signature, int k)
+	{
+		// empty signature and signature with character outside 2-9 doesn't represent any word
+		if (k <= 0 || signature.length() == 0 || isNumericWord(signature) == false)
+		{
+			return new ArrayList<String>();
+		}
+
+		return this.topK(this.findNode(signature), signature.length(), k);
+	}
+
+	/**
+	 * Method to get the k most frequent words in the sub branch of a node (used by topK and the cursor)
+	 * @param node : index of the node, or -1 if the signature doesn't exist
+	 * @param length : length of signature of the node, the words are trimmed to this length
+	 * @param k : maximum number of words
+	 * @return list of at most k words, the most frequent first (the same frequency ordered by the word)
+	 */
+	private List<String> topK(int node, int length, int k)
+	{
+		List<String> mostFrequentWords = new ArrayList<String>();
+		if (node == -1 || k <= 0)
+		{
+			return mostFrequentWords;
+		}
+
+		int rankedNodeIndex = Arrays.binarySearch(this.rankedNodes, node);
+		if (rankedNodeIndex >= 0)
+		{
+			int firstRankedWord = this.firstRankedWordOfNode[rankedNodeIndex];
+			int lastRankedWord = Math.min(this.firstRankedWordOfNode[rankedNodeIndex + 1], firstRankedWord + k);
+			for (int i = firstRankedWord; i < lastRankedWord; i++)
+			{
+				mostFrequentWords.add(this.dictionaryWords.getWord(this.rankedWords[i], length));
+			}
+			return mostFrequentWords;
+		}
+
+		// the words that already found, different words could be the same after trimmed
+		Set<String> foundWords = new HashSet<String>();
+
+		// the found words with the same frequency (sameFrequency), they are added to mostFrequentWords
+		// sorted by the word when the next candidate is less frequent
+		List<String> sameFrequencyWords = new ArrayList<String>();
+		int sameFrequency = 0;
+
+		// candidate is {frequency, kind, index of node or word, end of the words of the node (for word)}
+		PriorityQueue<int[]> candidates = new PriorityQueue<int[]>(16, CANDIDATE_ORDER);
+		candidates.add(new int[] {this.maxFrequencyOfNode[node], NODE_CANDIDATE, node, 0});
+
+		while (candidates.isEmpty() == false)
+		{
+			int candidate[] = candidates.poll();
+
+			// the candidates are taken from the most frequent, so no word after this have the same frequency
+			if (sameFrequencyWords.size() > 0 && candidate[0] != sameFrequency)
+			{
+				Collections.sort(sameFrequencyWords);
+				mostFrequentWords.addAll(sameFrequencyWords);
+				sameFrequencyWords.clear();
+				if (mostFrequentWords.size() >= k)
+				{
+					break;
+				}
+			}
+
+			if (candidate[1] == NODE_CANDIDATE)
+			{
+				// the words of the node are sorted by frequency, so just need to add the first word
+				// the next word is added when this word is taken
+				int firstWord = this.firstWordOfNode[candidate[2]];
+				if (this.wordCountOfNode[candidate[2]] > 0)
+				{
+					candidates.add(new int[] {this.wordFrequency[firstWord], WORD_CANDIDATE, firstWord,
+											  firstWord + this.wordCountOfNode[candidate[2]]});
+				}
+
+				for (int i = 0; i < 8; i++)
+				{
+					int nextNode = this.childNodes[candidate[2] * 8 + i];
+					if (nextNode != ROOT_NODE)
+					{
+						candidates.add(new int[] {this.maxFrequencyOfNode[nextNode], NODE_CANDIDATE, nextNode, 0});
+					}
+				}
+			}
+			else
+			{
+				String word = this.dictionaryWords.getWord(candidate[2], length);
+				if (foundWords.add(word))
+				{
+					sameFrequencyWords.add(word);
+					sameFrequency = candidate[0];
+				}
+
+				if (candidate[2] + 1 < candidate[3])
+				{
+					candidates.add(new int[] {this.wordFrequency[candidate[2] + 1], WORD_CANDIDATE,
+											  candidate[2] + 1, candidate[3]});
+				}
+			}
+		}
+
+		// the last words with the same frequency
+		Collections.sort(sameFrequencyWords);
+		mostFrequentWords.addAll(sameFrequencyWords);
+		if (mostFrequentWords.size() > k)
+		{
+			return new ArrayList<String>(mostFrequentWords.subList(0, k));
+		}
+		return mostFrequentWords;
+	}
+
+	@Override
+	public Iterator<String> signatureToWordsIterator(String signature)
+	{
+		// empty signature and signature with character outside 2-9 doesn't represent any word
+		if (signature.length() > 0 && isNumericWord(signature))
+		{
+			final int node = this.findNode(signature);
+			if (node != -1)
+			{
+				final int length = signature.length();
+
+				// the words of the sub branch are already in the order of the tree (sorted by signature)
+				return new Iterator<String>() {
+
+					// index of the next word in dictionaryWords that still not checked
+					private int wordIndex = firstWordOfNode[node];
+
+					// words that already taken, different words could be the same after trimmed
+					private Set<String> foundWords = new HashSet<String>();
+
+					// the next word that will be returned by next(), null if still not searched
+					private String nextWord = null;
+
+					@Override
+					public boolean hasNext()
+					{
+						while (this.nextWord == null && this.wordIndex < lastWordOfNode[node])
+						{
+							String word = dictionaryWords.getWord(this.wordIndex, length);
+							this.wordIndex += 1;
+
+							if (this.foundWords.add(word))
+							{
+								this.nextWord = word;
+							}
+						}
+						return this.nextWord != null;
+					}
+
+					@Override
+					public String next()
+					{
+						if (this.hasNext() == false)
+						{
+							throw new NoSuchElementException();
+						}
+
+						String word = this.nextWord;
+						this.nextWord = null;
+						return word;
+					}
+				};
+			}
+		}
+
+		return Collections.<String>emptyIterator();
+	}
+
+	/**
+	 * Method to create cursor to search words one signature at a time from this tree
+	 * @return new cursor in the beginning (empty signature)
+	 */
+	public SignatureCursor cursor()
+	{
+		return new ArrayTreeCursor();
+	}
+
+	/**
+	 * Inner class for cursor of the tree, the cursor remember the node of every signature
+	 * that have been added, so adding a signature just need to walk one node from the last node
+	 * and removing a signature just need to go back to the previous node
+	 * @author Hans Sean Nathanael
+	 *
+	 */
+	private class ArrayTreeCursor implements SignatureCursor {
+
+		// node of every signature that have been added, the first element is the root of the tree
+		// -1 if the signature doesn't exist in the tree
+		private int visitedNodes[] = new int[16];
+
+		// number of signature that have been added
+		private int signatureLength = 0;
+
+		@Override
+		public void advance(char signature)
+		{
+			int currentNode = this.visitedNodes[this.signatureLength];
+			int nextNode = -1;
+
+			// the signature after a signature that doesn't exist will not exist too
+			if (currentNode != -1 && signature >= '2' && signature <= '9')
+			{
+				nextNode = childNodes[currentNode * 8 + (signature - '2')];
+				if (nextNode == ROOT_NODE)
+				{
+					nextNode = -1;
+				}
+			}
+
+			this.signatureLength += 1;
+			if (this.signatureLength == this.visitedNodes.length)
+			{
+				this.visitedNodes = Arrays.copyOf(this.visitedNodes, this.visitedNodes.length * 2);
+			}
+			this.visitedNodes[this.signatureLength] = nextNode;
+		}
+
+		@Override
+		public void back()
+		{
+			// the root must not be removed
+			if (this.signatureLength > 0)
+			{
+				this.signatureLength -= 1;
+			}
+		}
+
+		@Override
+		public void reset()
+		{
+			this.signatureLength = 0;
+		}
+
+		@Override
+		public int length()
+		{
+			return this.signatureLength;
+		}
+
+		@Override
+		public Set<String> getWords()
+		{
+			Set<String> allWordsWithSamePrefix = new HashSet<String>();
+			int currentNode = this.visitedNodes[this.signatureLength];
+
+			// empty signature doesn't represent any word, the same as signatureToWords
+			if (currentNode != -1 && this.signatureLength > 0)
+			{
+				for (int i = firstWordOfNode[currentNode]; i < lastWordOfNode[currentNode]; i++)
+				{
+					allWordsWithSamePrefix.add(dictionaryWords.getWord(i, this.signatureLength));
+				}
+			}
+
+			return allWordsWithSamePrefix;
+		}
+
+		@Override
+		public List<String> topK(int k)
+		{
+			// the search begin from the node of the cursor, not from the root
+			// empty signature doesn't represent any word, the same as topK of the dictionary
+			if (this.signatureLength == 0)
+			{
+				return new ArrayList<String>();
+			}
+			return DictionaryArrayTreeImpl.this.topK(this.visitedNodes[this.signatureLength], this.signatureLength, k);
+		}
+	}
+
+	/**
+	 * Method to check if a all string characters are numeric with range from 2 to 9
+	 * @param word : string to be checked
+	 * @return true if string just contain numeric, false if there's one or more non numeric or '1' in string
+	 */
+	private boolean isNumericWord(String word)
+	{
+		for (int i = 0; i < word.length(); i++)
+		{
+			if (word.charAt(i) < '2' || word.charAt(i) > '9')
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,206 @@
+package predictive;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * This class is used to compile dictionary file (one word each line) into binary dictionary image
+ * the image can be opened by DictionaryMappedImpl without reading and parsing the words again
+ *
+ * Format of the image (all int are 4 bytes big endian):
+ * int magic number (MAGIC_NUMBER), int version (VERSION)
+ * int signature count (S), int word count (W), int length of signature bytes, int length of word bytes
+ * int[S + 1] offset of every signature in signature bytes (the last one is the end of the last signature)
+ * int[S + 1] index of the first word of every signature (the last one is W)
+ * int[W + 1] offset of every word in word bytes (the last one is the end of the last word)
+ * byte[] signature bytes, all signature sorted and packed without separator (ASCII '2' - '9')
+ * byte[] word bytes, all words sorted by signature and then by word, packed without separator (UTF-8, so the
+ *        words of KeypadLayout.STANDARD are ASCII 'a' - 'z', one byte each character)
+ * @author Hans Sean Nathanael
+ *
+ */
+public class DictionaryCompiler {
+
+	// magic number in the beginning of the image, it's "PDIC" in ASCII
+	public static final int MAGIC_NUMBER = 0x50444943;
+
+	// version of the image format, must be changed if the format is changed
+	public static final int VERSION = 1;
+
+	// size of the header (magic number, version, and 4 count) in bytes
+	public static final int HEADER_SIZE = 6 * 4;
+
+	/**
+	 * Method to compile dictionary file into binary dictionary image with KeypadLayout.STANDARD
+	 * @param path : directory path to dictionary file
+	 * @param imagePath : directory path of the binary dictionary image that will be written
+	 * @throws IOException if the dictionary file can't be read or the image can't be written
+	 */
+	public static void compile(String path, String imagePath) throws IOException
+	{
+		compile(path, imagePath, KeypadLayout.STANDARD);
+	}
+
+	/**
+	 * Method to compile dictionary file into binary dictionary image
+	 * @param path : directory path to dictionary file
+	 * @param imagePath : directory path of the binary dictionary image that will be written
+	 * @param layout : keypad layout used to convert the words to signature (the image must be opened
+	 *        by DictionaryMappedImpl with the same layout)
+	 * @throws IOException if the dictionary file can't be read or the image can't be written
+	 */
+	public static void compile(String path, String imagePath, KeypadLayout layout) throws IOException
+	{
+		// all valid words from dictionary file paired with it's signature
+		List<WordSig> listDictionaryWords = new ArrayList<WordSig>();
+
+		// BufferedReader is faster than Scanner when read file line one by one
+		BufferedReader fileReader = new BufferedReader(new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8));
+		try
+		{
+			String fileOneLine = null;
+
+			// lineParser change the line to lower case, remove the frequency, and check the word
+			DictionaryLineParser lineParser = new DictionaryLineParser(layout);
+
+			while((fileOneLine = fileReader.readLine()) != null)
+			{
+				// skip the word with character(s) that is not on the keypad and empty line
+				if (lineParser.parse(fileOneLine))
+				{
+					listDictionaryWords.add(new WordSig(lineParser.getSignature(), lineParser.getWord()));
+				}
+			}
+		}
+		finally
+		{
+			fileReader.close();
+		}
+
+		// sorted by signature for binary search in the image, and then by the word
+		// so the same word is next to each other and can be removed
+		Collections.sort(listDictionaryWords, new Comparator<WordSig>() {
+
+			@Override
+			public int compare(WordSig first, WordSig second)
+			{
+				int comparison = first.compareTo(second);
+				if (comparison == 0)
+				{
+					comparison = first.getWord().compareTo(second.getWord());
+				}
+				return comparison;
+			}
+		});
+
+		// the words without the same word, and all the different signature with index of it's first word
+		List<String> listWords = new ArrayList<String>();
+		List<byte[]> listWordBytes = new ArrayList<byte[]>();
+		List<String> listSignatures = new ArrayList<String>();
+		List<Integer> listFirstWords = new ArrayList<Integer>();
+		int wordBytesLength = 0;
+		int signatureBytesLength = 0;
+
+		for (WordSig element : listDictionaryWords)
+		{
+			if (listWords.size() > 0 && listWords.get(listWords.size() - 1).equals(element.getWord()))
+			{
+				continue;
+			}
+
+			if (listSignatures.size() == 0 ||
+				listSignatures.get(listSignatures.size() - 1).equals(element.getSignature()) == false)
+			{
+				listSignatures.add(element.getSignature());
+				listFirstWords.add(listWords.size());
+				signatureBytesLength += element.getSignature().length();
+			}
+
+			// the word is written as UTF-8, the letters of other layout (like Greek) are more than one byte
+			byte wordBytes[] = element.getWord().getBytes(StandardCharsets.UTF_8);
+			listWords.add(element.getWord());
+			listWordBytes.add(wordBytes);
+			wordBytesLength += wordBytes.length;
+		}
+
+		DataOutputStream imageWriter = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(imagePath)));
+		try
+		{
+			imageWriter.writeInt(MAGIC_NUMBER);
+			imageWriter.writeInt(VERSION);
+			imageWriter.writeInt(listSignatures.size());
+			imageWriter.writeInt(listWords.size());
+			imageWriter.writeInt(signatureBytesLength);
+			imageWriter.writeInt(wordBytesLength);
+
+			// offset of every signature
+			int offset = 0;
+			for (String element : listSignatures)
+			{
+				imageWriter.writeInt(offset);
+				offset += element.length();
+			}
+			imageWriter.writeInt(offset);
+
+			// first word of every signature
+			for (Integer element : listFirstWords)
+			{
+				imageWriter.writeInt(element);
+			}
+			imageWriter.writeInt(listWords.size());
+
+			// offset of every word in bytes
+			offset = 0;
+			for (byte element[] : listWordBytes)
+			{
+				imageWriter.writeInt(offset);
+				offset += element.length;
+			}
+			imageWriter.writeInt(offset);
+
+			// all signature characters are ASCII, so writeBytes (1 byte each character) is enough
+			for (String element : listSignatures)
+			{
+				imageWriter.writeBytes(element);
+			}
+			for (byte element[] : listWordBytes)
+			{
+				imageWriter.write(element);
+			}
+		}
+		finally
+		{
+			imageWriter.close();
+		}
+	}
+
+	/**
+	 * Compile dictionary file into binary dictionary image
+	 * @param args : first argument is the dictionary file (default assets/words), second argument is
+	 *        the image file (default assets/words.dict)
+	 */
+	public static void main(String[] args) {
+		String path = args.length > 0 ? args[0] : "assets/words";
+		String imagePath = args.length > 1 ? args[1] : "assets/words.dict";
+
+		try
+		{
+			compile(path, imagePath);
+			System.out.println(path + " compiled to " + imagePath);
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+	}
+}
@@ -0,0 +1,445 @@
+package predictive;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class is used to store all words in dictionary using minimized directed acyclic word graph (DAWG)
+ * The graph is like a tree with letter on every edge, but the same end of words (like "-ing" or "-tion")
+ * is stored only once, because the states with the same following words are merged into one state
+ * The graph is created from the sorted words by the incremental algorithm of Daciuk (the last added path is
+ * minimized when the next word doesn't share it anymore), and then stored in arrays
+ * The search is by prefix of the signature like DictionaryTreeImpl, the edges are followed if the signature
+ * of the letter is the same as the signature character, and the words are trimmed to the length of signature
+ * @author Hans Sean Nathanael
+ *
+ */
+public class DictionaryDawgImpl implements Dictionary {
+
+	// the edges of state i are edgeLetters and edgeTargets from firstEdgeOfState[i] until
+	// firstEdgeOfState[i + 1] (exclusive), sorted by the letter, state 0 is the root
+	private int firstEdgeOfState[] = new int[] {0, 0};
+
+	// letter of every edge
+	private char edgeLetters[] = new char[0];
+
+	// signature of the letter of every edge (ASCII '2' - '9'), converted once when the graph is stored
+	// so the search doesn't convert the letter for every edge it visits
+	private byte edgeSignatures[] = new byte[0];
+
+	// the state after the edge is followed
+	private int edgeTargets[] = new int[0];
+
+	// keypad layout used to convert the words to signature
+	private KeypadLayout layout = KeypadLayout.STANDARD;
+
+	/**
+	 * Constructor of this class
+	 * all words in dictionary file will be stored in the graph
+	 * @param path : directory path to dictionary file
+	 */
+	public DictionaryDawgImpl(String path)
+	{
+		this(path, KeypadLayout.STANDARD);
+	}
+
+	/**
+	 * Constructor of this class
+	 * all words in dictionary file will be stored in the graph
+	 * @param path : directory path to dictionary file
+	 * @param layout : keypad layout used to convert the words to signature
+	 */
+	public DictionaryDawgImpl(String path, KeypadLayout layout)
+	{
+		this.layout = layout;
+
+		// all valid words from dictionary file, the graph need the words to be added in sorted order
+		List<String> listWords = new ArrayList<String>();
+
+		// the time of reading, parsing, and inserting (sort and build the graph) is recorded by Java Flight Recorder
+		DictionaryLoadEvent loadEvent = new DictionaryLoadEvent(DictionaryDawgImpl.class, path);
+
+		try
+		{
+			// BufferedReader is faster than Scanner when read file line one by one
+			BufferedReader fileReader = new BufferedReader(new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8));
+
+			// lineParser change the line to lower case, remove the frequency, and check the word
+			DictionaryLineParser lineParser = new DictionaryLineParser(this.layout);
+
+			String fileOneLine = null;
+			while((fileOneLine = fileReader.readLine()) != null)
+			{
+				loadEvent.endRead();
+
+				// skip the word with character(s) that is not on the keypad and empty line
+				if (lineParser.parse(fileOneLine))
+				{
+					listWords.add(lineParser.getWord());
+					loadEvent.countWord();
+				}
+				loadEvent.endParse();
+			}
+
+			// don't forget to close the file
+			fileReader.close();
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+
+		Collections.sort(listWords);
+		this.buildGraph(listWords);
+		loadEvent.endInsert();
+		loadEvent.finish();
+	}
+
+	/**
+	 * Method to create the minimized graph from sorted words and store it in the arrays
+	 * @param listWords : all words sorted (the same word can be next to each other)
+	 */
+	private void buildGraph(List<String> listWords)
+	{
+		// all states that already minimized, every state in the register is different (not equals)
+		Map<BuildState, BuildState> registerOfStates = new HashMap<BuildState, BuildState>();
+		BuildState rootState = new BuildState();
+
+		String previousWord = "";
+		for (String element : listWords)
+		{
+			if (element.equals(previousWord))
+			{
+				continue;
+			}
+
+			// the words are sorted, so the same prefix with the previous word is always the last added path
+			BuildState lastState = rootState;
+			int prefixLength = 0;
+			while (prefixLength < element.length() && lastState.getLastTarget(element.charAt(prefixLength)) != null)
+			{
+				lastState = lastState.getLastTarget(element.charAt(prefixLength));
+				prefixLength += 1;
+			}
+
+			// the rest of the previous word is never changed again, so it can be minimized
+			if (lastState.edgeCount > 0)
+			{
+				replaceOrRegister(lastState, registerOfStates);
+			}
+
+			// add the rest of the word as a new path
+			for (int i = prefixLength; i < element.length(); i++)
+			{
+				BuildState newState = new BuildState();
+				lastState.addEdge(element.charAt(i), newState);
+				lastState = newState;
+			}
+			lastState.isFinal = true;
+
+			previousWord = element;
+		}
+
+		if (rootState.edgeCount > 0)
+		{
+			replaceOrRegister(rootState, registerOfStates);
+		}
+
+		this.freezeGraph(rootState);
+	}
+
+	/**
+	 * Method to minimize the last added path after a state, the last state of the path is minimized first
+	 * if there's the same state in the register, the state is replaced by the registered state, if not the
+	 * state is added to the register
+	 * @param state : the state which the path after it's last edge will be minimized
+	 * @param registerOfStates : all states that already minimized
+	 */
+	private static void replaceOrRegister(BuildState state, Map<BuildState, BuildState> registerOfStates)
+	{
+		// the path is as long as the word, it's iterated so a very long word doesn't make deep recursion
+		Deque<BuildState> pathOfStates = new ArrayDeque<BuildState>();
+		BuildState walker = state;
+		while (walker.edgeCount > 0 && registerOfStates.get(walker.targets[walker.edgeCount - 1]) != walker.targets[walker.edgeCount - 1])
+		{
+			pathOfStates.push(walker);
+			walker = walker.targets[walker.edgeCount - 1];
+		}
+
+		// from the deepest state, all the next states of the deepest state are already minimized
+		while (pathOfStates.isEmpty() == false)
+		{
+			BuildState parent = pathOfStates.pop();
+			BuildState child = parent.targets[parent.edgeCount - 1];
+			BuildState registeredState = registerOfStates.get(child);
+			if (registeredState != null)
+			{
+				parent.targets[parent.edgeCount - 1] = registeredState;
+			}
+			else
+			{
+				registerOfStates.put(child, child);
+			}
+		}
+	}
+
+	/**
+	 * Method to store the graph in the arrays, the states are numbered in breadth first order from the root
+	 * @param rootState : root of the minimized graph
+	 */
+	private void freezeGraph(BuildState rootState)
+	{
+		// the state that merged is reached from many edges, so the number is stored by the state object
+		Map<BuildState, Integer> numberOfState = new IdentityHashMap<BuildState, Integer>();
+		List<BuildState> listStates = new ArrayList<BuildState>();
+		int edgeCount = 0;
+
+		numberOfState.put(rootState, 0);
+		listStates.add(rootState);
+		for (int i = 0; i < listStates.size(); i++)
+		{
+			BuildState state = listStates.get(i);
+			edgeCount += state.edgeCount;
+			for (int j = 0; j < state.edgeCount; j++)
+			{
+				if (numberOfState.containsKey(state.targets[j]) == false)
+				{
+					numberOfState.put(state.targets[j], listStates.size());
+					listStates.add(state.targets[j]);
+				}
+			}
+		}
+
+		this.firstEdgeOfState = new int[listStates.size() + 1];
+		this.edgeLetters = new char[edgeCount];
+		this.edgeSignatures = new byte[edgeCount];
+		this.edgeTargets = new int[edgeCount];
+
+		int edgeIndex = 0;
+		for (int i = 0; i < listStates.size(); i++)
+		{
+			BuildState state = listStates.get(i);
+			this.firstEdgeOfState[i] = edgeIndex;
+			for (int j = 0; j < state.edgeCount; j++)
+			{
+				this.edgeLetters[edgeIndex] = state.letters[j];
+				this.edgeSignatures[edgeIndex] = (byte)this.layout.signatureOf(state.letters[j]);
+				this.edgeTargets[edgeIndex] = numberOfState.get(state.targets[j]);
+				edgeIndex += 1;
+			}
+		}
+		this.firstEdgeOfState[listStates.size()] = edgeIndex;
+	}
+
+	@Override
+	public String wordToSignature(String word)
+	{
+		// the word must not null to be converted
+		if (word == null)
+		{
+			return word;
+		}
+
+		// the signature have the same length with the word
+		char signature[] = new char[word.length()];
+		return new String(signature, 0, this.layout.wordToSignature(word, signature));
+	}
+
+	@Override
+	public KeypadLayout getLayout()
+	{
+		return this.layout;
+	}
+
+	@Override
+	public Set<String> signatureToWords(String signature)
+	{
+		// HashSet to store all words with the same prefix signature, trimmed to the length of signature
+		Set<String> matchedPossibleWord = new HashSet<String>();
+
+		// the same check with DictionaryTreeImpl, empty signature would be all words trimmed to ""
+		if (signature.length() > 0 && isNumericWord(signature))
+		{
+			this.collectWords(0, signature, new char[signature.length()], 0, matchedPossibleWord);
+		}
+
+		return matchedPossibleWord;
+	}
+
+	/**
+	 * Recursive method to follow all edges that the signature of the letter is the same as the signature
+	 * every state of the graph is the prefix of at least one word, so every path as long as the signature
+	 * is the beginning of a word
+	 * @param state : the state after the letters in prefix
+	 * @param signature : the searched signature
+	 * @param prefix : letters of the path from the root, only the first depth letters are used
+	 * @param depth : number of letters of the path
+	 * @param matchedPossibleWord : set to store the words
+	 */
+	private void collectWords(int state, String signature, char prefix[], int depth, Set<String> matchedPossibleWord)
+	{
+		if (depth == signature.length())
+		{
+			matchedPossibleWord.add(new String(prefix));
+			return;
+		}
+
+		for (int i = this.firstEdgeOfState[state]; i < this.firstEdgeOfState[state + 1]; i++)
+		{
+			if (this.edgeSignatures[i] == signature.charAt(depth))
+			{
+				prefix[depth] = this.edgeLetters[i];
+				this.collectWords(this.edgeTargets[i], signature, prefix, depth + 1, matchedPossibleWord);
+			}
+		}
+	}
+
+	/**
+	 * Method to get the number of states of the graph
+	 * @return number of states, including the root
+	 */
+	public int getStateCount()
+	{
+		return this.firstEdgeOfState.length - 1;
+	}
+
+	/**
+	 * Method to get the number of edges of the graph
+	 * @return number of edges (letters) stored in the graph
+	 */
+	public int getEdgeCount()
+	{
+		return this.edgeLetters.length;
+	}
+
+	/**
+	 * Method to estimate how many bytes of memory used by the arrays of the graph
+	 * (array header 16 bytes, 4 bytes each int, 2 bytes each letter and 1 byte each signature)
+	 * @return estimation of memory cost of the graph in bytes
+	 */
+	public long getMemoryCost()
+	{
+		return 16 + 4L * this.firstEdgeOfState.length + 16 + 2L * this.edgeLetters.length +
+			   16 + this.edgeSignatures.length + 16 + 4L * this.edgeTargets.length;
+	}
+
+	/**
+	 * Method to check if a all string characters are numeric with range from 2 to 9
+	 * @param word : string to be checked
+	 * @return true if string just contain numeric, false if there's one or more non numeric or '1' in string
+	 */
+	private static boolean isNumericWord(String word)
+	{
+		for (int i = 0; i < word.length(); i++)
+		{
+			if (word.charAt(i) < '2' || word.charAt(i) > '9')
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * State of the graph while it's created, two states are equal if both are final or not final and
+	 * have the same edges to the same (already minimized) states, so equal states can be merged
+	 * @author Hans Sean Nathanael
+	 *
+	 */
+	private static class BuildState {
+
+		// true if a word end in this state
+		private boolean isFinal = false;
+
+		// edges of this state, added in sorted order of the letter because the words are sorted
+		private char letters[] = new char[2];
+		private BuildState targets[] = new BuildState[2];
+		private int edgeCount = 0;
+
+		/**
+		 * Method to add an edge after the last edge of this state
+		 * @param letter : letter of the edge, must be after the letter of the last edge
+		 * @param target : the state after the edge
+		 */
+		private void addEdge(char letter, BuildState target)
+		{
+			if (this.edgeCount == this.letters.length)
+			{
+				this.letters = Arrays.copyOf(this.letters, this.edgeCount * 2);
+				this.targets = Arrays.copyOf(this.targets, this.edgeCount * 2);
+			}
+			this.letters[this.edgeCount] = letter;
+			this.targets[this.edgeCount] = target;
+			this.edgeCount += 1;
+		}
+
+		/**
+		 * Method to get the state after the last edge if the letter is the same
+		 * (only the last edge can be the prefix of the next sorted word)
+		 * @param letter : letter of the edge
+		 * @return the state after the last edge, null if there's no edge or the letter is different
+		 */
+		private BuildState getLastTarget(char letter)
+		{
+			if (this.edgeCount > 0 && this.letters[this.edgeCount - 1] == letter)
+			{
+				return this.targets[this.edgeCount - 1];
+			}
+			return null;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			// the next states are already minimized, so the same state is the same object
+			int hash = this.isFinal ? 1 : 0;
+			for (int i = 0; i < this.edgeCount; i++)
+			{
+				hash = hash * 31 + this.letters[i];
+				hash = hash * 31 + System.identityHashCode(this.targets[i]);
+			}
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object object)
+		{
+			if (this == object)
+			{
+				return true;
+			}
+			if ((object instanceof BuildState) == false)
+			{
+				return false;
+			}
+
+			BuildState other = (BuildState)object;
+			if (this.isFinal != other.isFinal || this.edgeCount != other.edgeCount)
+			{
+				return false;
+			}
+			for (int i = 0; i < this.edgeCount; i++)
+			{
+				if (this.letters[i] != other.letters[i] || this.targets[i] != other.targets[i])
+				{
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package predictive;
+
+/**
+ * This class is used to parse one line of dictionary file, so every dictionary read the same file format
+ * Every line is one word, the word could be followed by its frequency (separated by space or tab),
+ * the word without frequency have frequency 0
+ * The line is composed first (NFC) so the word in decomposed form ("cafe" and combining acute accent) is the
+ * same as the composed word, then the word is changed to lower case, and the word that contain character that is not on the keypad
+ * (or the line that the frequency is not a number) is not a valid word
+ * One parser is used for every reader, the last parsed word and the signature array are reused for every line
+ * @author Hans Sean Nathanael
+ *
+ */
+class DictionaryLineParser {
+
+	// keypad layout used to check and convert the words
+	private KeypadLayout layout;
+
+	// the word and the frequency of the last parsed line
+	private String word;
+	private int frequency;
+
+	// signature of every word is written to the same array first, so the only new object
+	// is the String of the signature
+	private char signatureOfWord[] = new char[64];
+
+	/**
+	 * Constructor of the parser
+	 * @param layout : keypad layout used to check and convert the words
+	 */
+	DictionaryLineParser(KeypadLayout layout)
+	{
+		this.layout = layout;
+	}
+
+	/**
+	 * Method to parse one line of dictionary file
+	 * @param line : line of dictionary file
+	 * @return true if the line is a valid word, the word and the frequency can be taken after this
+	 */
+	boolean parse(String line)
+	{
+		// the combining marks are composed with the letter before they are checked and folded,
+		// then changed to lower case for easier comparison and because
+		// all words need to stored in lower case
+		String lowerCaseLine = KeypadLayout.composeWord(line).toLowerCase();
+
+		// the frequency is after the first space or tab
+		this.frequency = 0;
+		this.word = lowerCaseLine;
+		int separatorIndex = indexOfSeparator(lowerCaseLine);
+		if (separatorIndex != -1)
+		{
+			try
+			{
+				this.frequency = Integer.parseInt(lowerCaseLine.substring(separatorIndex + 1).trim());
+			}
+			catch (NumberFormatException e)
+			{
+				// the line is not a word with frequency, so it's not a valid word
+				return false;
+			}
+			this.word = lowerCaseLine.substring(0, separatorIndex);
+		}
+
+		// empty line and word that contain character that is not on the keypad can't be retrieved
+		return this.word.length() > 0 && this.layout.isValidWord(this.word);
+	}
+
+	/**
+	 * Method to get the word of the last parsed line
+	 * @return the word in lower case
+	 */
+	String getWord()
+	{
+		return this.word;
+	}
+
+	/**
+	 * Method to get the frequency of the last parsed line
+	 * @return the frequency, 0 if the line doesn't have frequency
+	 */
+	int getFrequency()
+	{
+		return this.frequency;
+	}
+
+	/**
+	 * Method to get the signature of the word of the last parsed line
+	 * @return signature of the word
+	 */
+	String getSignature()
+	{
+		return this.layout.wordToSignatureString(this.word, this.signatureOfWord);
+	}
+
+	/**
+	 * Method to find the first space or tab in a line of dictionary file
+	 * @param line : line of dictionary file
+	 * @return index of the first space or tab, -1 if there's no space or tab
+	 */
+	private static int indexOfSeparator(String line)
+	{
+		for (int i = 0; i < line.length(); i++)
+		{
+			if (line.charAt(i) == ' ' || line.charAt(i) == '\t')
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -1,65 +1,105 @@
 package predictive;
 
 import java.io.BufferedReader;
-import java.io.FileReader;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
 /**
  * This class is used to store all words in dictionary for a faster search and lookup
+ * All words are stored in arrays sorted by signature (and then by the word), the signature of word i is
+ * signatureBytes from signatureOffsets[i] until signatureOffsets[i + 1] (exclusive), so the words of a
+ * signature (or of all signatures that begin with a prefix) are always in one range of dictionaryWords
+ * and the range is found by lower bound and upper bound binary search
  * @author Hans Sean Nathanael
  *
  */
-public class DictionaryListImpl {
-	
-	// this array signatureOfChar used to simplify function wordToSignature
-	// The length is 26 representing all the alphabet a-z
-	// index 0 is for 'a', index 1 for 'b', and so on until last index (index 25) for 'z'
-	private char signatureOfChar[] = {'2', '2', '2',
-									  '3', '3', '3',
-									  '4', '4', '4',
-									  '5', '5', '5',
-									  '6', '6', '6',
-									  '7', '7', '7', '7',
-									  '8', '8', '8',
-									  '9', '9', '9', '9'};
-	
-	// listDictionaryWords used to store all words that have been read from dictionary with it's signature
-	private List<WordSig> listDictionaryWords = new ArrayList<WordSig>();
+public class DictionaryListImpl implements Dictionary {
+	
+	// all words in dictionary without the same word, sorted by it's signature and then by the word itself
+	// the words are stored in one byte array, the String is only created when the word is returned
+	private WordArena dictionaryWords = new WordArena(Collections.<String>emptyList());
+	
+	// signature of all words packed without separator (ASCII '2' - '9'), in the same order as dictionaryWords
+	private byte signatureBytes[] = new byte[0];
+	
+	// offset of the signature of every word in signatureBytes, the last one is the end of the last signature
+	private int signatureOffsets[] = new int[1];
+	
+	// read only view of dictionaryWords, the result of range search is a sub list of this view
+	private List<String> listDictionaryWords = Collections.emptyList();
+	
+	// keypad layout used to convert the words to signature
+	private KeypadLayout layout = KeypadLayout.STANDARD;
 	
 	/**
 	 * Constructor of this class 
-	 * all words in dictionary file will be stored in listDictionaryWords
+	 * all words in dictionary file (assets/words) will be stored in dictionaryWords
 	 */
 	public DictionaryListImpl()
 	{
+		this("assets/words");
+	}
+	
+	/**
+	 * Constructor of this class
+	 * all words in dictionary file will be stored in dictionaryWords
+	 * @param path : directory path to dictionary file
+	 */
+	public DictionaryListImpl(String path)
+	{
+		this(path, KeypadLayout.STANDARD);
+	}
+	
+	/**
+	 * Constructor of this class
+	 * all words in dictionary file will be stored in dictionaryWords
+	 * @param path : directory path to dictionary file
+	 * @param layout : keypad layout used to convert the words to signature
+	 */
+	public DictionaryListImpl(String path, KeypadLayout layout)
+	{
+		this.layout = layout;
+		
+		// all valid words from dictionary file paired with it's signature, only used while loading
+		List<WordSig> listWordSignatures = new ArrayList<WordSig>();
+		
+		// the time of reading, parsing, and inserting (sort and build the arrays) is recorded by Java Flight Recorder
+		DictionaryLoadEvent loadEvent = new DictionaryLoadEvent(DictionaryListImpl.class, path);
 		
 		// store all words in dictionary to list dictionary
 		try {
 			
 			// fileReader used to read every line of dictionary file
 			// BufferedReader is faster than Scanner when read file line one by one
-			BufferedReader fileReader = new BufferedReader(new FileReader("assets/words"));
+			BufferedReader fileReader = new BufferedReader(new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8));
 			
 			// fileOneLine used to store every line read by fileReader
 			String fileOneLine = null;
 			
+			// lineParser change the line to lower case, remove the frequency, and check the word
+			DictionaryLineParser lineParser = new DictionaryLineParser(this.layout);
+			
 			// reading every line of dictionary
 			while((fileOneLine = fileReader.readLine()) != null)
 			{
-				// changed to lower case for easier comparison and because
-				// all words need to stored in lower case
-				fileOneLine = fileOneLine.toLowerCase();
+				loadEvent.endRead();
 				
-				// skip the word with non alphabet character(s)
-				if (this.isValidWord(fileOneLine))
+				// skip the word with character(s) that is not on the keypad and empty line
+				if (lineParser.parse(fileOneLine))
 				{
-					listDictionaryWords.add(new WordSig(this.wordToSignature(fileOneLine), fileOneLine));
+					listWordSignatures.add(new WordSig(lineParser.getSignature(), lineParser.getWord()));
+					loadEvent.countWord();
 				}
+				loadEvent.endParse();
 			}
 			
 			// don't forget to close the file
@@ -70,129 +110,266 @@ public class DictionaryListImpl {
 			e.printStackTrace();
 		}
 		
-		// listDictionaryWords must be sorted because method signatureToWords use binary search
-		// to find a word from it's signature. But actually, it's very likely that the
-		// listDictionaryWords already sorted because the dictionary file is very likely
-		// already sorted too, but just in case this will be sorted using Collections.
-		Collections.sort(listDictionaryWords);
+		// sorted by signature because the search use binary search, and then by the word
+		// so the same word is next to each other and can be removed
+		Collections.sort(listWordSignatures, new Comparator<WordSig>() {
+			
+			@Override
+			public int compare(WordSig first, WordSig second)
+			{
+				int comparison = first.compareTo(second);
+				if (comparison == 0)
+				{
+					comparison = first.getWord().compareTo(second.getWord());
+				}
+				return comparison;
+			}
+		});
+		
+		this.buildArrays(listWordSignatures);
+		loadEvent.endInsert();
+		loadEvent.finish();
+	}
+	
+	/**
+	 * Method to fill dictionaryWords, signatureBytes, and signatureOffsets from the sorted words
+	 * @param listWordSignatures : all words with it's signature, sorted by signature and then by word
+	 */
+	private void buildArrays(List<WordSig> listWordSignatures)
+	{
+		// the words without the same word (the same word always have the same signature, so it's next to each other)
+		List<WordSig> listUniqueWords = new ArrayList<WordSig>(listWordSignatures.size());
+		int signatureBytesLength = 0;
+		for (WordSig element : listWordSignatures)
+		{
+			if (listUniqueWords.size() > 0 &&
+				listUniqueWords.get(listUniqueWords.size() - 1).getWord().equals(element.getWord()))
+			{
+				continue;
+			}
+			listUniqueWords.add(element);
+			signatureBytesLength += element.getSignature().length();
+		}
+		
+		List<String> listWords = new ArrayList<String>(listUniqueWords.size());
+		this.signatureBytes = new byte[signatureBytesLength];
+		this.signatureOffsets = new int[listUniqueWords.size() + 1];
+		
+		int offset = 0;
+		for (int i = 0; i < listUniqueWords.size(); i++)
+		{
+			WordSig element = listUniqueWords.get(i);
+			listWords.add(element.getWord());
+			this.signatureOffsets[i] = offset;
+			
+			// all signature characters are ASCII, so one byte is enough for each character
+			for (int j = 0; j < element.getSignature().length(); j++)
+			{
+				this.signatureBytes[offset] = (byte)element.getSignature().charAt(j);
+				offset += 1;
+			}
+		}
+		this.signatureOffsets[listUniqueWords.size()] = offset;
+		
+		this.dictionaryWords = new WordArena(listWords);
+		this.listDictionaryWords = this.dictionaryWords.asList();
 	}
 	
 	/**
 	 * Convert a string of word to a signature (number)
 	 * "Hello" become "43556" not "4433555555666"
-	 * This algorithm use array signatureOfChar rather than 'nested if'
-	 * 'Nested if' make program longer, by this it will easier to read
+	 * The characters are converted by the keypad layout without StringBuffer and lower case copy of the word
 	 * @param word : String of word that will be converted to its signature
 	 * @return signature of converted word
 	 */
 	public String wordToSignature(String word)
 	{
-		// signatureStringBuffer used to make signature of the word
-		// StringBuffer is used to make signature string rather than using String
-		// because it is faster to append a string especially appending many times using loop
-		// when append a string using '+', the string converted to StringBuffer and then
-		// append the StringBuffer, then convert it back to String, it is faster
-		// by just using StringBuffer, no need convert it to String every time it is appended
-		StringBuffer signatureStringBuffer = new StringBuffer("");
-		
-		// word must not null to be converted
+		// the word must not null to be converted
 		if (word == null)
 		{
 			return word;
 		}
-		word = word.toLowerCase(); // to the word become lower case so it's easier to converted
 		
-		for(int i = 0; i < word.length(); i++)
-		{
-			if (word.charAt(i) >= 'a' && word.charAt(i) <= 'z')
-			{
-				signatureStringBuffer.append(signatureOfChar[word.charAt(i)- 'a' ]);
-			}
-			else
-			{
-				signatureStringBuffer.append(" "); // for non alphabet changed to " " (space)
-			}
-		}
+		// the signature have the same length with the word
+		char signature[] = new char[word.length()];
+		return new String(signature, 0, this.layout.wordToSignature(word, signature));
+	}
 		
-		return signatureStringBuffer.toString();
+	@Override
+	public KeypadLayout getLayout()
+	{
+		return this.layout;
 	}
 	
 	/**
-	 * Method to translate signature of word into a word that exist in listDictionaryWords
+	 * Method to translate signature of word into a word that exist in dictionaryWords
 	 * @param signature : string of number that will translated to word
 	 * @return Set (in form of HashSet) of String that contain all possible word in dictionary
 	 */
 	public Set<String> signatureToWords(String signature)
 	{
+		// HashSet is used because it is fast (O(1), constant time lookup), the words of the range
+		// are never the same so the set just copy the range
+		return new HashSet<String>(this.signatureToWordRange(signature));
+	}
 		
+	@Override
+	public Iterator<String> signatureToWordsIterator(String signature)
+	{
+		// the range is already a view of dictionaryWords, so no need to copy it to a set first
+		return this.signatureToWordRange(signature).iterator();
+	}
+	
+	/**
+	 * Method to get all words in dictionary with a certain signature without copying the words
+	 * @param signature : string of number that will translated to word
+	 * @return read only view of the range of dictionaryWords that have the signature, sorted by word
+	 *         (empty list if the signature is empty, contain non numeric, or doesn't exist)
+	 */
+	public List<String> signatureToWordRange(String signature)
+	{
 		// all char of signature must be numeric
 		if (isNumericWord(signature) && signature.length() > 0)
 		{
-			// Set containing all possible word of a signature that exist in dictionary
-			// HashSet is used because it is fast (O(1), constant time lookup) because it use hashing
-			// to choose where it will be stored or retrieved and using balance tree for collision
-			// HashSet is faster than TreeSet (O(log n) time complexity because tree algorithm) and
-			// LinkedHashSet (similar to HashSet but use LinkedList for collision)
-			Set<String> matchedPossibleWord = new HashSet<String>();
-			
-			// search just by signature, the word of signature doesn't important in search algorithm
-			WordSig searchKey = new WordSig(signature, "");
-			int indexFound = Collections.binarySearch(listDictionaryWords, searchKey);
-			
-			// if indexFound < 0, that means the signature doesn't exist
-			if (indexFound >= 0)
-			{
-				matchedPossibleWord.add(listDictionaryWords.get(indexFound).getWord());
-				
-				// because Collection binary search doesn't guarantee which value will
-				// be retrieve if there's more than 1 same value, it will return the first one
-				// it get (could be in the middle, not upper bound or lower bound)
-				// so linear search used to find the all word with same signature
-				// by search up and search down from the index of found object
-				
-				int walkerUp = indexFound + 1;
-				int walkerDown = indexFound - 1;
-				
-				// search up
-				while(walkerUp < listDictionaryWords.size() &&
-					  listDictionaryWords.get(walkerUp).compareTo(searchKey) == 0)
-				{
-					matchedPossibleWord.add(listDictionaryWords.get(walkerUp).getWord());
-					walkerUp += 1;
-				}
-				
-				// search down
-				while(walkerDown >= 0 &&
-					  listDictionaryWords.get(walkerDown).compareTo(searchKey) == 0)
-				{
-					matchedPossibleWord.add(listDictionaryWords.get(walkerDown).getWord());
-					walkerDown -= 1;
-				}
-			}
-			
-			return matchedPossibleWord;
+			// lower bound is the first word with signature not less than the signature
+			// upper bound is the first word with signature greater than the signature
+			int firstWord = this.lowerBound(signature, false);
+			int lastWord = this.upperBound(signature, false, firstWord);
+			return this.listDictionaryWords.subList(firstWord, lastWord);
 		}
 		
-		// return empty set if the signature contain non numerical
+		// return empty list if the signature contain non numerical
 		// or the signature is empty
-		return new HashSet<String>();
+		return Collections.emptyList();
 	}
 	
 	/**
-	 * Method to check if a string just contain alphabet characters
-	 * @param word : string to be checked
-	 * @return true if the word just contain alphabet (lower case), false if it contain non alphabet (lower case)
+	 * Method to get all words in dictionary which signature begin with a certain prefix without copying the words
+	 * @param prefix : string of number that is the beginning of the signature of the words
+	 * @return read only view of the range of dictionaryWords that the signature begin with the prefix, sorted by
+	 *         signature and then by word (empty list if the prefix is empty, contain non numeric, or doesn't exist)
 	 */
-	private boolean isValidWord(String word)
+	public List<String> prefixToWordRange(String prefix)
 	{
-		for (int i = 0; i < word.length(); i++)
+		// the same check with signatureToWordRange, empty prefix would be the whole dictionary
+		if (isNumericWord(prefix) && prefix.length() > 0)
+		{
+			// signatures are sorted, so all signatures that begin with the prefix are next to each other
+			int firstWord = this.lowerBound(prefix, true);
+			int lastWord = this.upperBound(prefix, true, firstWord);
+			return this.listDictionaryWords.subList(firstWord, lastWord);
+		}
+		
+		return Collections.emptyList();
+	}
+	
+	/**
+	 * Method to get all words in dictionary which signature begin with a certain prefix, the words are
+	 * trimmed to the length of the prefix, so the result is the same as signatureToWords of DictionaryTreeImpl
+	 * @param prefix : string of number that is the beginning of the signature of the words
+	 * @return Set (in form of HashSet) of the beginning of all words that the signature begin with the prefix
+	 */
+	public Set<String> prefixSignatureToWords(String prefix)
+	{
+		Set<String> matchedPossibleWord = new HashSet<String>();
+		
+		// the same check with prefixToWordRange
+		if (isNumericWord(prefix) && prefix.length() > 0)
 		{
-			if (word.charAt(i) < 'a' || word.charAt(i) > 'z')
+			// only the beginning of the word is created, not the whole word
+			int firstWord = this.lowerBound(prefix, true);
+			int lastWord = this.upperBound(prefix, true, firstWord);
+			for (int i = firstWord; i < lastWord; i++)
 			{
-				return false;
+				matchedPossibleWord.add(this.dictionaryWords.getWord(i, prefix.length()));
 			}
 		}
-		return true;
+		return matchedPossibleWord;
+	}
+	
+	/**
+	 * Method to find the first word that the signature is not less than the searched signature
+	 * @param signature : searched signature
+	 * @param isPrefix : true if only the beginning of the signature of the word (as long as the searched signature) is compared
+	 * @return index of the first word in dictionaryWords with signature not less than the searched signature
+	 *         (the word count if all signatures are less)
+	 */
+	private int lowerBound(String signature, boolean isPrefix)
+	{
+		int low = 0;
+		int high = this.dictionaryWords.size();
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+			if (this.compareSignature(middle, signature, isPrefix) < 0)
+			{
+				low = middle + 1;
+			}
+			else
+			{
+				high = middle;
+			}
+		}
+		return low;
+	}
+	
+	/**
+	 * Method to find the first word that the signature is greater than the searched signature
+	 * @param signature : searched signature
+	 * @param isPrefix : true if only the beginning of the signature of the word (as long as the searched signature) is compared
+	 * @param fromWord : index to start the search, the upper bound is never before the lower bound
+	 * @return index of the first word in dictionaryWords with signature greater than the searched signature
+	 *         (the word count if no signature is greater)
+	 */
+	private int upperBound(String signature, boolean isPrefix, int fromWord)
+	{
+		int low = fromWord;
+		int high = this.dictionaryWords.size();
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+			if (this.compareSignature(middle, signature, isPrefix) <= 0)
+			{
+				low = middle + 1;
+			}
+			else
+			{
+				high = middle;
+			}
+		}
+		return low;
+	}
+	
+	/**
+	 * Method to compare the signature of a word in dictionaryWords with the searched signature
+	 * the comparison is the same as String compareTo, so the order is the same as the sorted words
+	 * @param wordIndex : index of the word in dictionaryWords
+	 * @param signature : searched signature
+	 * @param isPrefix : true if only the beginning of the signature of the word (as long as the searched signature) is compared
+	 * @return negative if the signature of the word is less, 0 if the same, positive if greater
+	 */
+	private int compareSignature(int wordIndex, String signature, boolean isPrefix)
+	{
+		int offset = this.signatureOffsets[wordIndex];
+		int length = this.signatureOffsets[wordIndex + 1] - offset;
+		int comparedLength = Math.min(length, signature.length());
+		
+		for (int i = 0; i < comparedLength; i++)
+		{
+			int difference = this.signatureBytes[offset + i] - signature.charAt(i);
+			if (difference != 0)
+			{
+				return difference;
+			}
+		}
+		
+		// all compared characters are the same, for prefix the signature of the word just need to be
+		// at least as long as the searched signature
+		if (isPrefix && length >= signature.length())
+		{
+			return 0;
+		}
+		return length - signature.length();
 	}
 	
 	/**
@@ -0,0 +1,137 @@
+package predictive;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder event for the loading of dictionary file in the constructor of a dictionary
+ * The duration of the event is the whole loading, and the time is split into three phases that added
+ * for every line : reading the line from the file, parsing the line (lower case, checking, and signature)
+ * and inserting the word to the dictionary (for the sorted dictionaries, the sort and the build of the arrays)
+ * The phases are only timed when the event is enabled in the recording, so the loading without recording
+ * doesn't call System.nanoTime for every line
+ * jdk.jfr is part of the Java SE API from Java 11, so the project is compiled for Java 11
+ * @author Hans Sean Nathanael
+ *
+ */
+@Name("predictive.DictionaryLoad")
+@Label("Dictionary Load")
+@Category("Predictive Dictionary")
+@Description("Loading of dictionary file by the constructor of a dictionary")
+public class DictionaryLoadEvent extends Event {
+
+	@Label("Dictionary Class")
+	private String dictionaryClass;
+
+	@Label("Path")
+	private String path;
+
+	@Label("Word Count")
+	@Description("Number of valid words read from the file (the same word could be counted more than once)")
+	private int wordCount;
+
+	@Label("Read Time")
+	@Timespan(Timespan.NANOSECONDS)
+	private long readTime;
+
+	@Label("Parse Time")
+	@Timespan(Timespan.NANOSECONDS)
+	private long parseTime;
+
+	@Label("Insert Time")
+	@Timespan(Timespan.NANOSECONDS)
+	private long insertTime;
+
+	// true if the event is enabled, so the phases need to be timed (transient fields are not recorded)
+	private transient boolean isTimed;
+
+	// time when the current phase is started
+	private transient long phaseStartTime;
+
+	/**
+	 * Constructor of the event, the event is begun by this constructor
+	 * @param dictionaryClass : class of the dictionary (or the builder of the dictionary) that load the file
+	 * @param path : directory path to dictionary file
+	 */
+	DictionaryLoadEvent(Class<?> dictionaryClass, String path)
+	{
+		this.dictionaryClass = dictionaryClass.getSimpleName();
+		this.path = path;
+		this.isTimed = this.isEnabled();
+		this.begin();
+		if (this.isTimed)
+		{
+			this.phaseStartTime = System.nanoTime();
+		}
+	}
+
+	/**
+	 * Method to end the reading phase of a line, the next phase is started
+	 */
+	void endRead()
+	{
+		if (this.isTimed)
+		{
+			long now = System.nanoTime();
+			this.readTime += now - this.phaseStartTime;
+			this.phaseStartTime = now;
+		}
+	}
+
+	/**
+	 * Method to end the parsing phase of a line, the next phase is started
+	 */
+	void endParse()
+	{
+		if (this.isTimed)
+		{
+			long now = System.nanoTime();
+			this.parseTime += now - this.phaseStartTime;
+			this.phaseStartTime = now;
+		}
+	}
+
+	/**
+	 * Method to end the inserting phase of a word, the next phase is started
+	 */
+	void endInsert()
+	{
+		if (this.isTimed)
+		{
+			long now = System.nanoTime();
+			this.insertTime += now - this.phaseStartTime;
+			this.phaseStartTime = now;
+		}
+	}
+
+	/**
+	 * Method to count one valid word
+	 */
+	void countWord()
+	{
+		this.wordCount += 1;
+	}
+
+	/**
+	 * Method to count many valid words at once, for the loading that doesn't check the words one by one
+	 * (the words checked in parallel, or the words of a compiled image)
+	 * @param count : number of valid words
+	 */
+	void countWords(int count)
+	{
+		this.wordCount += count;
+	}
+
+	/**
+	 * Method to end and record the event
+	 */
+	void finish()
+	{
+		this.end();
+		this.commit();
+	}
+}
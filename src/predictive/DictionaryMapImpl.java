@@ -1,8 +1,10 @@
 package predictive;
 
 import java.io.BufferedReader;
-import java.io.FileReader;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -15,18 +17,6 @@ import java.util.Set;
  */
 public class DictionaryMapImpl implements Dictionary {
 
-	// this array signatureOfChar used to simplify function wordToSignature
-	// The length is 26 representing all the alphabet a-z
-	// index 0 is for 'a', index 1 for 'b', and so on until last index (index 25) for 'z'
-	private char signatureOfChar[] = {'2', '2', '2',
-									  '3', '3', '3',
-									  '4', '4', '4',
-									  '5', '5', '5',
-									  '6', '6', '6',
-									  '7', '7', '7', '7',
-									  '8', '8', '8',
-									  '9', '9', '9', '9'};
-	
 	// mapDictionaryWords used to store all words in dictionary file
 	// the key is signature (in String) and the value was Set of words that have same signature
 	// HashMap is used because it is the fastest Map implementation (average constant time O(1) for lookup)
@@ -36,43 +26,80 @@ public class DictionaryMapImpl implements Dictionary {
 	// For the value Set it is better to use HashSet because the same reason with HashMap
 	private Map<String, Set<String>> mapDictionaryWords = new HashMap<String, Set<String>>();
 	
+	// keypad layout used to convert the words to signature
+	private KeypadLayout layout = KeypadLayout.STANDARD;
+	
 	/**
 	 * Constructor of this class
 	 * all words in dictionary file will be stored in mapDictionaryWords
 	 */
 	public DictionaryMapImpl()
 	{
+		this("assets/words");
+	}
+	
+	/**
+	 * Constructor of this class
+	 * all words in dictionary file will be stored in mapDictionaryWords
+	 * @param path : directory path to dictionary file
+	 */
+	public DictionaryMapImpl(String path)
+	{
+		this(path, KeypadLayout.STANDARD);
+	}
+	
+	/**
+	 * Constructor of this class
+	 * all words in dictionary file will be stored in mapDictionaryWords
+	 * @param path : directory path to dictionary file
+	 * @param layout : keypad layout used to convert the words to signature
+	 */
+	public DictionaryMapImpl(String path, KeypadLayout layout)
+	{
+		this.layout = layout;
+		
+		// the time of reading, parsing, and inserting is recorded by Java Flight Recorder
+		DictionaryLoadEvent loadEvent = new DictionaryLoadEvent(DictionaryMapImpl.class, path);
 		
 		try
 		{
 			// fileReader used to read every line of dictionary file
 			// BufferedReader is faster than Scanner when used to read every line of a file one by one
-			BufferedReader fileReader = new BufferedReader(new FileReader("assets/words"));
+			BufferedReader fileReader = new BufferedReader(new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8));
 			
 			// fileOneLine used to store a line of string that have been read by fileReader
 			String fileOneLine = null;
 			
+			// lineParser change the line to lower case, remove the frequency, and check the word
+			DictionaryLineParser lineParser = new DictionaryLineParser(this.layout);
+			
 			// read every line of dictionary file
 			while((fileOneLine = fileReader.readLine()) != null)
 			{
-				// changed to lower case for easier comparison and because
-				// all words need to stored in lower case
-				fileOneLine = fileOneLine.toLowerCase();
+				loadEvent.endRead();
 				
-				// word containing non alphabet will be skipped
-				if (isValidWord(fileOneLine))
+				// word containing character that is not on the keypad will be skipped
+				if (lineParser.parse(fileOneLine))
 				{
 					
 					// must checked if the key already exist, if not exist then must
 					// create new HashSet for the value (must not forget, if not could
 					// lead to null exception), but if the key already exist then just
 					// add new word to the HashSet on that mapped key
-					String keyFromSignatureOfWord = wordToSignature(fileOneLine);
+					String keyFromSignatureOfWord = lineParser.getSignature();
+					loadEvent.endParse();
+					loadEvent.countWord();
+					
 					if (mapDictionaryWords.containsKey(keyFromSignatureOfWord) == false)
 					{
 						mapDictionaryWords.put(keyFromSignatureOfWord, new HashSet<String>());
 					}
-					mapDictionaryWords.get(keyFromSignatureOfWord).add(fileOneLine);
+					mapDictionaryWords.get(keyFromSignatureOfWord).add(lineParser.getWord());
+					loadEvent.endInsert();
+				}
+				else
+				{
+					loadEvent.endParse();
 				}
 			}
 			
@@ -83,42 +110,44 @@ public class DictionaryMapImpl implements Dictionary {
 		{
 			e.printStackTrace();
 		}
+		
+		loadEvent.finish();
+	}
+	
+	/**
+	 * Constructor of this class with map of words that already created (by ParallelDictionaryBuilder)
+	 * @param mapDictionaryWords : map of signature to set of words that have the signature
+	 * @param layout : keypad layout used to convert the words to signature
+	 */
+	DictionaryMapImpl(Map<String, Set<String>> mapDictionaryWords, KeypadLayout layout)
+	{
+		this.mapDictionaryWords = mapDictionaryWords;
+		this.layout = layout;
 	}
 	
 	@Override
 	public String wordToSignature(String word)
 	{
-		// This algorithm use array signatureOfChar rather than 'nested if'
-		// 'Nested if' make program longer, by this it will easier to read
+		// Convert a string of word to a signature (number)
+		// "Hello" become "43556" not "4433555555666"
+		// the characters are converted by the keypad layout to a char array, so the only new object
+		// is the char array and the String of signature (no StringBuffer and no lower case copy of the word)
 		
-		// signatureStringBuffer is used to make the signature of the word
-		// StringBuffer is used to make signature string rather than using String
-		// because it is faster to append a string especially appending many times using loop
-		// when append a string using '+', the string converted to StringBuffer and then
-		// append the StringBuffer, then convert it back to String, it is faster
-		// by just using StringBuffer, no need convert it to String every time it is appended
-		StringBuffer signatureStringBuffer = new StringBuffer("");
-
-		// word must no null to be converted
+		// the word must not null to be converted
 		if (word == null)
 		{
 			return word;
 		}
-		word = word.toLowerCase(); // to the word become lower case so it's easier to converted
 		
-		for(int i = 0; i < word.length(); i++)
-		{
-			if (word.charAt(i) >= 'a' && word.charAt(i) <= 'z')
-			{
-				signatureStringBuffer.append(signatureOfChar[word.charAt(i)- 'a']);
-			}
-			else
-			{
-				signatureStringBuffer.append(" "); // for non alphabet changed to " " (space)
-			}
-		}
-		
-		return signatureStringBuffer.toString();
+		// the signature have the same length with the word
+		char signature[] = new char[word.length()];
+		return new String(signature, 0, this.layout.wordToSignature(word, signature));
+	}
+	
+	@Override
+	public KeypadLayout getLayout()
+	{
+		return this.layout;
 	}
 	
 	@Override
@@ -136,24 +165,6 @@ public class DictionaryMapImpl implements Dictionary {
 		return new HashSet<String>();
 	}
 	
-	/**
-	 * Method to check if a string just contain alphabet characters
-	 * @param word : string to be checked
-	 * @return true if the word just contain alphabet character (lower case), 
-	 *         false if it contain non alphabet character (lower case)
-	 */
-	private boolean isValidWord(String word)
-	{
-		for (int i = 0; i < word.length(); i++)
-		{
-			if (word.charAt(i) < 'a' || word.charAt(i) > 'z')
-			{
-				return false;
-			}
-		}
-		return true;
-	}
-	
 	/**
 	 * Method to check if a string contain non numerical
 	 * @param word : string to be checked
@@ -0,0 +1,319 @@
+package predictive;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * This class is used to search words from binary dictionary image made by DictionaryCompiler
+ * the image is memory mapped, so the words don't need to be read and stored again every time
+ * the program started, and the image is shared (page cache) by every program that open it
+ * @author Hans Sean Nathanael
+ *
+ */
+public class DictionaryMappedImpl implements Dictionary {
+
+	// the memory mapped image, it's never changed (position and limit) after the constructor
+	// so it's safe to be read by absolute get from many thread
+	private ByteBuffer mappedDictionary = ByteBuffer.allocate(0);
+
+	// number of signature and words in the image
+	private int signatureCount = 0;
+	private int wordCount = 0;
+
+	// position of every part of the image (see DictionaryCompiler for the format)
+	private int signatureOffsetsPosition = 0;
+	private int firstWordsPosition = 0;
+	private int wordOffsetsPosition = 0;
+	private int signatureBytesPosition = 0;
+	private int wordBytesPosition = 0;
+
+	// keypad layout used to convert the words to signature, the same layout used by DictionaryCompiler
+	private KeypadLayout layout = KeypadLayout.STANDARD;
+
+	/**
+	 * Constructor of this class, the binary dictionary image will be memory mapped
+	 * @param imagePath : directory path to binary dictionary image made by DictionaryCompiler
+	 */
+	public DictionaryMappedImpl(String imagePath)
+	{
+		this(imagePath, KeypadLayout.STANDARD);
+	}
+
+	/**
+	 * Constructor of this class, the binary dictionary image will be memory mapped
+	 * @param imagePath : directory path to binary dictionary image made by DictionaryCompiler
+	 * @param layout : keypad layout used to compile the image
+	 */
+	public DictionaryMappedImpl(String imagePath, KeypadLayout layout)
+	{
+		this.layout = layout;
+
+		// the time of mapping the image (read) and checking the header (parse) is recorded by Java Flight Recorder,
+		// the words are not inserted to anything, so there's no insert time
+		DictionaryLoadEvent loadEvent = new DictionaryLoadEvent(DictionaryMappedImpl.class, imagePath);
+
+		try
+		{
+			RandomAccessFile imageFile = new RandomAccessFile(imagePath, "r");
+			try
+			{
+				// the mapped buffer is still valid after the file is closed
+				FileChannel imageChannel = imageFile.getChannel();
+				MappedByteBuffer mappedImage = imageChannel.map(FileChannel.MapMode.READ_ONLY, 0, imageChannel.size());
+				loadEvent.endRead();
+
+				if (mappedImage.capacity() < DictionaryCompiler.HEADER_SIZE ||
+					mappedImage.getInt(0) != DictionaryCompiler.MAGIC_NUMBER)
+				{
+					throw new IOException(imagePath + " is not a dictionary image");
+				}
+				if (mappedImage.getInt(4) != DictionaryCompiler.VERSION)
+				{
+					throw new IOException(imagePath + " have version " + mappedImage.getInt(4) +
+										  ", expected version " + DictionaryCompiler.VERSION);
+				}
+
+				int signatureCountOfImage = mappedImage.getInt(8);
+				int wordCountOfImage = mappedImage.getInt(12);
+				int signatureBytesLength = mappedImage.getInt(16);
+
+				// the position of every part, all of them are after the header
+				this.signatureOffsetsPosition = DictionaryCompiler.HEADER_SIZE;
+				this.firstWordsPosition = this.signatureOffsetsPosition + (signatureCountOfImage + 1) * 4;
+				this.wordOffsetsPosition = this.firstWordsPosition + (signatureCountOfImage + 1) * 4;
+				this.signatureBytesPosition = this.wordOffsetsPosition + (wordCountOfImage + 1) * 4;
+				this.wordBytesPosition = this.signatureBytesPosition + signatureBytesLength;
+
+				if (this.wordBytesPosition + mappedImage.getInt(20) != mappedImage.capacity())
+				{
+					throw new IOException(imagePath + " is not complete");
+				}
+
+				this.signatureCount = signatureCountOfImage;
+				this.wordCount = wordCountOfImage;
+				this.mappedDictionary = mappedImage;
+				loadEvent.countWords(wordCountOfImage);
+				loadEvent.endParse();
+			}
+			finally
+			{
+				// don't forget to close the file
+				imageFile.close();
+			}
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+
+		loadEvent.finish();
+	}
+
+	/**
+	 * Method to get how many words in the dictionary
+	 * @return number of words in the dictionary
+	 */
+	public int getWordCount()
+	{
+		return this.wordCount;
+	}
+
+	@Override
+	public String wordToSignature(String word)
+	{
+		// Convert a string of word to a signature (number)
+		// "Hello" become "43556" not "4433555555666"
+		// the characters are converted by the keypad layout to a char array, so the only new object
+		// is the char array and the String of signature (no StringBuffer and no lower case copy of the word)
+
+		// the word must not null to be converted
+		if (word == null)
+		{
+			return word;
+		}
+
+		// the signature have the same length with the word
+		char signature[] = new char[word.length()];
+		return new String(signature, 0, this.layout.wordToSignature(word, signature));
+	}
+
+	@Override
+	public KeypadLayout getLayout()
+	{
+		return this.layout;
+	}
+
+	@Override
+	public Set<String> signatureToWords(String signature)
+	{
+		// HashSet to store all words with the signature
+		Set<String> matchedPossibleWord = new HashSet<String>();
+
+		// all char of signature must be numeric
+		if (signature.length() > 0 && isNumericWord(signature))
+		{
+			int signatureIndex = this.findSignature(signature);
+			if (signatureIndex >= 0)
+			{
+				int lastWord = this.mappedDictionary.getInt(this.firstWordsPosition + (signatureIndex + 1) * 4);
+				for (int i = this.mappedDictionary.getInt(this.firstWordsPosition + signatureIndex * 4); i < lastWord; i++)
+				{
+					matchedPossibleWord.add(this.getWord(i));
+				}
+			}
+		}
+
+		return matchedPossibleWord;
+	}
+
+	@Override
+	public Iterator<String> signatureToWordsIterator(String signature)
+	{
+		// all char of signature must be numeric
+		if (signature.length() > 0 && isNumericWord(signature))
+		{
+			final int signatureIndex = this.findSignature(signature);
+			if (signatureIndex >= 0)
+			{
+				// the String of the word is only made when the word is taken
+				return new Iterator<String>() {
+
+					// index of the next word in the image and index after the last word of the signature
+					private int wordIndex = mappedDictionary.getInt(firstWordsPosition + signatureIndex * 4);
+					private int lastWord = mappedDictionary.getInt(firstWordsPosition + (signatureIndex + 1) * 4);
+
+					@Override
+					public boolean hasNext()
+					{
+						return this.wordIndex < this.lastWord;
+					}
+
+					@Override
+					public String next()
+					{
+						if (this.hasNext() == false)
+						{
+							throw new NoSuchElementException();
+						}
+
+						this.wordIndex += 1;
+						return getWord(this.wordIndex - 1);
+					}
+				};
+			}
+		}
+
+		return Collections.<String>emptyIterator();
+	}
+
+	/**
+	 * Method to find a signature in the image using binary search, the signatures are sorted in the image
+	 * @param signature : signature to be searched
+	 * @return index of the signature, or -1 if the signature doesn't exist
+	 */
+	private int findSignature(String signature)
+	{
+		int low = 0;
+		int high = this.signatureCount - 1;
+
+		while (low <= high)
+		{
+			int middle = (low + high) >>> 1;
+			int comparison = this.compareSignature(middle, signature);
+
+			if (comparison < 0)
+			{
+				low = middle + 1;
+			}
+			else if (comparison > 0)
+			{
+				high = middle - 1;
+			}
+			else
+			{
+				return middle;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Method to compare signature in the image with a signature, the same as String.compareTo
+	 * but without making String from the image
+	 * @param signatureIndex : index of signature in the image
+	 * @param signature : signature to be compared
+	 * @return negative if signature in the image is smaller, 0 if equal, positive if bigger
+	 */
+	private int compareSignature(int signatureIndex, String signature)
+	{
+		int start = this.mappedDictionary.getInt(this.signatureOffsetsPosition + signatureIndex * 4);
+		int length = this.mappedDictionary.getInt(this.signatureOffsetsPosition + (signatureIndex + 1) * 4) - start;
+
+		for (int i = 0; i < length && i < signature.length(); i++)
+		{
+			int difference = this.mappedDictionary.get(this.signatureBytesPosition + start + i) - signature.charAt(i);
+			if (difference != 0)
+			{
+				return difference;
+			}
+		}
+
+		return length - signature.length();
+	}
+
+	/**
+	 * Method to make String of a word in the image
+	 * @param wordIndex : index of word in the image
+	 * @return the word
+	 */
+	private String getWord(int wordIndex)
+	{
+		int start = this.mappedDictionary.getInt(this.wordOffsetsPosition + wordIndex * 4);
+		int end = this.mappedDictionary.getInt(this.wordOffsetsPosition + (wordIndex + 1) * 4);
+
+		char word[] = new char[end - start];
+		for (int i = 0; i < word.length; i++)
+		{
+			byte wordByte = this.mappedDictionary.get(this.wordBytesPosition + start + i);
+			if (wordByte < 0)
+			{
+				// not ASCII, the word is decoded from UTF-8 (more than one byte for a character)
+				byte wordBytes[] = new byte[end - start];
+				for (int j = 0; j < wordBytes.length; j++)
+				{
+					wordBytes[j] = this.mappedDictionary.get(this.wordBytesPosition + start + j);
+				}
+				return new String(wordBytes, StandardCharsets.UTF_8);
+			}
+			word[i] = (char)wordByte;
+		}
+		return new String(word);
+	}
+
+	/**
+	 * Method to check if a all string characters are numeric with range from 2 to 9
+	 * @param word : string to be checked
+	 * @return true if string just contain numeric, false if there's one or more non numeric or '1' in string
+	 */
+	private boolean isNumericWord(String word)
+	{
+		for (int i = 0; i < word.length(); i++)
+		{
+			if (word.charAt(i) < '2' || word.charAt(i) > '9')
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,323 @@
+package predictive;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class is used to store all words in dictionary using map like DictionaryMapImpl, but the key
+ * is signature packed into a long and the map is an open addressing hash table made of primitive arrays
+ * Signature is packed 3 bits each character (signature 2 is 000, 3 is 001, until 9 is 111) after one bit 1
+ * as the beginning mark, so "2" (1 000) and "22" (1 000 000) are different, this can pack signature
+ * until 21 characters (see SignatureConverter), longer signature is stored in a normal HashMap
+ * @author Hans Sean Nathanael
+ *
+ */
+public class DictionaryPackedMapImpl implements Dictionary {
+
+	// packed signature always have the beginning mark bit, so it's never INVALID_PACKED_SIGNATURE (0)
+	// and can be used to mark the empty slot of the table
+	private static final long EMPTY_KEY = SignatureConverter.INVALID_PACKED_SIGNATURE;
+
+	// all words in dictionary sorted by it's signature (and then by the word itself)
+	// so all words with the same signature are in one range of this array
+	// the words are stored in one byte array, the String is only created when the word is returned
+	private WordArena dictionaryWords = new WordArena(Collections.<String>emptyList());
+
+	// the hash table, slot i have key tableKeys[i] and it's words are in dictionaryWords from index
+	// tableFirstWord[i] until tableFirstWord[i] + tableWordCount[i] (exclusive)
+	// the size is always power of two, so the slot can be found by (hash & tableMask)
+	private long tableKeys[] = new long[1];
+	private int tableFirstWord[] = new int[1];
+	private int tableWordCount[] = new int[1];
+	private int tableMask = 0;
+
+	// signature longer than SignatureConverter.MAX_PACKED_LENGTH, the value is the first word index and the word count
+	private Map<String, int[]> mapLongSignatureWords = new HashMap<String, int[]>();
+
+	// keypad layout used to convert the words to signature
+	private KeypadLayout layout = KeypadLayout.STANDARD;
+
+	/**
+	 * Constructor of this class
+	 * all words in dictionary file will be stored in the hash table
+	 * @param path : directory path to dictionary file
+	 */
+	public DictionaryPackedMapImpl(String path)
+	{
+		this(path, KeypadLayout.STANDARD);
+	}
+
+	/**
+	 * Constructor of this class
+	 * all words in dictionary file will be stored in the hash table
+	 * @param path : directory path to dictionary file
+	 * @param layout : keypad layout used to convert the words to signature
+	 */
+	public DictionaryPackedMapImpl(String path, KeypadLayout layout)
+	{
+		this.layout = layout;
+
+		// all valid words from dictionary file paired with it's signature
+		List<WordSig> listDictionaryWords = new ArrayList<WordSig>();
+
+		// the time of reading, parsing, and inserting (sort and build the table) is recorded by Java Flight Recorder
+		DictionaryLoadEvent loadEvent = new DictionaryLoadEvent(DictionaryPackedMapImpl.class, path);
+
+		try
+		{
+			// fileReader used to read every line of dictionary file
+			// BufferedReader is faster than Scanner when used to read every line of a file one by one
+			BufferedReader fileReader = new BufferedReader(new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8));
+
+			// fileOneLine used to store a line of string that have been read by fileReader
+			String fileOneLine = null;
+
+			// lineParser change the line to lower case, remove the frequency, and check the word
+			DictionaryLineParser lineParser = new DictionaryLineParser(this.layout);
+
+			while((fileOneLine = fileReader.readLine()) != null)
+			{
+				loadEvent.endRead();
+
+				// word containing character that is not on the keypad and empty line will be skipped
+				if (lineParser.parse(fileOneLine))
+				{
+					listDictionaryWords.add(new WordSig(lineParser.getSignature(), lineParser.getWord()));
+					loadEvent.countWord();
+				}
+				loadEvent.endParse();
+			}
+
+			// don't forget to close the BufferedReader
+			fileReader.close();
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+
+		// sorted by signature so all words with the same signature are next to each other
+		// and then by the word so the same word is next to each other and can be removed
+		Collections.sort(listDictionaryWords, new Comparator<WordSig>() {
+
+			@Override
+			public int compare(WordSig first, WordSig second)
+			{
+				int comparison = first.compareTo(second);
+				if (comparison == 0)
+				{
+					comparison = first.getWord().compareTo(second.getWord());
+				}
+				return comparison;
+			}
+		});
+
+		this.buildTable(listDictionaryWords);
+		loadEvent.endInsert();
+		loadEvent.finish();
+	}
+
+	/**
+	 * Method to fill dictionaryWords and the hash table from the sorted words
+	 * @param listDictionaryWords : all words with it's signature, sorted by signature and then by word
+	 */
+	private void buildTable(List<WordSig> listDictionaryWords)
+	{
+		// the words without the same word, and all the different signature with index of it's first word
+		List<String> listWords = new ArrayList<String>(listDictionaryWords.size());
+		List<String> listSignatures = new ArrayList<String>();
+		List<Integer> listFirstWords = new ArrayList<Integer>();
+
+		for (WordSig element : listDictionaryWords)
+		{
+			if (listWords.size() > 0 && listWords.get(listWords.size() - 1).equals(element.getWord()))
+			{
+				continue;
+			}
+
+			if (listSignatures.size() == 0 ||
+				listSignatures.get(listSignatures.size() - 1).equals(element.getSignature()) == false)
+			{
+				listSignatures.add(element.getSignature());
+				listFirstWords.add(listWords.size());
+			}
+			listWords.add(element.getWord());
+		}
+		listFirstWords.add(listWords.size());
+
+		this.dictionaryWords = new WordArena(listWords);
+
+		// the table is at least twice the number of signature, so the slot is never more than half full
+		// and the linear probing stay short
+		int tableSize = 1;
+		while (tableSize < listSignatures.size() * 2)
+		{
+			tableSize *= 2;
+		}
+		this.tableKeys = new long[tableSize];
+		this.tableFirstWord = new int[tableSize];
+		this.tableWordCount = new int[tableSize];
+		this.tableMask = tableSize - 1;
+
+		for (int i = 0; i < listSignatures.size(); i++)
+		{
+			String signature = listSignatures.get(i);
+			int firstWord = listFirstWords.get(i);
+			int wordCount = listFirstWords.get(i + 1) - firstWord;
+
+			if (signature.length() > SignatureConverter.MAX_PACKED_LENGTH)
+			{
+				this.mapLongSignatureWords.put(signature, new int[] {firstWord, wordCount});
+				continue;
+			}
+
+			// the signature is never the same, so just need to find the empty slot
+			long key = SignatureConverter.packSignature(signature);
+			int slot = hashOf(key) & this.tableMask;
+			while (this.tableKeys[slot] != EMPTY_KEY)
+			{
+				slot = (slot + 1) & this.tableMask;
+			}
+
+			this.tableKeys[slot] = key;
+			this.tableFirstWord[slot] = firstWord;
+			this.tableWordCount[slot] = wordCount;
+		}
+	}
+
+	/**
+	 * Method to mix all bits of the packed signature, so the signatures that only different in the
+	 * first characters (high bits) are not in the same slot
+	 * @param key : packed signature
+	 * @return hash of the packed signature
+	 */
+	private static int hashOf(long key)
+	{
+		key ^= key >>> 33;
+		key *= 0xff51afd7ed558ccdL;
+		key ^= key >>> 33;
+		return (int)key;
+	}
+
+	@Override
+	public String wordToSignature(String word)
+	{
+		// Convert a string of word to a signature (number)
+		// "Hello" become "43556" not "4433555555666"
+		// the characters are converted by the keypad layout to a char array, so the only new object
+		// is the char array and the String of signature (no StringBuffer and no lower case copy of the word)
+
+		// the word must not null to be converted
+		if (word == null)
+		{
+			return word;
+		}
+
+		// the signature have the same length with the word
+		char signature[] = new char[word.length()];
+		return new String(signature, 0, this.layout.wordToSignature(word, signature));
+	}
+
+	@Override
+	public KeypadLayout getLayout()
+	{
+		return this.layout;
+	}
+
+	@Override
+	public Set<String> signatureToWords(String signature)
+	{
+		// HashSet to store all words with the signature
+		Set<String> matchedPossibleWord = new HashSet<String>();
+
+		int rangeOfWords[] = this.findWords(signature);
+		for (int i = rangeOfWords[0]; i < rangeOfWords[0] + rangeOfWords[1]; i++)
+		{
+			matchedPossibleWord.add(this.dictionaryWords.getWord(i));
+		}
+
+		return matchedPossibleWord;
+	}
+
+	@Override
+	public Iterator<String> signatureToWordsIterator(String signature)
+	{
+		// the words with the same signature are never the same, so just need to iterate the range
+		int rangeOfWords[] = this.findWords(signature);
+		return this.dictionaryWords.asList().subList(rangeOfWords[0], rangeOfWords[0] + rangeOfWords[1]).iterator();
+	}
+
+	/**
+	 * Method to find the range of words in dictionaryWords that have a certain signature
+	 * @param signature : signature of the words
+	 * @return array of index of the first word and the word count (word count 0 if the signature doesn't exist or not valid)
+	 */
+	private int[] findWords(String signature)
+	{
+		int firstWord = 0;
+		int wordCount = 0;
+
+		// must check if the signature is valid (not containing non numeric characters)
+		if (signature.length() == 0 || isNumericWord(signature) == false)
+		{
+			return new int[] {firstWord, wordCount};
+		}
+
+		if (signature.length() > SignatureConverter.MAX_PACKED_LENGTH)
+		{
+			int rangeOfWords[] = this.mapLongSignatureWords.get(signature);
+			if (rangeOfWords != null)
+			{
+				firstWord = rangeOfWords[0];
+				wordCount = rangeOfWords[1];
+			}
+		}
+		else
+		{
+			// linear probing until the key or an empty slot is found
+			long key = SignatureConverter.packSignature(signature);
+			int slot = hashOf(key) & this.tableMask;
+			while (this.tableKeys[slot] != EMPTY_KEY)
+			{
+				if (this.tableKeys[slot] == key)
+				{
+					firstWord = this.tableFirstWord[slot];
+					wordCount = this.tableWordCount[slot];
+					break;
+				}
+				slot = (slot + 1) & this.tableMask;
+			}
+		}
+
+		return new int[] {firstWord, wordCount};
+	}
+
+	/**
+	 * Method to check if a string contain non numerical
+	 * @param word : string to be checked
+	 * @return true if string just contain numeric, false if there's one or more non numeric in string
+	 */
+	private boolean isNumericWord(String word)
+	{
+		for (int i = 0; i < word.length(); i++)
+		{
+			if (word.charAt(i) < '2' || word.charAt(i) > '9')
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,81 @@
+package predictive;
+
+/**
+ * Interface of the statistics of dictionary search that can be read by JMX (like jconsole or VisualVM)
+ * All latency is in nanoseconds and only measured for signatureToWords
+ * @author Hans Sean Nathanael
+ *
+ */
+public interface DictionaryStatisticsMBean {
+	
+	/**
+	 * Method to get the number of searched signatures
+	 * @return number of signatures searched by signatureToWords and signaturesToWords
+	 */
+	long getLookupCount();
+	
+	/**
+	 * Method to get the number of search with at least one word found
+	 * @return number of search with non empty result
+	 */
+	long getHitCount();
+	
+	/**
+	 * Method to get the number of search without any word found (including invalid signature)
+	 * @return number of search with empty result
+	 */
+	long getMissCount();
+	
+	/**
+	 * Method to get the number of search of empty signature or signature with character outside 2-9
+	 * @return number of search with invalid signature
+	 */
+	long getInvalidSignatureCount();
+	
+	/**
+	 * Method to get the median latency of signatureToWords
+	 * @return latency in nanoseconds
+	 */
+	long getLatencyP50Nanos();
+	
+	/**
+	 * Method to get the 99th percentile latency of signatureToWords
+	 * @return latency in nanoseconds
+	 */
+	long getLatencyP99Nanos();
+	
+	/**
+	 * Method to get the 99.9th percentile latency of signatureToWords
+	 * @return latency in nanoseconds
+	 */
+	long getLatencyP999Nanos();
+	
+	/**
+	 * Method to get the biggest latency of signatureToWords
+	 * @return latency in nanoseconds
+	 */
+	long getLatencyMaxNanos();
+	
+	/**
+	 * Method to get the average latency of signatureToWords
+	 * @return latency in nanoseconds
+	 */
+	double getLatencyMeanNanos();
+	
+	/**
+	 * Method to get the number of search for every signature length
+	 * @return array of number of search, index i for signature with length i (the last index for the longer signature too)
+	 */
+	long[] getLookupCountByLength();
+	
+	/**
+	 * Method to get the average number of words found for every signature length
+	 * @return array of average number of words, index i for signature with length i (the last index for the longer signature too)
+	 */
+	double[] getAverageResultSizeByLength();
+	
+	/**
+	 * Method to remove all the statistics
+	 */
+	void reset();
+}
@@ -1,10 +1,24 @@
 package predictive;
 
 import java.io.BufferedReader;
-import java.io.FileReader;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * This class is used to store all words in dictionary using Tree (or Trie?)
@@ -15,17 +29,26 @@ import java.util.Set;
  */
 public class DictionaryTreeImpl implements Dictionary {
 
-	// this array signatureOfChar used to simplify function wordToSignature
-	// The length is 26 representing all the alphabet a-z
-	// index 0 is for 'a', index 1 for 'b', and so on until last index (index 25) for 'z'
-	private char signatureOfChar[] = {'2', '2', '2',
-									  '3', '3', '3',
-									  '4', '4', '4',
-									  '5', '5', '5',
-									  '6', '6', '6',
-									  '7', '7', '7', '7',
-									  '8', '8', '8',
-									  '9', '9', '9', '9'};
+	// maximum number of signatures of a batch searched by one task, bigger batch is split and searched in parallel
+	private static final int SIGNATURES_PER_TASK = 1024;
+
+	// keys next to every key (2-9) on the keypad, left, right, up, and down (not diagonal)
+	// 1 2 3
+	// 4 5 6
+	// 7 8 9
+	// bit i is signature i + 2, the same index as nextNode (1 and 0 are not signature)
+	private static final int ADJACENT_KEYS[] = {1 << 1 | 1 << 3,					// 2 : 3, 5
+												1 << 0 | 1 << 4,					// 3 : 2, 6
+												1 << 3 | 1 << 5,					// 4 : 5, 7
+												1 << 0 | 1 << 2 | 1 << 4 | 1 << 6,	// 5 : 2, 4, 6, 8
+												1 << 1 | 1 << 3 | 1 << 7,			// 6 : 3, 5, 9
+												1 << 2 | 1 << 6,					// 7 : 4, 8
+												1 << 3 | 1 << 5 | 1 << 7,			// 8 : 5, 7, 9
+												1 << 4 | 1 << 6};					// 9 : 6, 8
+
+	// keypad layout used to convert the words to signature, every node of the tree share the same layout
+	// (one reference each node, the conversion table is in the layout)
+	private KeypadLayout layout = KeypadLayout.STANDARD;
 
 	// setDictionaryWords used to store all words that have the match signature
 	private Set<String> setDictionaryWords = null;
@@ -36,6 +59,12 @@ public class DictionaryTreeImpl implements Dictionary {
 	// So, this array to represent signature of next character from signature 2 until 9 (8 signature)
 	private DictionaryTreeImpl nextNode[] = new DictionaryTreeImpl[8];
 	
+	// precomputedWords used to store all words in the sub branch of this node that already trimmed
+	// to the length of signature of this node (without the same word), so search by this node's
+	// signature doesn't need to walk all the sub branch again
+	// it's null if the node is deeper than the depth limit when the tree is created
+	private String precomputedWords[] = null;
+	
 	/**
 	 * Constructor of the dictionary tree, this will create the full tree containing
 	 * all valid words from dictionary file
@@ -44,31 +73,85 @@ public class DictionaryTreeImpl implements Dictionary {
 	 */
 	public DictionaryTreeImpl(String path)
 	{
+		this(path, 0);
+	}
+	
+	/**
+	 * Constructor of the dictionary tree, this will create the full tree containing
+	 * all valid words from dictionary file
+	 * @param path : directory path to dictionary file, if null it will just make the tree node, if not null
+	 * 		  the tree will be initialized
+	 * @param layout : keypad layout used to convert the words to signature
+	 */
+	public DictionaryTreeImpl(String path, KeypadLayout layout)
+	{
+		this(path, 0, layout);
+	}
+	
+	/**
+	 * Constructor of the dictionary tree, this will create the full tree containing
+	 * all valid words from dictionary file, and then precompute the result of search
+	 * for all signature with length until precomputedDepth
+	 * @param path : directory path to dictionary file, if null it will just make the tree node, if not null
+	 * 		  the tree will be initialized
+	 * @param precomputedDepth : maximum length of signature that the result is precomputed, 0 for no precomputed
+	 * 		  result (short signature have the biggest sub branch, so it's the most useful to be precomputed)
+	 */
+	public DictionaryTreeImpl(String path, int precomputedDepth)
+	{
+		this(path, precomputedDepth, KeypadLayout.STANDARD);
+	}
+	
+	/**
+	 * Constructor of the dictionary tree, this will create the full tree containing
+	 * all valid words from dictionary file, and then precompute the result of search
+	 * for all signature with length until precomputedDepth
+	 * @param path : directory path to dictionary file, if null it will just make the tree node, if not null
+	 * 		  the tree will be initialized
+	 * @param precomputedDepth : maximum length of signature that the result is precomputed, 0 for no precomputed
+	 * @param layout : keypad layout used to convert the words to signature (shared by all node)
+	 */
+	public DictionaryTreeImpl(String path, int precomputedDepth, KeypadLayout layout)
+	{
+		this.layout = layout;
+		
 		if (path != null)
 		{
+			// the time of reading, parsing, and inserting is recorded by Java Flight Recorder
+			DictionaryLoadEvent loadEvent = new DictionaryLoadEvent(DictionaryTreeImpl.class, path);
+			
 			try 
 			{
 				// fileReader is used to read all line of dictionary file
 				// BufferedReader used because it is faster than Scanner when used to
 				// read each line of file
-				BufferedReader fileReader = new BufferedReader(new FileReader(path));
+				BufferedReader fileReader = new BufferedReader(new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8));
 				
 				// string that used to store word that have been read from file
 				String fileOneLine = null;
 				
+				// lineParser change the line to lower case, remove the frequency, and check the word
+				DictionaryLineParser lineParser = new DictionaryLineParser(this.layout);
+				
 				while((fileOneLine = fileReader.readLine()) != null)
 				{
-					// changed to lower case for easier comparison and because
-					// all words need to stored in lower case
-					fileOneLine = fileOneLine.toLowerCase();
+					loadEvent.endRead();
 					
-					// must check is the word not contain non alphabet, because 
-					// words that contain non alphabet doesn't need to be stored
+					// must check is the word not contain character that is not on the keypad,
+					// because that words doesn't need to be stored
 					// and can't be retrieved even if stored
-					if (isValidWord(fileOneLine) && fileOneLine.length() > 0)
+					if (lineParser.parse(fileOneLine))
 					{
+						loadEvent.endParse();
+						loadEvent.countWord();
+						
 						// store the word in tree
-						this.insertNext((short)-1, fileOneLine);
+						this.insertNext((short)-1, lineParser.getWord());
+						loadEvent.endInsert();
+					}
+					else
+					{
+						loadEvent.endParse();
 					}
 				}
 				
@@ -79,9 +162,86 @@ public class DictionaryTreeImpl implements Dictionary {
 			{
 				e.printStackTrace();
 			}
+			
+			// precompute after all words inserted, because the precomputed words can't be changed
+			this.precomputeWords((short)-1, precomputedDepth);
+			loadEvent.endInsert();
+			loadEvent.finish();
 		}	
 	}
 	
+	/**
+	 * Recursive method to precompute the search result of every node until a certain depth
+	 * the deeper node is precomputed first, so this node just need to trim the precomputed words
+	 * of the next node, not walk all the sub branch
+	 * @param depth : index of signature this node represent (-1 for the root)
+	 * @param precomputedDepth : maximum length of signature that the result is precomputed
+	 */
+	void precomputeWords(short depth, int precomputedDepth)
+	{
+		if (depth + 1 >= precomputedDepth)
+		{
+			// the next node is deeper than the depth limit
+			return;
+		}
+		
+		for (DictionaryTreeImpl nextNodeElement : this.nextNode)
+		{
+			if (nextNodeElement != null)
+			{
+				nextNodeElement.precomputeWords((short)(depth + 1), precomputedDepth);
+				
+				// the next node represent signature with length depth + 2
+				Set<String> wordsOfNextNode = nextNodeElement.getWordsFromSignature("", (short)(depth + 2));
+				nextNodeElement.precomputedWords = wordsOfNextNode.toArray(new String[wordsOfNextNode.size()]);
+			}
+		}
+	}
+	
+	/**
+	 * Method to change the next node (child node) of this node, used to connect sub branch
+	 * that created separately (by ParallelDictionaryBuilder)
+	 * @param signature : signature (2-9) that represented by the next node
+	 * @param node : root of the sub branch
+	 */
+	void setNextNode(char signature, DictionaryTreeImpl node)
+	{
+		this.nextNode[signature - '2'] = node;
+	}
+	
+	/**
+	 * Method to estimate how many bytes of memory used by the precomputed words of this node and
+	 * all the sub branch, the estimation is based on 64 bit JVM with compressed reference and compact string
+	 * (String object 24 bytes, byte array 16 bytes plus 1 byte each character, and 4 bytes for the reference)
+	 * the word that not trimmed (the same object with the word stored in setDictionaryWords) still counted
+	 * @return estimation of memory cost of precomputed words in bytes
+	 */
+	public long getPrecomputedMemoryCost()
+	{
+		long memoryCost = 0;
+		
+		if (this.precomputedWords != null)
+		{
+			// array of reference
+			memoryCost += 16 + 4L * this.precomputedWords.length;
+			
+			for (String element : this.precomputedWords)
+			{
+				memoryCost += 24 + 16 + element.length();
+			}
+		}
+		
+		for (DictionaryTreeImpl nextNodeElement : this.nextNode)
+		{
+			if (nextNodeElement != null && nextNodeElement.precomputedWords != null)
+			{
+				memoryCost += nextNodeElement.getPrecomputedMemoryCost();
+			}
+		}
+		
+		return memoryCost;
+	}
+	
 	/**
 	 * Recursive method to insert node to the tree, the tree algorithm are different than
 	 * binary search tree or normal tree, because this tree will make all node until the
@@ -90,7 +250,7 @@ public class DictionaryTreeImpl implements Dictionary {
 	 * @param depth : index of word-character's signature
 	 * @param words : words to be inserted to the tree dictionary (all character must lower case)
 	 */
-	private void insertNext(short depth, String words)
+	void insertNext(short depth, String words)
 	{
 		if (depth == words.length() - 1)
 		{
@@ -109,25 +269,23 @@ public class DictionaryTreeImpl implements Dictionary {
 			
 			setDictionaryWords.add(words);
 		}
-		else if (this.nextNode[signatureOfChar[words.charAt(depth + 1)-'a'] -'2'] == null)
-		{
-			// the if condition may be really hard to understand, here's explanation
-			// it's basically check is the next node that represent next signature still null (not exist)
-			// this.depth + 1 represent next character index
-			// it takes character at this.depth + 1 index and subtracted by 'a' 
-			// to become index for signatureOfChar (this actually convert char into signature)
-			// then the char of index subtracted by '2' to get index for nextNode
-			// because nextNode first index to represent signature '2'
-			 
-			// because it is null, then it must be created first and then walk again to
-			// the required location of the leaf
-			this.nextNode[signatureOfChar[words.charAt(depth + 1)-'a'] -'2'] = new DictionaryTreeImpl(null);
-			this.nextNode[signatureOfChar[words.charAt(depth + 1)-'a'] -'2'].insertNext((short)(depth + 1), words);
-		}
 		else
 		{
-			// because next node already exist, it just need to call this recursive again
-			this.nextNode[signatureOfChar[words.charAt(depth + 1)-'a'] -'2'].insertNext((short)(depth + 1), words);
+			// index of the next node that represent next signature
+			// depth + 1 represent next character index, the character is converted into signature
+			// by the layout, then subtracted by '2' to get index for nextNode
+			// because nextNode first index to represent signature '2'
+			int nextIndex = this.layout.signatureOf(words.charAt(depth + 1)) - '2';
+			
+			if (this.nextNode[nextIndex] == null)
+			{
+				// because it is null, then it must be created first (with the same layout)
+				// and then walk again to the required location of the leaf
+				this.nextNode[nextIndex] = new DictionaryTreeImpl(null, 0, this.layout);
+			}
+			
+			// walk to the next node, this recursive is called again
+			this.nextNode[nextIndex].insertNext((short)(depth + 1), words);
 		}
 	}
 	
@@ -149,6 +307,19 @@ public class DictionaryTreeImpl implements Dictionary {
 			
 			// HashSet to store all words with the same prefix
 			Set<String> allWordsWithSamePrefix = new HashSet<String>();
+			
+			if (this.precomputedWords != null)
+			{
+				// all words in sub branch already trimmed to the signature length of this node
+				// which is never shorter than length, so just need to trim it again
+				// substring return the same String if the length is the same
+				for (String element : this.precomputedWords)
+				{
+					allWordsWithSamePrefix.add(element.substring(0, length));
+				}
+				return allWordsWithSamePrefix;
+			}
+			
 			if (this.setDictionaryWords != null)
 			{
 				// don't forget to add the current node words if it is exist
@@ -189,37 +360,24 @@ public class DictionaryTreeImpl implements Dictionary {
 	{
 		// Convert a string of word to a signature (number)
 		// "Hello" become "43556" not "4433555555666"
-		// This algorithm use array signatureOfChar rather than 'nested if'
-		// 'Nested if' make program longer, by this it will easier to read
-		
-		// signatureStringBuffer is used to make the signature of the word
-		// StringBuffer is used to make signature string rather than using String
-		// because it is faster to append a string especially appending many times using loop
-		// when append a string using '+', the string converted to StringBuffer and then
-		// append the StringBuffer, then convert it back to String, it is faster
-		// by just using StringBuffer, no need convert it to String every time it is appended
-		StringBuffer signatureStringBuffer = new StringBuffer("");
+		// the characters are converted by the keypad layout to a char array, so the only new object
+		// is the char array and the String of signature (no StringBuffer and no lower case copy of the word)
 		
 		// the word must not null to be converted
 		if (word == null)
 		{
 			return word;
 		}
-		word = word.toLowerCase(); // to the word become lower case so it's easier to converted
 		
-		for(int i = 0; i < word.length(); i++)
-		{
-			if (word.charAt(i) >= 'a' && word.charAt(i) <= 'z')
-			{
-				signatureStringBuffer.append(signatureOfChar[word.charAt(i)- 'a' ]);
-			}
-			else
-			{
-				signatureStringBuffer.append(" "); // for non alphabet changed to " " (space)
-			}
-		}
-		
-		return signatureStringBuffer.toString();
+		// the signature have the same length with the word
+		char signature[] = new char[word.length()];
+		return new String(signature, 0, this.layout.wordToSignature(word, signature));
+	}
+	
+	@Override
+	public KeypadLayout getLayout()
+	{
+		return this.layout;
 	}
 	
 	@Override
@@ -240,21 +398,499 @@ public class DictionaryTreeImpl implements Dictionary {
 		return new HashSet<String>();
 	}
 	
+	@Override
+	public List<Set<String>> signaturesToWords(Collection<String> signatures)
+	{
+		final String batchSignatures[] = signatures.toArray(new String[signatures.size()]);
+		
+		// index of the signatures sorted by the signature, so the signatures with the same prefix are next
+		// to each other and the nodes of the prefix are walked only once for all of them
+		Integer sortedIndex[] = new Integer[batchSignatures.length];
+		for (int i = 0; i < sortedIndex.length; i++)
+		{
+			sortedIndex[i] = i;
+		}
+		Arrays.sort(sortedIndex, new Comparator<Integer>() {
+			
+			@Override
+			public int compare(Integer first, Integer second)
+			{
+				return batchSignatures[first].compareTo(batchSignatures[second]);
+			}
+		});
+		
+		// every index is set exactly once, by one task only
+		List<Set<String>> listWords = new ArrayList<Set<String>>(Collections.<Set<String>>nCopies(batchSignatures.length, null));
+		
+		if (batchSignatures.length > SIGNATURES_PER_TASK)
+		{
+			// the join of the tasks make the result seen by this thread
+			ForkJoinPool.commonPool().invoke(new SearchSignaturesTask(this, batchSignatures, sortedIndex, 0, sortedIndex.length, listWords));
+		}
+		else
+		{
+			this.searchSortedSignatures(batchSignatures, sortedIndex, 0, sortedIndex.length, listWords);
+		}
+		
+		return listWords;
+	}
+	
 	/**
-	 * Method to check if a string just contain alphabet characters
-	 * @param word : string to be checked
-	 * @return true if the word just contain alphabet, false if it contain non alphabet
+	 * Method to search the words of a range of sorted signatures, the nodes of the same prefix
+	 * with the previous signature are taken again from the list of visited nodes, not walked from the root
+	 * @param batchSignatures : all signatures of the batch in the input order
+	 * @param sortedIndex : index of the signatures sorted by the signature
+	 * @param start : first position in sortedIndex that will be searched
+	 * @param end : position after the last position in sortedIndex that will be searched
+	 * @param listWords : list to store the words, the words of batchSignatures[i] is stored in index i
 	 */
-	private boolean isValidWord(String word)
+	private void searchSortedSignatures(String batchSignatures[], Integer sortedIndex[], int start, int end,
+										List<Set<String>> listWords)
 	{
-		for (int i = 0; i < word.length(); i++)
+		// visitedNodes.get(i) is the node of the first i + 1 characters of the previous signature (null if not exist)
+		List<DictionaryTreeImpl> visitedNodes = new ArrayList<DictionaryTreeImpl>();
+		String previousSignature = "";
+		Set<String> previousWords = null;
+		
+		for (int i = start; i < end; i++)
 		{
-			if (word.charAt(i) < 'a' || word.charAt(i) > 'z')
+			int index = sortedIndex[i];
+			String signature = batchSignatures[index];
+			
+			// the same check with signatureToWords
+			if (signature.length() == 0 || isNumericWord(signature) == false)
 			{
-				return false;
+				listWords.set(index, new HashSet<String>());
+				continue;
 			}
+			
+			// the same signature is next to each other, every index must have it's own set
+			if (previousWords != null && signature.equals(previousSignature))
+			{
+				listWords.set(index, new HashSet<String>(previousWords));
+				continue;
+			}
+			
+			// the nodes after the same prefix with the previous signature are not needed anymore
+			int sameLength = 0;
+			while (sameLength < signature.length() && sameLength < previousSignature.length() &&
+				   signature.charAt(sameLength) == previousSignature.charAt(sameLength))
+			{
+				sameLength += 1;
+			}
+			while (visitedNodes.size() > sameLength)
+			{
+				visitedNodes.remove(visitedNodes.size() - 1);
+			}
+			
+			// walk only the characters after the same prefix
+			DictionaryTreeImpl node = sameLength == 0 ? this : visitedNodes.get(sameLength - 1);
+			for (int j = sameLength; j < signature.length(); j++)
+			{
+				if (node != null)
+				{
+					node = node.nextNode[signature.charAt(j) - '2'];
+				}
+				visitedNodes.add(node);
+			}
+			
+			previousWords = node == null ? new HashSet<String>() : node.getWordsFromSignature("", (short)signature.length());
+			previousSignature = signature;
+			listWords.set(index, previousWords);
+		}
+	}
+	
+	/**
+	 * Task to search the words of a range of sorted signatures, the range will be split into two task if it's too big
+	 * @author Hans Sean Nathanael
+	 *
+	 */
+	private static class SearchSignaturesTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		// the dictionary tree that is searched
+		private DictionaryTreeImpl dictionary;
+		
+		// all signatures of the batch and the index of the signatures sorted by the signature
+		private String batchSignatures[];
+		private Integer sortedIndex[];
+		
+		// the range of sortedIndex searched by this task (end is exclusive)
+		private int start;
+		private int end;
+		
+		// list to store the words of every signature
+		private List<Set<String>> listWords;
+		
+		/**
+		 * Constructor of the task
+		 * @param dictionary : the dictionary tree that is searched
+		 * @param batchSignatures : all signatures of the batch in the input order
+		 * @param sortedIndex : index of the signatures sorted by the signature
+		 * @param start : first position in sortedIndex that will be searched
+		 * @param end : position after the last position in sortedIndex that will be searched
+		 * @param listWords : list to store the words, the words of batchSignatures[i] is stored in index i
+		 */
+		SearchSignaturesTask(DictionaryTreeImpl dictionary, String batchSignatures[], Integer sortedIndex[],
+							 int start, int end, List<Set<String>> listWords)
+		{
+			this.dictionary = dictionary;
+			this.batchSignatures = batchSignatures;
+			this.sortedIndex = sortedIndex;
+			this.start = start;
+			this.end = end;
+			this.listWords = listWords;
+		}
+		
+		@Override
+		protected void compute()
+		{
+			if (this.end - this.start > SIGNATURES_PER_TASK)
+			{
+				int middle = (this.start + this.end) >>> 1;
+				invokeAll(new SearchSignaturesTask(this.dictionary, this.batchSignatures, this.sortedIndex, this.start, middle, this.listWords),
+						  new SearchSignaturesTask(this.dictionary, this.batchSignatures, this.sortedIndex, middle, this.end, this.listWords));
+			}
+			else
+			{
+				this.dictionary.searchSortedSignatures(this.batchSignatures, this.sortedIndex, this.start, this.end, this.listWords);
+			}
+		}
+	}
+	
+	/**
+	 * Method to get the words that the signature is almost the same as a signature, so the word can
+	 * still be found if a wrong key is pressed ("43566" instead of "43556" for "hello")
+	 * the difference is the edit distance of the signature, the minimum number of :
+	 * pressing a key next to the right key (substitution, other key is a deletion and an insertion),
+	 * pressing one more key (insertion), and missing one key (deletion)
+	 * 
+	 * The tree is walked with the edit distance from the signature to the signature of every node
+	 * (one row of Levenshtein table for every node, computed from the row of the previous node),
+	 * the sub branch is skipped when the smallest distance of the row is already bigger than maxErrors,
+	 * because the distance can't be smaller for the deeper node, so only the nodes near the signature
+	 * are visited, not all nodes
+	 * 
+	 * Unlike signatureToWords, the words are the whole words (not trimmed), because the length of the
+	 * signature of the word could be different from the signature
+	 * @param signature : the typed signature
+	 * @param maxErrors : maximum edit distance (1 or 2 is enough, bigger is slower and find too many words),
+	 *                    bigger than the length of signature and the depth of the tree is the same as all words
+	 * @return Set (in form of HashSet) of the words with edit distance not more than maxErrors,
+	 *         empty if the signature is invalid
+	 */
+	public Set<String> signatureToWordsFuzzy(String signature, int maxErrors)
+	{
+		if (maxErrors < 0)
+		{
+			throw new IllegalArgumentException("maxErrors must not be negative");
+		}
+	
+		Set<String> matchedPossibleWord = new HashSet<String>();
+		if (signature.length() > 0 && isNumericWord(signature))
+		{
+			// the edit distance is never bigger than deleting the whole signature and inserting the whole
+			// signature of the node, so a bigger maxErrors than the length of signature and the depth of the tree
+			// find the same words, it's clamped to make the rows (Integer.MAX_VALUE would overflow)
+			if (maxErrors > signature.length())
+			{
+				maxErrors = Math.min(maxErrors, signature.length() + this.depthOfTree());
+			}
+	
+			// the signature of a node is never longer than signature.length() + maxErrors if the distance
+			// is not bigger than maxErrors, so the rows of every depth are made once
+			int distanceRows[][] = new int[signature.length() + maxErrors + 1][signature.length() + 1];
+	
+			// the distance from the empty signature (root) is the number of deletion
+			for (int i = 0; i <= signature.length(); i++)
+			{
+				distanceRows[0][i] = i;
+			}
+			this.searchFuzzy(signature, maxErrors, distanceRows, 0, matchedPossibleWord);
+		}
+		return matchedPossibleWord;
+	}
+	
+	/**
+	 * Recursive method to get the depth of the sub branch (the length of the longest signature)
+	 * @return depth of the deepest node, 0 if this node doesn't have next node
+	 */
+	private int depthOfTree()
+	{
+		int depth = 0;
+		for (int i = 0; i < 8; i++)
+		{
+			if (this.nextNode[i] != null)
+			{
+				depth = Math.max(depth, this.nextNode[i].depthOfTree() + 1);
+			}
+		}
+		return depth;
+	}
+	
+	/**
+	 * Recursive method to find the words of the sub branch with edit distance not more than maxErrors
+	 * @param signature : the typed signature
+	 * @param maxErrors : maximum edit distance
+	 * @param distanceRows : edit distance rows of every depth, row of this node is already computed
+	 * @param depth : length of the signature of this node (0 for the root)
+	 * @param matchedPossibleWord : the found words
+	 */
+	private void searchFuzzy(String signature, int maxErrors, int distanceRows[][], int depth,
+							 Set<String> matchedPossibleWord)
+	{
+		int distanceRow[] = distanceRows[depth];
+	
+		// the last column is the distance from the whole signature to the signature of this node
+		if (this.setDictionaryWords != null && distanceRow[signature.length()] <= maxErrors)
+		{
+			matchedPossibleWord.addAll(this.setDictionaryWords);
+		}
+	
+		if (depth + 1 >= distanceRows.length)
+		{
+			return;
+		}
+	
+		int nextRow[] = distanceRows[depth + 1];
+		for (int i = 0; i < 8; i++)
+		{
+			if (this.nextNode[i] == null)
+			{
+				continue;
+			}
+	
+			// the next node add one signature (i + 2) to the signature of this node
+			nextRow[0] = distanceRow[0] + 1;
+			int minimumDistance = nextRow[0];
+			for (int j = 1; j <= signature.length(); j++)
+			{
+				int key = signature.charAt(j - 1) - '2';
+				int distance = Math.min(distanceRow[j], nextRow[j - 1]) + 1;
+				if (key == i)
+				{
+					distance = Math.min(distance, distanceRow[j - 1]);
+				}
+				else if ((ADJACENT_KEYS[key] & (1 << i)) != 0)
+				{
+					distance = Math.min(distance, distanceRow[j - 1] + 1);
+				}
+				nextRow[j] = distance;
+				minimumDistance = Math.min(minimumDistance, distance);
+			}
+	
+			// the distance of the deeper node is never smaller than the smallest distance of this row
+			if (minimumDistance <= maxErrors)
+			{
+				this.nextNode[i].searchFuzzy(signature, maxErrors, distanceRows, depth + 1, matchedPossibleWord);
+			}
+		}
+	}
+	
+	@Override
+	public Iterator<String> signatureToWordsIterator(String signature)
+	{
+		// the same check with signatureToWords, invalid or empty signature doesn't have any word
+		if (signature.length() > 0 && isNumericWord(signature))
+		{
+			// walk to the node that represent the signature
+			DictionaryTreeImpl node = this;
+			for (int i = 0; i < signature.length() && node != null; i++)
+			{
+				node = node.nextNode[signature.charAt(i) - '2'];
+			}
+			
+			if (node != null)
+			{
+				return new TreeWordsIterator(node, (short)signature.length());
+			}
+		}
+		
+		return Collections.<String>emptyIterator();
+	}
+	
+	/**
+	 * Inner class for iterator of all words in a sub branch of the tree, the nodes are visited in the
+	 * order of the tree (a node, then all sub branch of next node for signature 2, then 3, until 9)
+	 * the next node is only visited when all words of the previous node already taken
+	 * @author Hans Sean Nathanael
+	 *
+	 */
+	private static class TreeWordsIterator implements Iterator<String> {
+		
+		// nodes that still need to be visited, the next node to be visited is in the top
+		private Deque<DictionaryTreeImpl> nodesToVisit = new ArrayDeque<DictionaryTreeImpl>();
+		
+		// words of the last visited node that still not taken
+		private Iterator<String> wordsOfNode = Collections.<String>emptyIterator();
+		
+		// words that already taken, different words could be the same after trimmed
+		private Set<String> foundWords = new HashSet<String>();
+		
+		// length of signature, all words are trimmed to this length
+		private short length;
+		
+		// the next word that will be returned by next(), null if still not searched
+		private String nextWord = null;
+		
+		/**
+		 * Constructor of the iterator
+		 * @param node : the node that represent the signature
+		 * @param length : length of signature
+		 */
+		TreeWordsIterator(DictionaryTreeImpl node, short length)
+		{
+			this.nodesToVisit.push(node);
+			this.length = length;
+		}
+		
+		@Override
+		public boolean hasNext()
+		{
+			while (this.nextWord == null)
+			{
+				if (this.wordsOfNode.hasNext())
+				{
+					String word = this.wordsOfNode.next().substring(0, this.length);
+					if (this.foundWords.add(word))
+					{
+						this.nextWord = word;
+					}
+				}
+				else if (this.nodesToVisit.isEmpty())
+				{
+					return false;
+				}
+				else
+				{
+					DictionaryTreeImpl node = this.nodesToVisit.pop();
+					
+					if (node.precomputedWords != null)
+					{
+						// precomputed words already contain all words of the sub branch
+						this.wordsOfNode = Arrays.asList(node.precomputedWords).iterator();
+						continue;
+					}
+					
+					if (node.setDictionaryWords != null)
+					{
+						this.wordsOfNode = node.setDictionaryWords.iterator();
+					}
+					
+					// pushed from signature 9 to 2, so the next node for signature 2 is visited first
+					for (int i = 7; i >= 0; i--)
+					{
+						if (node.nextNode[i] != null)
+						{
+							this.nodesToVisit.push(node.nextNode[i]);
+						}
+					}
+				}
+			}
+			return true;
+		}
+		
+		@Override
+		public String next()
+		{
+			if (this.hasNext() == false)
+			{
+				throw new NoSuchElementException();
+			}
+			
+			String word = this.nextWord;
+			this.nextWord = null;
+			return word;
+		}
+	}
+	
+	/**
+	 * Method to create cursor to search words one signature at a time from this tree
+	 * @return new cursor in the beginning (empty signature)
+	 */
+	public SignatureCursor cursor()
+	{
+		return new TreeCursor();
+	}
+	
+	/**
+	 * Inner class for cursor of the tree, the cursor remember the node of every signature
+	 * that have been added, so adding a signature just need to walk one node from the last node
+	 * and removing a signature just need to go back to the previous node
+	 * @author Hans Sean Nathanael
+	 *
+	 */
+	private class TreeCursor implements SignatureCursor {
+		
+		// node of every signature that have been added, the first element is the root of the tree
+		// the last element is the node of the current signature, null if the signature doesn't exist in the tree
+		// ArrayList used because it's allowed to store null (ArrayDeque doesn't allow null)
+		private List<DictionaryTreeImpl> visitedNodes = new ArrayList<DictionaryTreeImpl>();
+		
+		/**
+		 * Constructor of the cursor, the cursor start from the root of the tree
+		 */
+		TreeCursor()
+		{
+			this.visitedNodes.add(DictionaryTreeImpl.this);
+		}
+		
+		@Override
+		public void advance(char signature)
+		{
+			DictionaryTreeImpl currentNode = this.visitedNodes.get(this.visitedNodes.size() - 1);
+			
+			if (currentNode == null || signature < '2' || signature > '9')
+			{
+				// the signature doesn't exist, so every signature after it doesn't exist too
+				this.visitedNodes.add(null);
+			}
+			else
+			{
+				this.visitedNodes.add(currentNode.nextNode[signature - '2']);
+			}
+		}
+		
+		@Override
+		public void back()
+		{
+			// the root must not be removed
+			if (this.visitedNodes.size() > 1)
+			{
+				this.visitedNodes.remove(this.visitedNodes.size() - 1);
+			}
+		}
+		
+		@Override
+		public void reset()
+		{
+			while (this.visitedNodes.size() > 1)
+			{
+				this.visitedNodes.remove(this.visitedNodes.size() - 1);
+			}
+		}
+		
+		@Override
+		public int length()
+		{
+			return this.visitedNodes.size() - 1;
+		}
+		
+		@Override
+		public Set<String> getWords()
+		{
+			DictionaryTreeImpl currentNode = this.visitedNodes.get(this.visitedNodes.size() - 1);
+			
+			// empty signature doesn't represent any word, the same as signatureToWords
+			if (currentNode == null || this.length() == 0)
+			{
+				return new HashSet<String>();
+			}
+			
+			// the current node already represent the whole signature
+			return currentNode.getWordsFromSignature("", (short)this.length());
 		}
-		return true;
 	}
 	
 	/**
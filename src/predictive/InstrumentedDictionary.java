@@ -0,0 +1,270 @@
+package predictive;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * This class is a dictionary that measure the search of other dictionary
+ * The latency of signatureToWords is recorded in LatencyHistogram, and the number of search, the number
+ * of search with and without result, and the number of words found for every signature length are counted
+ * All counters are LongAdder, so the search of many threads doesn't wait for each other, the statistics
+ * can be read by JMX after registerMBean is called
+ * @author Hans Sean Nathanael
+ *
+ */
+public class InstrumentedDictionary implements Dictionary, DictionaryStatisticsMBean {
+
+	// signature longer than this is counted together with the signature with this length
+	private static final int MAX_COUNTED_LENGTH = 32;
+
+	// the measured dictionary
+	private Dictionary dictionary;
+
+	// latency of signatureToWords
+	private LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+	// number of search with and without result, and search with invalid signature (also counted as miss)
+	private LongAdder hitCount = new LongAdder();
+	private LongAdder missCount = new LongAdder();
+	private LongAdder invalidSignatureCount = new LongAdder();
+
+	// number of search and total of words found for every signature length
+	private LongAdder lookupCountByLength[] = new LongAdder[MAX_COUNTED_LENGTH + 1];
+	private LongAdder resultSizeByLength[] = new LongAdder[MAX_COUNTED_LENGTH + 1];
+
+	/**
+	 * Constructor of this class
+	 * @param dictionary : the dictionary that will be measured
+	 */
+	public InstrumentedDictionary(Dictionary dictionary)
+	{
+		this.dictionary = dictionary;
+		for (int i = 0; i <= MAX_COUNTED_LENGTH; i++)
+		{
+			this.lookupCountByLength[i] = new LongAdder();
+			this.resultSizeByLength[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Method to register the statistics of this dictionary to the platform MBean server
+	 * the object name is "predictive:type=DictionaryStatistics,name=" followed by the name
+	 * @param name : name to differentiate the dictionaries
+	 * @return the object name of the registered MBean
+	 * @throws JMException if the name is not valid or already registered
+	 */
+	public ObjectName registerMBean(String name) throws JMException
+	{
+		ObjectName objectName = new ObjectName("predictive:type=DictionaryStatistics,name=" + ObjectName.quote(name));
+
+		// StandardMBean because the interface name is not the name of this class followed by MBean
+		ManagementFactory.getPlatformMBeanServer().registerMBean(
+				new StandardMBean(this, DictionaryStatisticsMBean.class), objectName);
+		return objectName;
+	}
+
+	/**
+	 * Method to get the measured dictionary
+	 * @return the dictionary that is measured
+	 */
+	public Dictionary getDictionary()
+	{
+		return this.dictionary;
+	}
+
+	@Override
+	public String wordToSignature(String word)
+	{
+		return this.dictionary.wordToSignature(word);
+	}
+
+	@Override
+	public Set<String> signatureToWords(String signature)
+	{
+		long startTime = System.nanoTime();
+		Set<String> matchedPossibleWord = this.dictionary.signatureToWords(signature);
+		this.latencyHistogram.record(System.nanoTime() - startTime);
+
+		this.countResult(signature, matchedPossibleWord.size());
+		return matchedPossibleWord;
+	}
+
+	@Override
+	public List<Set<String>> signaturesToWords(Collection<String> signatures)
+	{
+		// the latency of a batch is not the latency of one search, so only the results are counted
+		List<Set<String>> listWords = this.dictionary.signaturesToWords(signatures);
+		int index = 0;
+		for (String element : signatures)
+		{
+			this.countResult(element, listWords.get(index).size());
+			index += 1;
+		}
+		return listWords;
+	}
+
+	@Override
+	public KeypadLayout getLayout()
+	{
+		return this.dictionary.getLayout();
+	}
+
+	@Override
+	public Iterator<String> signatureToWordsIterator(String signature)
+	{
+		// the words are searched while iterated, so the search can't be measured here
+		return this.dictionary.signatureToWordsIterator(signature);
+	}
+
+	@Override
+	public Stream<String> signatureToWordsStream(String signature)
+	{
+		return this.dictionary.signatureToWordsStream(signature);
+	}
+
+	/**
+	 * Method to count the result of one search
+	 * @param signature : the searched signature
+	 * @param resultSize : number of words found
+	 */
+	private void countResult(String signature, int resultSize)
+	{
+		int length = Math.min(signature.length(), MAX_COUNTED_LENGTH);
+		this.lookupCountByLength[length].increment();
+		this.resultSizeByLength[length].add(resultSize);
+
+		if (resultSize > 0)
+		{
+			this.hitCount.increment();
+		}
+		else
+		{
+			this.missCount.increment();
+			if (isValidSignature(signature) == false)
+			{
+				this.invalidSignatureCount.increment();
+			}
+		}
+	}
+
+	@Override
+	public long getLookupCount()
+	{
+		return this.hitCount.sum() + this.missCount.sum();
+	}
+
+	@Override
+	public long getHitCount()
+	{
+		return this.hitCount.sum();
+	}
+
+	@Override
+	public long getMissCount()
+	{
+		return this.missCount.sum();
+	}
+
+	@Override
+	public long getInvalidSignatureCount()
+	{
+		return this.invalidSignatureCount.sum();
+	}
+
+	@Override
+	public long getLatencyP50Nanos()
+	{
+		return this.latencyHistogram.getValueAtPercentile(50);
+	}
+
+	@Override
+	public long getLatencyP99Nanos()
+	{
+		return this.latencyHistogram.getValueAtPercentile(99);
+	}
+
+	@Override
+	public long getLatencyP999Nanos()
+	{
+		return this.latencyHistogram.getValueAtPercentile(99.9);
+	}
+
+	@Override
+	public long getLatencyMaxNanos()
+	{
+		return this.latencyHistogram.getMax();
+	}
+
+	@Override
+	public double getLatencyMeanNanos()
+	{
+		return this.latencyHistogram.getMean();
+	}
+
+	@Override
+	public long[] getLookupCountByLength()
+	{
+		long lookupCount[] = new long[MAX_COUNTED_LENGTH + 1];
+		for (int i = 0; i <= MAX_COUNTED_LENGTH; i++)
+		{
+			lookupCount[i] = this.lookupCountByLength[i].sum();
+		}
+		return lookupCount;
+	}
+
+	@Override
+	public double[] getAverageResultSizeByLength()
+	{
+		double averageResultSize[] = new double[MAX_COUNTED_LENGTH + 1];
+		for (int i = 0; i <= MAX_COUNTED_LENGTH; i++)
+		{
+			long lookupCount = this.lookupCountByLength[i].sum();
+			averageResultSize[i] = lookupCount == 0 ? 0 : (double)this.resultSizeByLength[i].sum() / lookupCount;
+		}
+		return averageResultSize;
+	}
+
+	@Override
+	public void reset()
+	{
+		this.latencyHistogram.reset();
+		this.hitCount.reset();
+		this.missCount.reset();
+		this.invalidSignatureCount.reset();
+		for (int i = 0; i <= MAX_COUNTED_LENGTH; i++)
+		{
+			this.lookupCountByLength[i].reset();
+			this.resultSizeByLength[i].reset();
+		}
+	}
+
+	/**
+	 * Method to check if a signature is not empty and all characters are numeric with range from 2 to 9
+	 * @param signature : signature to be checked
+	 * @return true if the signature is valid
+	 */
+	private static boolean isValidSignature(String signature)
+	{
+		if (signature.length() == 0)
+		{
+			return false;
+		}
+		for (int i = 0; i < signature.length(); i++)
+		{
+			if (signature.charAt(i) < '2' || signature.charAt(i) > '9')
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+}
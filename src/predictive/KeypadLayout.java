@@ -0,0 +1,362 @@
+package predictive;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class is used to convert the letters of a language to the signature (2-9) of the keypad key
+ * that have the letter, so the same dictionary classes can be used for every keypad layout and language
+ * The layout is compiled once into a lookup table when it's created : a dense array for the characters
+ * below DENSE_TABLE_SIZE (Latin, Greek, Cyrillic, Armenian, Hebrew, Arabic, ...) and a map for the other
+ * characters, so converting a character is one array access for most languages
+ * The layout never changed after it's created, so one layout can be shared by many dictionaries and threads,
+ * and dictionaries with different layouts can be used in the same program
+ * The lower case and upper case of a letter are on the same key
+ * The letter with diacritic that is not on any key is folded to the key of it's base letter ("caf\u00e9" become
+ * "2233" like "cafe"), the character is decomposed (NFD) and the combining marks are removed, so it's only
+ * folded if one letter of the layout is left (one signature for one character, the signature have the same
+ * length as the word), the folded signature is cached for every character when it's first converted
+ * The word in decomposed form ("cafe" and combining acute accent, like the file written on macOS) have
+ * the accent as another character that is not a letter, so the dictionary compose the word first (NFC)
+ * with composeWord, then it's the same word as "caf\u00e9" and folded the same
+ * @author Hans Sean Nathanael
+ *
+ */
+public class KeypadLayout {
+
+	// the characters below this have their signature in the dense table
+	private static final int DENSE_TABLE_SIZE = 0x0800;
+
+	// signature of the character that is not on any key
+	public static final char NO_SIGNATURE = ' ';
+
+	// the standard keypad layout (ITU E.161) with English alphabet
+	public static final KeypadLayout STANDARD = new KeypadLayout("standard",
+			new String[] {"abc", "def", "ghi", "jkl", "mno", "pqrs", "tuv", "wxyz"});
+
+	// Greek keypad layout (alpha beta gamma on key 2 until chi psi omega on key 9, final sigma with sigma)
+	// the letters are written as unicode escape so the source can be compiled with any encoding
+	public static final KeypadLayout GREEK = new KeypadLayout("greek",
+			new String[] {"\u03b1\u03b2\u03b3", "\u03b4\u03b5\u03b6", "\u03b7\u03b8\u03b9", "\u03ba\u03bb\u03bc",
+						  "\u03bd\u03be\u03bf", "\u03c0\u03c1\u03c3\u03c2", "\u03c4\u03c5\u03c6", "\u03c7\u03c8\u03c9"});
+
+	// Russian keypad layout (a be ve ge on key 2 until soft sign e yu ya on key 9)
+	public static final KeypadLayout RUSSIAN = new KeypadLayout("russian",
+			new String[] {"\u0430\u0431\u0432\u0433", "\u0434\u0435\u0451\u0436\u0437", "\u0438\u0439\u043a\u043b",
+						  "\u043c\u043d\u043e\u043f", "\u0440\u0441\u0442\u0443", "\u0444\u0445\u0446\u0447",
+						  "\u0448\u0449\u044a\u044b", "\u044c\u044d\u044e\u044f"});
+
+	// name of the layout
+	private String name;
+
+	// signature of every character below DENSE_TABLE_SIZE (index is the character), 0 if not on any key
+	// byte is used because the signature is ASCII, so the table is only 2 KB
+	private byte denseTable[] = new byte[DENSE_TABLE_SIZE];
+
+	// signature of the characters that are not in the dense table
+	private Map<Character, Character> fallbackMap = new HashMap<Character, Character>();
+
+	// cache of the folded signature of the characters below DENSE_TABLE_SIZE that are not on the keys,
+	// 0 if not folded yet, NO_SIGNATURE if the character can't be folded to a letter of the layout
+	// many threads could fold the same character at the same time, but the result is always the same
+	// so the race only make the same byte written twice (like the hash of String)
+	private byte foldedTable[] = new byte[DENSE_TABLE_SIZE];
+
+	// cache of the folded signature of the other characters
+	private ConcurrentMap<Character, Character> foldedMap = new ConcurrentHashMap<Character, Character>();
+
+	/**
+	 * Constructor of the layout, the letters are compiled into the lookup table
+	 * @param name : name of the layout
+	 * @param lettersOfKeys : letters of every key, index 0 for the key 2 until index 7 for the key 9
+	 *        (the lower case or the upper case, both are added)
+	 */
+	public KeypadLayout(String name, String lettersOfKeys[])
+	{
+		if (lettersOfKeys.length != 8)
+		{
+			throw new IllegalArgumentException("the layout must have the letters of 8 keys (2-9)");
+		}
+
+		this.name = name;
+		for (int i = 0; i < 8; i++)
+		{
+			char signature = (char)('2' + i);
+			for (int j = 0; j < lettersOfKeys[i].length(); j++)
+			{
+				char letter = lettersOfKeys[i].charAt(j);
+				if (Character.isLetter(letter) == false)
+				{
+					throw new IllegalArgumentException("'" + letter + "' of key " + signature + " is not a letter");
+				}
+
+				this.addLetter(letter, signature);
+				this.addLetter(Character.toLowerCase(letter), signature);
+				this.addLetter(Character.toUpperCase(letter), signature);
+			}
+		}
+	}
+
+	/**
+	 * Method to add a letter to the lookup table
+	 * @param letter : the letter
+	 * @param signature : signature of the key that have the letter
+	 */
+	private void addLetter(char letter, char signature)
+	{
+		char previousSignature = this.letterSignatureOf(letter);
+		if (previousSignature != NO_SIGNATURE && previousSignature != signature)
+		{
+			throw new IllegalArgumentException("'" + letter + "' is on key " + previousSignature + " and key " + signature);
+		}
+
+		if (letter < DENSE_TABLE_SIZE)
+		{
+			this.denseTable[letter] = (byte)signature;
+		}
+		else
+		{
+			this.fallbackMap.put(letter, signature);
+		}
+	}
+
+	/**
+	 * Method to get the name of the layout
+	 * @return name of the layout
+	 */
+	public String getName()
+	{
+		return this.name;
+	}
+
+	/**
+	 * Method to get signature of a character, the letter with diacritic is folded to it's base letter
+	 * @param character : character of a word
+	 * @return signature of the character ('2' - '9'), or NO_SIGNATURE (space) if the character (and it's
+	 *         base letter) is not on any key
+	 */
+	public char signatureOf(char character)
+	{
+		if (character < DENSE_TABLE_SIZE)
+		{
+			// the letter on the key is only one array access, the same as the layout without folding
+			byte signature = this.denseTable[character];
+			if (signature != 0)
+			{
+				return (char)signature;
+			}
+
+			signature = this.foldedTable[character];
+			if (signature == 0)
+			{
+				signature = (byte)this.foldedSignatureOf(character);
+				this.foldedTable[character] = signature;
+			}
+			return (char)signature;
+		}
+
+		Character signature = this.fallbackMap.get(character);
+		if (signature != null)
+		{
+			return signature;
+		}
+
+		signature = this.foldedMap.get(character);
+		if (signature == null)
+		{
+			signature = this.foldedSignatureOf(character);
+			this.foldedMap.putIfAbsent(character, signature);
+		}
+		return signature;
+	}
+
+	/**
+	 * Method to get signature of a letter on the key, without folding
+	 * @param letter : character of a word
+	 * @return signature of the letter ('2' - '9'), or NO_SIGNATURE (space) if the letter is not on any key
+	 */
+	private char letterSignatureOf(char letter)
+	{
+		if (letter < DENSE_TABLE_SIZE)
+		{
+			byte signature = this.denseTable[letter];
+			return signature == 0 ? NO_SIGNATURE : (char)signature;
+		}
+
+		Character signature = this.fallbackMap.get(letter);
+		return signature == null ? NO_SIGNATURE : signature;
+	}
+
+	/**
+	 * Method to fold a character that is not on the keys to the signature of it's base letter
+	 * the character is decomposed (NFD, like "\u00e9" to "e" and combining acute accent) and the combining
+	 * marks are removed, the character that is not decomposed to one base letter is not folded
+	 * (like "\u00e6" or "\u00df", it would be two letters)
+	 * @param character : character that is not on the keys
+	 * @return signature of the base letter, or NO_SIGNATURE if it can't be folded
+	 */
+	private char foldedSignatureOf(char character)
+	{
+		String decomposedCharacter = Normalizer.normalize(String.valueOf(character), Normalizer.Form.NFD);
+
+		char baseLetter = character;
+		int baseLetterCount = 0;
+		for (int i = 0; i < decomposedCharacter.length(); i++)
+		{
+			int characterType = Character.getType(decomposedCharacter.charAt(i));
+			if (characterType != Character.NON_SPACING_MARK && characterType != Character.COMBINING_SPACING_MARK &&
+				characterType != Character.ENCLOSING_MARK)
+			{
+				baseLetter = decomposedCharacter.charAt(i);
+				baseLetterCount += 1;
+			}
+		}
+
+		if (baseLetterCount != 1 || baseLetter == character)
+		{
+			return NO_SIGNATURE;
+		}
+		return this.letterSignatureOf(baseLetter);
+	}
+
+	/**
+	 * Method to compose the letter and the combining marks after it into one character (NFC), so the word
+	 * in decomposed form can be checked and folded, the word that is already composed (like every ASCII word)
+	 * is only checked without making new String
+	 * @param word : the word
+	 * @return the word in composed form
+	 */
+	public static String composeWord(String word)
+	{
+		if (Normalizer.isNormalized(word, Normalizer.Form.NFC))
+		{
+			return word;
+		}
+		return Normalizer.normalize(word, Normalizer.Form.NFC);
+	}
+
+	/**
+	 * Method to check if all characters of a word are on the keys, so the word can be stored in dictionary
+	 * @param word : word to be checked
+	 * @return true if every character have a signature (true for empty word)
+	 */
+	public boolean isValidWord(CharSequence word)
+	{
+		for (int i = 0; i < word.length(); i++)
+		{
+			if (this.signatureOf(word.charAt(i)) == NO_SIGNATURE)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Method to convert a word to signature
+	 * "Hello" become "43556" not "4433555555666"
+	 * @param word : word that will be converted to its signature
+	 * @return signature of the word (NO_SIGNATURE for the character that is not on any key), null if the word is null
+	 */
+	public String wordToSignature(String word)
+	{
+		// the word must not null to be converted
+		if (word == null)
+		{
+			return word;
+		}
+
+		// the signature have the same length with the word
+		char signature[] = new char[word.length()];
+		return new String(signature, 0, this.wordToSignature(word, signature));
+	}
+
+	/**
+	 * Method to convert a word to signature and write it to a char array
+	 * @param word : word that will be converted to its signature
+	 * @param signature : array to write the signature, the length must not be shorter than the word
+	 * @return length of the signature (the same as length of the word)
+	 */
+	public int wordToSignature(CharSequence word, char signature[])
+	{
+		if (signature.length < word.length())
+		{
+			throw new IllegalArgumentException("signature array is shorter than the word");
+		}
+
+		for (int i = 0; i < word.length(); i++)
+		{
+			signature[i] = this.signatureOf(word.charAt(i));
+		}
+		return word.length();
+	}
+
+	/**
+	 * Method to convert a word to signature String through a reused array, so the only new object is the String
+	 * (used by the loading of dictionary file, one array for every reader)
+	 * @param word : word that will be converted to its signature
+	 * @param signatureBuffer : reused array to write the signature, a new array is used if the word is longer
+	 * @return signature of the word
+	 */
+	public String wordToSignatureString(CharSequence word, char signatureBuffer[])
+	{
+		char signature[] = signatureBuffer.length < word.length() ? new char[word.length()] : signatureBuffer;
+		return new String(signature, 0, this.wordToSignature(word, signature));
+	}
+
+	/**
+	 * Method to convert a word to signature and write it to a byte array as ASCII character
+	 * @param word : word that will be converted to its signature
+	 * @param signature : array to write the signature
+	 * @param offset : index of signature array to write the first signature
+	 * @return length of the signature (the same as length of the word)
+	 */
+	public int wordToSignature(CharSequence word, byte signature[], int offset)
+	{
+		if (signature.length - offset < word.length())
+		{
+			throw new IllegalArgumentException("signature array is shorter than the word");
+		}
+
+		for (int i = 0; i < word.length(); i++)
+		{
+			signature[offset + i] = (byte)this.signatureOf(word.charAt(i));
+		}
+		return word.length();
+	}
+
+	/**
+	 * Method to convert a word to signature packed into a long, the same packing as SignatureConverter.packSignature
+	 * @param word : word that will be converted to its signature
+	 * @return the packed signature, or SignatureConverter.INVALID_PACKED_SIGNATURE if the word is empty, longer
+	 *         than SignatureConverter.MAX_PACKED_LENGTH, or contain character that is not on any key
+	 */
+	public long wordToPackedSignature(CharSequence word)
+	{
+		if (word.length() == 0 || word.length() > SignatureConverter.MAX_PACKED_LENGTH)
+		{
+			return SignatureConverter.INVALID_PACKED_SIGNATURE;
+		}
+
+		long packedSignature = 1;
+		for (int i = 0; i < word.length(); i++)
+		{
+			char signature = this.signatureOf(word.charAt(i));
+			if (signature == NO_SIGNATURE)
+			{
+				return SignatureConverter.INVALID_PACKED_SIGNATURE;
+			}
+			packedSignature = (packedSignature << 3) | (signature - '2');
+		}
+		return packedSignature;
+	}
+
+	@Override
+	public String toString()
+	{
+		return this.name;
+	}
+}
@@ -0,0 +1,179 @@
+package predictive;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class is used to count how many times a latency (in nanoseconds) is recorded in every range of latency
+ * The range is smaller for small latency and bigger for big latency (every power of two is split into 8 ranges),
+ * so the percentile is never more than 12.5% different from the real latency and only 488 counters
+ * are needed for all long values
+ * Recording only add one to a counter, LongAdder is used so many threads can record at the same time
+ * without waiting for each other
+ * @author Hans Sean Nathanael
+ *
+ */
+public class LatencyHistogram {
+
+	// every power of two is split into 2^SUB_BUCKET_BITS ranges
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+	// the biggest power of two of a long is 2^62, so the last bucket is (62 - SUB_BUCKET_BITS + 1) * 8 + 7
+	private static final int BUCKET_COUNT = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+	// number of recorded latency in every range
+	private LongAdder bucketCounts[] = new LongAdder[BUCKET_COUNT];
+
+	// number of all recorded latency, total of all latency, and the biggest latency
+	private LongAdder recordCount = new LongAdder();
+	private LongAdder latencyTotal = new LongAdder();
+	private volatile long maxLatency = 0;
+
+	/**
+	 * Constructor of this class, create an empty histogram
+	 */
+	public LatencyHistogram()
+	{
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			this.bucketCounts[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Method to record one latency
+	 * @param latencyNanos : the latency in nanoseconds (negative is recorded as 0)
+	 */
+	public void record(long latencyNanos)
+	{
+		if (latencyNanos < 0)
+		{
+			latencyNanos = 0;
+		}
+
+		this.bucketCounts[bucketOf(latencyNanos)].increment();
+		this.recordCount.increment();
+		this.latencyTotal.add(latencyNanos);
+
+		// the max is rarely changed, so it's checked first before written
+		if (latencyNanos > this.maxLatency)
+		{
+			synchronized (this)
+			{
+				if (latencyNanos > this.maxLatency)
+				{
+					this.maxLatency = latencyNanos;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Method to find the range of a latency
+	 * @param latencyNanos : the latency in nanoseconds, not negative
+	 * @return index of the bucket
+	 */
+	private static int bucketOf(long latencyNanos)
+	{
+		// small latency have it's own bucket
+		if (latencyNanos < SUB_BUCKET_COUNT)
+		{
+			return (int)latencyNanos;
+		}
+
+		// the highest bit choose the power of two, and the next SUB_BUCKET_BITS bits choose the range in it
+		int highestBit = 63 - Long.numberOfLeadingZeros(latencyNanos);
+		int subBucket = (int)(latencyNanos >>> (highestBit - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+		return (highestBit - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	/**
+	 * Method to get the biggest latency of a bucket
+	 * @param bucket : index of the bucket
+	 * @return the biggest latency that recorded in the bucket
+	 */
+	private static long highestLatencyOf(int bucket)
+	{
+		if (bucket < SUB_BUCKET_COUNT)
+		{
+			return bucket;
+		}
+
+		int highestBit = bucket / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+		int subBucket = bucket % SUB_BUCKET_COUNT;
+		long lowestLatency = (long)(SUB_BUCKET_COUNT + subBucket) << (highestBit - SUB_BUCKET_BITS);
+		return lowestLatency + (1L << (highestBit - SUB_BUCKET_BITS)) - 1;
+	}
+
+	/**
+	 * Method to get the latency that is not less than a percent of all recorded latency
+	 * the value is the biggest latency of the range, so it could be a bit bigger than the real latency
+	 * @param percentile : percent of the recorded latency (0 - 100), like 50 for the median or 99.9
+	 * @return latency in nanoseconds, 0 if nothing recorded
+	 */
+	public long getValueAtPercentile(double percentile)
+	{
+		long count = this.recordCount.sum();
+		if (count == 0)
+		{
+			return 0;
+		}
+
+		// the position of the latency if all latency is sorted (at least the first)
+		long position = Math.max(1, (long)Math.ceil(percentile / 100 * count));
+		long countUntilBucket = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			countUntilBucket += this.bucketCounts[i].sum();
+			if (countUntilBucket >= position)
+			{
+				return Math.min(highestLatencyOf(i), this.maxLatency);
+			}
+		}
+
+		// other threads record while counting, the latency is more than the count
+		return this.maxLatency;
+	}
+
+	/**
+	 * Method to get the number of recorded latency
+	 * @return number of recorded latency
+	 */
+	public long getCount()
+	{
+		return this.recordCount.sum();
+	}
+
+	/**
+	 * Method to get the average of all recorded latency
+	 * @return average latency in nanoseconds, 0 if nothing recorded
+	 */
+	public double getMean()
+	{
+		long count = this.recordCount.sum();
+		return count == 0 ? 0 : (double)this.latencyTotal.sum() / count;
+	}
+
+	/**
+	 * Method to get the biggest recorded latency
+	 * @return the biggest latency in nanoseconds, 0 if nothing recorded
+	 */
+	public long getMax()
+	{
+		return this.maxLatency;
+	}
+
+	/**
+	 * Method to remove all recorded latency, the latency recorded at the same time might be partly removed
+	 */
+	public synchronized void reset()
+	{
+		for (LongAdder element : this.bucketCounts)
+		{
+			element.reset();
+		}
+		this.recordCount.reset();
+		this.latencyTotal.reset();
+		this.maxLatency = 0;
+	}
+}
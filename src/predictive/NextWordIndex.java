@@ -0,0 +1,404 @@
+package predictive;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class is used to predict the next word after the entered words, before any signature of the
+ * next word is typed, from the words that follow the same one or two words (bigram and trigram) in a corpus
+ *
+ * The words are stored once in a sorted array and the index of the word (word ID) is used everywhere else,
+ * the words that follow a word (or a pair of words) are stored together in one int array sorted from the
+ * most often (compressed sparse row), so the best next words are always the first of the row and the
+ * prediction is only reading the beginning of one or two rows without making any object except the result
+ * The beginning of a sentence is the sentence boundary, it have index V (after the last word), so the first
+ * word can be predicted too
+ * @author Hans Sean Nathanael
+ *
+ */
+public class NextWordIndex {
+
+	// signature given to predictNextWords to not filter the words by the first signature
+	public static final char ANY_SIGNATURE = ' ';
+
+	// all words sorted, the index is the word ID
+	private String words[] = new String[0];
+
+	// ID of all words sorted from the most often, and the same for every first signature ('2' - '9')
+	private int wordsByCount[] = new int[0];
+	private int wordsByFirstSignature[][] = new int[8][0];
+
+	// words after every word and the sentence boundary (V + 1 rows), row of word i is
+	// from bigramRowStarts[i] to before bigramRowStarts[i + 1], sorted from the most often
+	private int bigramRowStarts[] = new int[2];
+	private int bigramNextWords[] = new int[0];
+	private int bigramCounts[] = new int[0];
+
+	// the pairs of words (first word ID << 32 | second word ID) sorted, and the words after every pair
+	// with the same rows as the bigram
+	private long trigramContexts[] = new long[0];
+	private int trigramRowStarts[] = new int[1];
+	private int trigramNextWords[] = new int[0];
+	private int trigramCounts[] = new int[0];
+
+	/**
+	 * Constructor of this class, the words, the bigrams and the trigrams of the corpus are counted
+	 * by CorpusCounter
+	 * @param corpusPath : directory path to the corpus file (plain text)
+	 */
+	public NextWordIndex(String corpusPath)
+	{
+		try
+		{
+			// the words, the bigrams and the trigrams are counted by reading the corpus twice
+			CorpusCounter corpusCounter = new CorpusCounter(corpusPath, true);
+			this.buildWords(corpusCounter.getWords(), corpusCounter.getWordCounts());
+			this.buildBigrams(corpusCounter.getBigramCounts(), corpusCounter.getSentenceBoundary());
+			this.buildTrigrams(corpusCounter.getTrigramCounts());
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Method to store the words and sort the words from the most often
+	 * @param wordsOfCorpus : all words sorted
+	 * @param wordCounts : count of every word
+	 */
+	private void buildWords(String wordsOfCorpus[], int wordCounts[])
+	{
+		this.words = wordsOfCorpus;
+
+		long sortKeys[] = new long[wordsOfCorpus.length];
+		for (int i = 0; i < wordsOfCorpus.length; i++)
+		{
+			sortKeys[i] = toSortKey(i, wordCounts[i]);
+		}
+		Arrays.sort(sortKeys);
+		this.wordsByCount = new int[wordsOfCorpus.length];
+		for (int i = 0; i < sortKeys.length; i++)
+		{
+			this.wordsByCount[i] = (int)sortKeys[i];
+		}
+
+		// the words with the same first signature keep the order of wordsByCount
+		int firstSignatureCounts[] = new int[8];
+		for (String element : wordsOfCorpus)
+		{
+			firstSignatureCounts[SignatureConverter.signatureOf(element.charAt(0)) - '2'] += 1;
+		}
+		for (int i = 0; i < 8; i++)
+		{
+			this.wordsByFirstSignature[i] = new int[firstSignatureCounts[i]];
+			firstSignatureCounts[i] = 0;
+		}
+		for (int element : this.wordsByCount)
+		{
+			int signatureIndex = SignatureConverter.signatureOf(wordsOfCorpus[element].charAt(0)) - '2';
+			this.wordsByFirstSignature[signatureIndex][firstSignatureCounts[signatureIndex]] = element;
+			firstSignatureCounts[signatureIndex] += 1;
+		}
+	}
+
+	/**
+	 * Method to store the bigrams in rows sorted from the most often
+	 * the bigram to the sentence boundary (after the last word of a sentence) is not stored, the sentence
+	 * boundary is never predicted
+	 * @param mapBigramCounts : count of every bigram (previous word ID << 32 | next word ID)
+	 * @param boundaryIndex : index of the sentence boundary (number of words)
+	 */
+	private void buildBigrams(Map<Long, int[]> mapBigramCounts, int boundaryIndex)
+	{
+		int rowCount = boundaryIndex + 1;
+		long bigramKeys[] = new long[mapBigramCounts.size()];
+		int index = 0;
+		for (Long element : mapBigramCounts.keySet())
+		{
+			if ((int)(long)element != boundaryIndex)
+			{
+				bigramKeys[index] = element;
+				index += 1;
+			}
+		}
+		bigramKeys = Arrays.copyOf(bigramKeys, index);
+		Arrays.sort(bigramKeys);
+
+		this.bigramRowStarts = new int[rowCount + 1];
+		this.bigramNextWords = new int[bigramKeys.length];
+		this.bigramCounts = new int[bigramKeys.length];
+
+		// the keys are sorted by the previous word, so every row is next to each other
+		int rowStart = 0;
+		for (int i = 0; i < rowCount; i++)
+		{
+			this.bigramRowStarts[i] = rowStart;
+			int rowEnd = rowStart;
+			while (rowEnd < bigramKeys.length && (int)(bigramKeys[rowEnd] >>> 32) == i)
+			{
+				rowEnd += 1;
+			}
+
+			long sortKeys[] = new long[rowEnd - rowStart];
+			for (int j = rowStart; j < rowEnd; j++)
+			{
+				sortKeys[j - rowStart] = toSortKey((int)bigramKeys[j], mapBigramCounts.get(bigramKeys[j])[0]);
+			}
+			storeRow(sortKeys, this.bigramNextWords, this.bigramCounts, rowStart);
+			rowStart = rowEnd;
+		}
+		this.bigramRowStarts[rowCount] = rowStart;
+	}
+
+	/**
+	 * Method to store the trigrams in rows sorted from the most often
+	 * @param mapTrigramCounts : count of every next word for every pair of words
+	 */
+	private void buildTrigrams(Map<Long, Map<Integer, int[]>> mapTrigramCounts)
+	{
+		this.trigramContexts = new long[mapTrigramCounts.size()];
+		int index = 0;
+		int trigramCount = 0;
+		for (Map.Entry<Long, Map<Integer, int[]>> element : mapTrigramCounts.entrySet())
+		{
+			this.trigramContexts[index] = element.getKey();
+			trigramCount += element.getValue().size();
+			index += 1;
+		}
+		Arrays.sort(this.trigramContexts);
+
+		this.trigramRowStarts = new int[this.trigramContexts.length + 1];
+		this.trigramNextWords = new int[trigramCount];
+		this.trigramCounts = new int[trigramCount];
+
+		int rowStart = 0;
+		for (int i = 0; i < this.trigramContexts.length; i++)
+		{
+			this.trigramRowStarts[i] = rowStart;
+			Map<Integer, int[]> mapNextWordCounts = mapTrigramCounts.get(this.trigramContexts[i]);
+
+			long sortKeys[] = new long[mapNextWordCounts.size()];
+			int j = 0;
+			for (Map.Entry<Integer, int[]> element : mapNextWordCounts.entrySet())
+			{
+				sortKeys[j] = toSortKey(element.getKey(), element.getValue()[0]);
+				j += 1;
+			}
+			storeRow(sortKeys, this.trigramNextWords, this.trigramCounts, rowStart);
+			rowStart += sortKeys.length;
+		}
+		this.trigramRowStarts[this.trigramContexts.length] = rowStart;
+	}
+
+	/**
+	 * Method to make a key that sort the word from the most often, and by the word ID for the same count
+	 * @param wordIndex : ID of the word
+	 * @param count : count of the word
+	 * @return the key (the bigger count is the smaller key)
+	 */
+	private static long toSortKey(int wordIndex, int count)
+	{
+		return ((long)(Integer.MAX_VALUE - count) << 32) | wordIndex;
+	}
+
+	/**
+	 * Method to sort a row and store it
+	 * @param sortKeys : key of every word of the row made by toSortKey
+	 * @param nextWords : array to store the word ID
+	 * @param counts : array to store the count
+	 * @param rowStart : index of the beginning of the row in the arrays
+	 */
+	private static void storeRow(long sortKeys[], int nextWords[], int counts[], int rowStart)
+	{
+		Arrays.sort(sortKeys);
+		for (int i = 0; i < sortKeys.length; i++)
+		{
+			nextWords[rowStart + i] = (int)sortKeys[i];
+			counts[rowStart + i] = Integer.MAX_VALUE - (int)(sortKeys[i] >>> 32);
+		}
+	}
+
+	/**
+	 * Method to get how many different words in the index
+	 * @return number of words
+	 */
+	public int getWordCount()
+	{
+		return this.words.length;
+	}
+
+	/**
+	 * Method to get how many different bigrams in the index
+	 * @return number of bigrams
+	 */
+	public int getBigramCount()
+	{
+		return this.bigramNextWords.length;
+	}
+
+	/**
+	 * Method to get how many different trigrams in the index
+	 * @return number of trigrams
+	 */
+	public int getTrigramCount()
+	{
+		return this.trigramNextWords.length;
+	}
+
+	/**
+	 * Method to predict the next words after the entered words
+	 * @param previousWords : the entered words, only the last two words are used (empty for the beginning)
+	 * @param maxWords : maximum number of predicted words
+	 * @return the predicted words, the most probable first
+	 */
+	public List<String> predictNextWords(List<String> previousWords, int maxWords)
+	{
+		return this.predictNextWords(previousWords, ANY_SIGNATURE, maxWords);
+	}
+
+	/**
+	 * Method to predict the next words after the entered words that begin with a signature
+	 * the words after the last two words (trigram) are the first, then the words after the last word (bigram),
+	 * and then the most often words, so there is always maxWords words if the corpus have enough words
+	 * @param previousWords : the entered words, only the last two words are used (empty for the beginning)
+	 * @param firstSignature : signature of the first character of the next word ('2' - '9'), or ANY_SIGNATURE
+	 * @param maxWords : maximum number of predicted words
+	 * @return the predicted words, the most probable first
+	 */
+	public List<String> predictNextWords(List<String> previousWords, char firstSignature, int maxWords)
+	{
+		List<String> listPredictedWords = new ArrayList<String>(maxWords);
+		if (maxWords < 1 || (firstSignature != ANY_SIGNATURE && (firstSignature < '2' || firstSignature > '9')))
+		{
+			return listPredictedWords;
+		}
+
+		// the sentence boundary is before the first word
+		int boundaryIndex = this.words.length;
+		int secondIndex = previousWords.size() > 0 ? this.getWordIndex(previousWords.get(previousWords.size() - 1)) : boundaryIndex;
+		int firstIndex = previousWords.size() > 1 ? this.getWordIndex(previousWords.get(previousWords.size() - 2)) : boundaryIndex;
+
+		// the word that is not in the corpus doesn't have row
+		if (firstIndex >= 0 && secondIndex >= 0)
+		{
+			int contextIndex = Arrays.binarySearch(this.trigramContexts, ((long)firstIndex << 32) | secondIndex);
+			if (contextIndex >= 0)
+			{
+				this.addRow(listPredictedWords, this.trigramNextWords, this.trigramRowStarts[contextIndex],
+							this.trigramRowStarts[contextIndex + 1], firstSignature, maxWords);
+			}
+		}
+		if (secondIndex >= 0)
+		{
+			this.addRow(listPredictedWords, this.bigramNextWords, this.bigramRowStarts[secondIndex],
+						this.bigramRowStarts[secondIndex + 1], firstSignature, maxWords);
+		}
+
+		int mostOftenWords[] = firstSignature == ANY_SIGNATURE ? this.wordsByCount : this.wordsByFirstSignature[firstSignature - '2'];
+		this.addRow(listPredictedWords, mostOftenWords, 0, mostOftenWords.length, ANY_SIGNATURE, maxWords);
+		return listPredictedWords;
+	}
+
+	/**
+	 * Method to add the words of a row to the predicted words until there are maxWords words
+	 * @param listPredictedWords : the predicted words, the word that is already in it is not added again
+	 * @param rowWords : the array of the row
+	 * @param rowStart : index of the first word of the row
+	 * @param rowEnd : index after the last word of the row
+	 * @param firstSignature : signature of the first character of the word, or ANY_SIGNATURE
+	 * @param maxWords : maximum number of predicted words
+	 */
+	private void addRow(List<String> listPredictedWords, int rowWords[], int rowStart, int rowEnd,
+						char firstSignature, int maxWords)
+	{
+		for (int i = rowStart; i < rowEnd && listPredictedWords.size() < maxWords; i++)
+		{
+			String word = this.words[rowWords[i]];
+			if ((firstSignature == ANY_SIGNATURE || SignatureConverter.signatureOf(word.charAt(0)) == firstSignature) &&
+				listPredictedWords.contains(word) == false)
+			{
+				listPredictedWords.add(word);
+			}
+		}
+	}
+
+	/**
+	 * Method to get how many times a word is after another word in the corpus
+	 * @param previousWord : the previous word, or null for the beginning of a sentence
+	 * @param word : the next word
+	 * @return count of the bigram, 0 if it's not in the corpus
+	 */
+	public int getCount(String previousWord, String word)
+	{
+		int previousIndex = previousWord == null ? this.words.length : this.getWordIndex(previousWord);
+		int wordIndex = this.getWordIndex(word);
+		if (previousIndex < 0 || wordIndex < 0)
+		{
+			return 0;
+		}
+		return findCount(this.bigramNextWords, this.bigramCounts, this.bigramRowStarts[previousIndex],
+						 this.bigramRowStarts[previousIndex + 1], wordIndex);
+	}
+
+	/**
+	 * Method to get how many times a word is after a pair of words in the corpus
+	 * @param firstWord : the first word, or null for the beginning of a sentence
+	 * @param secondWord : the second word
+	 * @param word : the next word
+	 * @return count of the trigram, 0 if it's not in the corpus
+	 */
+	public int getCount(String firstWord, String secondWord, String word)
+	{
+		int firstIndex = firstWord == null ? this.words.length : this.getWordIndex(firstWord);
+		int secondIndex = this.getWordIndex(secondWord);
+		int wordIndex = this.getWordIndex(word);
+		if (firstIndex < 0 || secondIndex < 0 || wordIndex < 0)
+		{
+			return 0;
+		}
+
+		int contextIndex = Arrays.binarySearch(this.trigramContexts, ((long)firstIndex << 32) | secondIndex);
+		if (contextIndex < 0)
+		{
+			return 0;
+		}
+		return findCount(this.trigramNextWords, this.trigramCounts, this.trigramRowStarts[contextIndex],
+						 this.trigramRowStarts[contextIndex + 1], wordIndex);
+	}
+
+	/**
+	 * Method to find the count of a word in a row, the row is sorted by the count so every word is checked
+	 * @param nextWords : word ID of the rows
+	 * @param counts : count of the rows
+	 * @param rowStart : index of the first word of the row
+	 * @param rowEnd : index after the last word of the row
+	 * @param wordIndex : ID of the word
+	 * @return count of the word, 0 if it's not in the row
+	 */
+	private static int findCount(int nextWords[], int counts[], int rowStart, int rowEnd, int wordIndex)
+	{
+		for (int i = rowStart; i < rowEnd; i++)
+		{
+			if (nextWords[i] == wordIndex)
+			{
+				return counts[i];
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Method to find the ID of a word using binary search
+	 * @param word : the word in lower case
+	 * @return ID of the word, or -1 if the word is not in the corpus
+	 */
+	private int getWordIndex(String word)
+	{
+		int wordIndex = Arrays.binarySearch(this.words, word);
+		return wordIndex >= 0 ? wordIndex : -1;
+	}
+}
@@ -0,0 +1,315 @@
+package predictive;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class is used to create DictionaryTreeImpl and DictionaryMapImpl using many thread (fork join)
+ * The lines of dictionary file are split into chunks that checked in parallel, then the words are
+ * split by the first signature (2-9) and every part is stored by it's own thread, because words
+ * with different first signature never share a node (tree) or a key (map)
+ * The result is the same as the dictionary created by the constructor of DictionaryTreeImpl and DictionaryMapImpl
+ * @author Hans Sean Nathanael
+ *
+ */
+public class ParallelDictionaryBuilder {
+
+	// maximum number of lines checked by one task, more lines than this will be split into two task
+	private static final int LINES_PER_TASK = 8192;
+
+	/**
+	 * Method to create DictionaryTreeImpl using the common fork join pool
+	 * @param path : directory path to dictionary file
+	 * @return dictionary tree containing all valid words from dictionary file
+	 */
+	public static DictionaryTreeImpl buildTree(String path)
+	{
+		return buildTree(path, 0);
+	}
+
+	/**
+	 * Method to create DictionaryTreeImpl using the common fork join pool, and then precompute
+	 * the result of search for all signature with length until precomputedDepth
+	 * @param path : directory path to dictionary file
+	 * @param precomputedDepth : maximum length of signature that the result is precomputed, 0 for no precomputed
+	 * @return dictionary tree containing all valid words from dictionary file
+	 */
+	public static DictionaryTreeImpl buildTree(String path, int precomputedDepth)
+	{
+		return buildTree(path, precomputedDepth, KeypadLayout.STANDARD);
+	}
+
+	/**
+	 * Method to create DictionaryTreeImpl using the common fork join pool, and then precompute
+	 * the result of search for all signature with length until precomputedDepth
+	 * @param path : directory path to dictionary file
+	 * @param precomputedDepth : maximum length of signature that the result is precomputed, 0 for no precomputed
+	 * @param layout : keypad layout used to convert the words to signature
+	 * @return dictionary tree containing all valid words from dictionary file
+	 */
+	public static DictionaryTreeImpl buildTree(String path, int precomputedDepth, final KeypadLayout layout)
+	{
+		// the time of reading, parsing (in parallel), and inserting (in parallel) is recorded by Java Flight Recorder
+		DictionaryLoadEvent loadEvent = new DictionaryLoadEvent(ParallelDictionaryBuilder.class, path);
+		final List<List<String>> wordsByFirstSignature = splitByFirstSignature(path, layout, loadEvent);
+
+		final DictionaryTreeImpl rootOfTree = new DictionaryTreeImpl(null, 0, layout);
+		List<RecursiveAction> subBranchTasks = new ArrayList<RecursiveAction>();
+
+		for (int i = 0; i < 8; i++)
+		{
+			final int signatureIndex = i;
+			subBranchTasks.add(new RecursiveAction() {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected void compute()
+				{
+					// the node for the first signature of the words, the depth is 0
+					DictionaryTreeImpl subBranch = new DictionaryTreeImpl(null, 0, layout);
+					for (String element : wordsByFirstSignature.get(signatureIndex))
+					{
+						subBranch.insertNext((short)0, element);
+					}
+
+					if (wordsByFirstSignature.get(signatureIndex).size() > 0)
+					{
+						// setNextNode change different array index in every task, so no need to be synchronized
+						// and the join of all tasks make the change seen by the thread that join
+						rootOfTree.setNextNode((char)('2' + signatureIndex), subBranch);
+					}
+				}
+			});
+		}
+
+		ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void compute()
+			{
+				invokeAll(subBranchTasks);
+			}
+		});
+
+		rootOfTree.precomputeWords((short)-1, precomputedDepth);
+		loadEvent.endInsert();
+		loadEvent.finish();
+		return rootOfTree;
+	}
+
+	/**
+	 * Method to create DictionaryMapImpl using the common fork join pool
+	 * @param path : directory path to dictionary file
+	 * @return dictionary map containing all valid words from dictionary file
+	 */
+	public static DictionaryMapImpl buildMap(String path)
+	{
+		return buildMap(path, KeypadLayout.STANDARD);
+	}
+
+	/**
+	 * Method to create DictionaryMapImpl using the common fork join pool
+	 * @param path : directory path to dictionary file
+	 * @param layout : keypad layout used to convert the words to signature
+	 * @return dictionary map containing all valid words from dictionary file
+	 */
+	public static DictionaryMapImpl buildMap(String path, final KeypadLayout layout)
+	{
+		// the time of reading, parsing (in parallel), and inserting (in parallel) is recorded by Java Flight Recorder
+		DictionaryLoadEvent loadEvent = new DictionaryLoadEvent(ParallelDictionaryBuilder.class, path);
+		final List<List<String>> wordsByFirstSignature = splitByFirstSignature(path, layout, loadEvent);
+
+		List<RecursiveTask<Map<String, Set<String>>>> subMapTasks = new ArrayList<RecursiveTask<Map<String, Set<String>>>>();
+		for (int i = 0; i < 8; i++)
+		{
+			final int signatureIndex = i;
+			subMapTasks.add(new RecursiveTask<Map<String, Set<String>>>() {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected Map<String, Set<String>> compute()
+				{
+					Map<String, Set<String>> subMap = new HashMap<String, Set<String>>();
+
+					// every task have it's own array to write the signature of every word
+					char signatureOfWord[] = new char[64];
+
+					for (String element : wordsByFirstSignature.get(signatureIndex))
+					{
+						String keyFromSignatureOfWord = layout.wordToSignatureString(element, signatureOfWord);
+						if (subMap.containsKey(keyFromSignatureOfWord) == false)
+						{
+							subMap.put(keyFromSignatureOfWord, new HashSet<String>());
+						}
+						subMap.get(keyFromSignatureOfWord).add(element);
+					}
+					return subMap;
+				}
+			});
+		}
+
+		ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void compute()
+			{
+				invokeAll(subMapTasks);
+			}
+		});
+
+		// the keys of every sub map are different (different first signature), so just need to be joined
+		int keyCount = 0;
+		for (RecursiveTask<Map<String, Set<String>>> element : subMapTasks)
+		{
+			keyCount += element.join().size();
+		}
+
+		// the capacity is big enough so the HashMap doesn't need to be resized
+		Map<String, Set<String>> mapDictionaryWords = new HashMap<String, Set<String>>(keyCount * 4 / 3 + 1);
+		for (RecursiveTask<Map<String, Set<String>>> element : subMapTasks)
+		{
+			mapDictionaryWords.putAll(element.join());
+		}
+
+		loadEvent.endInsert();
+		loadEvent.finish();
+		return new DictionaryMapImpl(mapDictionaryWords, layout);
+	}
+
+	/**
+	 * Method to read all lines of dictionary file and split all valid words by it's first signature
+	 * the lines are checked in parallel by the common fork join pool
+	 * @param path : directory path to dictionary file
+	 * @param layout : keypad layout used to convert the words to signature
+	 * @param loadEvent : the event that record the time of reading and parsing (checking) the lines
+	 * @return list of 8 list of words, index 0 for words with first signature 2, until index 7 for signature 9
+	 *         the words are in lower case and in the same order as the dictionary file
+	 */
+	private static List<List<String>> splitByFirstSignature(String path, KeypadLayout layout, DictionaryLoadEvent loadEvent)
+	{
+		// reading file can't be done in parallel, all lines are read first
+		final List<String> listLines = new ArrayList<String>();
+		try
+		{
+			// BufferedReader used because it is faster than Scanner when used to read each line of file
+			BufferedReader fileReader = new BufferedReader(new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8));
+
+			String fileOneLine = null;
+			while((fileOneLine = fileReader.readLine()) != null)
+			{
+				listLines.add(fileOneLine);
+			}
+
+			// Don't forget to close the BufferedReader
+			fileReader.close();
+		}
+		catch (IOException e)
+		{
+			e.printStackTrace();
+		}
+
+		loadEvent.endRead();
+
+		List<List<String>> wordsByFirstSignature = ForkJoinPool.commonPool().invoke(new SplitLinesTask(listLines, 0, listLines.size(), layout));
+		for (List<String> element : wordsByFirstSignature)
+		{
+			loadEvent.countWords(element.size());
+		}
+		loadEvent.endParse();
+		return wordsByFirstSignature;
+	}
+
+	/**
+	 * Task to check a chunk of lines and split the valid words by it's first signature
+	 * the chunk will be split into two task if it's too big
+	 * @author Hans Sean Nathanael
+	 *
+	 */
+	private static class SplitLinesTask extends RecursiveTask<List<List<String>>> {
+
+		private static final long serialVersionUID = 1L;
+
+		// all lines of dictionary file
+		private List<String> listLines;
+
+		// the chunk of lines checked by this task (end is exclusive)
+		private int start;
+		private int end;
+
+		// keypad layout used to convert the words to signature
+		private KeypadLayout layout;
+
+		/**
+		 * Constructor of the task
+		 * @param listLines : all lines of dictionary file
+		 * @param start : index of the first line of the chunk
+		 * @param end : index after the last line of the chunk
+		 * @param layout : keypad layout used to convert the words to signature
+		 */
+		SplitLinesTask(List<String> listLines, int start, int end, KeypadLayout layout)
+		{
+			this.listLines = listLines;
+			this.start = start;
+			this.end = end;
+			this.layout = layout;
+		}
+
+		@Override
+		protected List<List<String>> compute()
+		{
+			if (this.end - this.start > LINES_PER_TASK)
+			{
+				int middle = (this.start + this.end) >>> 1;
+				SplitLinesTask firstHalf = new SplitLinesTask(this.listLines, this.start, middle, this.layout);
+				SplitLinesTask secondHalf = new SplitLinesTask(this.listLines, middle, this.end, this.layout);
+				firstHalf.fork();
+
+				// the order of the words must be kept, so the first half is before the second half
+				List<List<String>> secondHalfWords = secondHalf.compute();
+				List<List<String>> allWords = firstHalf.join();
+				for (int i = 0; i < 8; i++)
+				{
+					allWords.get(i).addAll(secondHalfWords.get(i));
+				}
+				return allWords;
+			}
+
+			List<List<String>> wordsByFirstSignature = new ArrayList<List<String>>(8);
+			for (int i = 0; i < 8; i++)
+			{
+				wordsByFirstSignature.add(new ArrayList<String>());
+			}
+
+			// lineParser change the line to lower case, remove the frequency, and check the word
+			DictionaryLineParser lineParser = new DictionaryLineParser(this.layout);
+			for (int i = this.start; i < this.end; i++)
+			{
+				// words that contain character that is not on the keypad and empty line can't be retrieved
+				if (lineParser.parse(this.listLines.get(i)))
+				{
+					String word = lineParser.getWord();
+					wordsByFirstSignature.get(this.layout.signatureOf(word.charAt(0)) - '2').add(word);
+				}
+			}
+
+			return wordsByFirstSignature;
+		}
+	}}
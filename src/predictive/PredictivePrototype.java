@@ -1,162 +1,404 @@
 package predictive;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
- * This class is just prototype for predictive dictionary (not efficient algorithm)
- * used to compare with more efficient algorithm
+ * This class is just prototype for predictive dictionary (the dictionary is not stored, every search
+ * scan the whole dictionary file again), used to compare with more efficient algorithm and to search
+ * in a very big dictionary file that is rarely searched and can't be stored in the heap
  * @author Hans Sean Nathanael
  *
  */
 public class PredictivePrototype {
 	
-	// this array signatureOfChar used to simplify function wordToSignature
-	// The length is 26 representing all the alphabet a-z
-	// index 0 is for 'a', index 1 for 'b', and so on until last index (index 25) for 'z'
-	private static char signatureOfChar[] = {'2', '2', '2',
-											 '3', '3', '3',
-											 '4', '4', '4',
-											 '5', '5', '5',
-											 '6', '6', '6',
-											 '7', '7', '7', '7',
-											 '8', '8', '8',
-											 '9', '9', '9', '9'};
+	// the dictionary file is split into about this number of chunks for every thread of the common pool
+	private static final int CHUNKS_PER_THREAD = 4;
+	
+	// smaller chunk is not worth a mapping and a task, and bigger chunk can't be mapped (and wait too long)
+	private static final long MIN_CHUNK_SIZE = 1 << 20;
+	private static final long MAX_CHUNK_SIZE = 1 << 28;
 	
 	/**
 	 * Convert a string of word to a signature (number)
 	 * "Hello" become "43556" not "4433555555666"
-	 * This algorithm use array signatureOfChar rather than 'nested if'
-	 * 'Nested if' make program longer, by this it will easier to read
+	 * The characters are converted by KeypadLayout.STANDARD without StringBuffer and lower case copy of the word
 	 * @param word : String of word that will be converted to its signature
 	 * @return signature of converted word
 	 */
 	public static String wordToSignature(String word)
 	{
-		// signatureStringBuffer used to make signature of the word and become the return value
-		// StringBuffer is used to make signature string rather than using String
-		// because it is faster to append a string especially appending many times using loop
-		// when append a string using '+', the string converted to StringBuffer and then
-		// append the StringBuffer, then convert it back to String, it is faster
-		// by just using StringBuffer, no need convert it to String every time it is appended
-		StringBuffer signatureStringBuffer = new StringBuffer("");
-		
-		// word must not null to be converted
+		// the word must not null to be converted
 		if (word == null)
 		{
 			return word;
 		}
-		// word become lower case for easier conversion
-		word = word.toLowerCase(); 
 		
-		// change every word's characters to it's signature
-		for(int i = 0; i < word.length(); i++)
+		// the signature have the same length with the word
+		char signature[] = new char[word.length()];
+		return new String(signature, 0, SignatureConverter.wordToSignature(word, signature));
+	}
+	
+	/**
+	 * Function to translate signature of word into a word that exist in dictionary file
+	 * the dictionary is not stored in the program, every time this function called the whole
+	 * dictionary file is scanned again (see signaturesToWords(signatures, path))
+	 * @param signature : string of number that will translated to word
+	 * @return Set (in form of HashSet) of String that contain all possible word in dictionary
+	 */
+	public static Set<String> signatureToWords(String signature)
+	{
+		return signatureToWords(signature, "assets/words");
+	}
+	
+	/**
+	 * Function to translate signature of word into a word that exist in a certain dictionary file
+	 * the same as signatureToWords(signature), the whole dictionary file is scanned again
+	 * @param signature : string of number that will translated to word
+	 * @param path : directory path to dictionary file
+	 * @return Set (in form of HashSet) of String that contain all possible word in dictionary
+	 */
+	public static Set<String> signatureToWords(String signature, String path)
+	{
+		return signaturesToWords(Collections.singletonList(signature), path).get(0);
+	}
+	
+	/**
+	 * Function to translate many signatures into words that exist in a certain dictionary file
+	 * with only one scan of the file, the words of all signatures are found together
+	 * 
+	 * No index is stored, so the dictionary file could be bigger than the heap, but every line is
+	 * checked again for every call :
+	 * the file is memory mapped (no copy to a BufferedReader buffer and no String for every line),
+	 * split into chunks that always begin at the beginning of a line, and the chunks are scanned in
+	 * parallel by the common fork join pool
+	 * the line with the length of a searched signature is packed into a long from the bytes of the line,
+	 * and searched with binary search in the sorted packed signatures, so the String is only made for
+	 * the matched words
+	 * signature longer than SignatureConverter.MAX_PACKED_LENGTH can't be packed, and compared byte by byte
+	 * 
+	 * the words are the same as BufferedReader.readLine (a line end with '\n', '\r', or "\r\n"),
+	 * and the frequency after the word (separated by space or tab) is skipped like the dictionaries,
+	 * the words are converted with KeypadLayout.STANDARD (see signaturesToWords(signatures, path, layout))
+	 * @param signatures : signatures that will translated to words
+	 * @param path : directory path to dictionary file
+	 * @return Set (in form of HashSet) of words for every signature, with the same order as signatures
+	 *         (empty Set for signature that is empty or contain non numerical)
+	 */
+	public static List<Set<String>> signaturesToWords(Collection<String> signatures, String path)
+	{
+		return signaturesToWords(signatures, path, KeypadLayout.STANDARD);
+	}
+	
+	/**
+	 * Function to translate many signatures into words that exist in a certain dictionary file
+	 * with only one scan of the file, the same as signaturesToWords(signatures, path) with other keypad layout
+	 * the line that only have ASCII bytes is converted byte by byte, the other line is decoded as UTF-8 first
+	 * @param signatures : signatures that will translated to words
+	 * @param path : directory path to dictionary file (UTF-8)
+	 * @param layout : keypad layout used to convert the words to signature
+	 * @return Set (in form of HashSet) of words for every signature, with the same order as signatures
+	 *         (empty Set for signature that is empty or contain non numerical)
+	 */
+	public static List<Set<String>> signaturesToWords(Collection<String> signatures, String path, KeypadLayout layout)
+	{
+		// the signatures that will be searched, every different valid signature only once
+		ScanTarget scanTarget = new ScanTarget(signatures, layout);
+		
+		// the words of every signature of scanTarget
+		Set<String> wordsOfTarget[] = null;
+		
+		// no need to read the file if there is no valid signature
+		if (scanTarget.getTargetCount() > 0)
+		{
+			try
+			{
+				RandomAccessFile dictionaryFile = new RandomAccessFile(path, "r");
+				try
+				{
+					FileChannel dictionaryChannel = dictionaryFile.getChannel();
+					long chunkStarts[] = splitIntoChunks(dictionaryChannel);
+					wordsOfTarget = ForkJoinPool.commonPool().invoke(
+							new ScanChunksTask(dictionaryChannel, chunkStarts, 0, chunkStarts.length - 1, scanTarget));
+				}
+				finally
+				{
+					// don't forget to close the file, the mapped chunks are still valid after it's closed
+					dictionaryFile.close();
+				}
+			}
+			catch (UncheckedIOException e)
+			{
+				// the chunk that can't be mapped by ScanChunksTask
+				e.getCause().printStackTrace();
+			}
+			catch (IOException e)
+			{
+				e.printStackTrace();
+			}
+		}
+		
+		// every signature get it's own Set, so a Set can be changed without changing the other
+		List<Set<String>> listWords = new ArrayList<Set<String>>(signatures.size());
+		for (String element : signatures)
 		{
-			if (word.charAt(i) >= 'a' && word.charAt(i) <= 'z')
+			int targetIndex = scanTarget.indexOf(element);
+			if (wordsOfTarget == null || targetIndex < 0 || wordsOfTarget[targetIndex] == null)
 			{
-				// signatureOfChar will make conversion easier
-				signatureStringBuffer.append(signatureOfChar[word.charAt(i)- 'a' ]);
+				listWords.add(new HashSet<String>());
 			}
 			else
 			{
-				signatureStringBuffer.append(" "); // for non alphabet changed to " " (space)
+				listWords.add(new HashSet<String>(wordsOfTarget[targetIndex]));
 			}
 		}
-		
-		return signatureStringBuffer.toString();
+		return listWords;
 	}
 	
 	/**
-	 * Function to translate signature of word into a word that exist in dictionary file
-	 * the algorithm is not efficient because the dictionary not stored in the program
-	 * every time this function called, the program will read every line of dictionary
-	 * reading file is slow and time consuming, this will slow the program
-	 * especially if using Scanner to read every line of file, BufferedReader is
-	 * faster than Scanner in this case
-	 * @param signature : string of number that will translated to word
-	 * @return Set (in form of HashSet) of String that contain all possible word in dictionary
+	 * Function to split the dictionary file into chunks, every chunk begin at the beginning of a line
+	 * the chunk is big enough so the mapping and the task are not more expensive than the scan, and
+	 * there are more chunks than the threads of the common fork join pool for big file, so faster
+	 * threads can take more chunks
+	 * @param dictionaryChannel : channel of the dictionary file
+	 * @return the position of the beginning of every chunk, followed by the size of the file
+	 * @throws IOException if the file can't be read or a line is longer than MAX_CHUNK_SIZE
 	 */
-	public static Set<String> signatureToWords(String signature)
+	private static long[] splitIntoChunks(FileChannel dictionaryChannel) throws IOException
 	{
+		long fileSize = dictionaryChannel.size();
+		long chunkSize = fileSize / (ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD);
+		chunkSize = Math.min(Math.max(chunkSize, MIN_CHUNK_SIZE), MAX_CHUNK_SIZE);
 		
-		// all char of signature must be numeric
-		// if not, then no need to convert it because it can't be converted
-		if (isNumericWord(signature) && signature.length() > 0)
+		List<Long> listChunkStarts = new ArrayList<Long>();
+		listChunkStarts.add(0L);
+		
+		// the next chunk begin after the first line separator from the approximate position
+		ByteBuffer readBuffer = ByteBuffer.allocate(256);
+		long chunkStart = 0;
+		while (fileSize - chunkStart > chunkSize)
 		{
-			
-			// Set containing all possible word match in dictionary
-			// HashSet is used because it is fast (O(1) constant time lookup) and
-			// use self balance tree for collision, thus worst case is (O(log n) time lookup)
-			// HashSet is faster than TreeSet (O(log n) because algorithm of tree) and 
-			// LinkedHashSet (similar with HashSet but use LinkedList for collision)
-			Set<String> matchedPossibleWord = new HashSet<String>();
-			
-			try
+			long position = chunkStart + chunkSize - 1;
+			chunkStart = -1;
+			while (chunkStart < 0 && position < fileSize)
 			{
-				// fileReader used to read every line of dictionary file
-				// BufferedReader is more efficient than Scanner when reading
-				// every line of file, Scanner is a bit slower
-				BufferedReader fileReader = new BufferedReader(new FileReader("assets/words"));
-				
-				// String to store word that have been read from dictionary file
-				String fileOneLine = null;
-				
-				// read all word in dictionary and store it in set if the signature of the
-				// words is the same with the signature parameter
-				while((fileOneLine = fileReader.readLine()) != null)
+				readBuffer.clear();
+				int readLength = dictionaryChannel.read(readBuffer, position);
+				for (int i = 0; i < readLength; i++)
 				{
-					// if text contain non-alphabet, then skipped to next line
-					if (isValidWord(fileOneLine))
+					if (isLineSeparator(readBuffer.get(i)))
 					{
-						// changed to lower case for easier comparison and because
-						// all words need to stored in lower case
-						fileOneLine = fileOneLine.toLowerCase();
-						
-						if (wordToSignature(fileOneLine).compareTo(signature) == 0)
-						{
-							// the word have same signature
-							matchedPossibleWord.add(fileOneLine);
-						}							
+						chunkStart = position + i + 1;
+						break;
 					}
 				}
-				
-				// don't forget to close the BufferedReader
-				fileReader.close();
+				position += Math.max(readLength, 0);
 			}
-			catch (IOException e)
+			
+			// the last line doesn't have line separator, it's part of the last chunk
+			if (chunkStart < 0 || chunkStart >= fileSize)
 			{
-				e.printStackTrace();
+				break;
 			}
-			
-			// returning all word from translated signature that exist in the dictionary
-			return matchedPossibleWord;
+			if (chunkStart - listChunkStarts.get(listChunkStarts.size() - 1) > MAX_CHUNK_SIZE)
+			{
+				throw new IOException("line at position " + listChunkStarts.get(listChunkStarts.size() - 1) + " is too long");
+			}
+			listChunkStarts.add(chunkStart);
 		}
 		
-		// return empty set if the signature contain non numerical
-		// or the signature is empty
-		return new HashSet<String>();
+		if (fileSize - listChunkStarts.get(listChunkStarts.size() - 1) > MAX_CHUNK_SIZE)
+		{
+			throw new IOException("line at position " + listChunkStarts.get(listChunkStarts.size() - 1) + " is too long");
+		}
+		
+		long chunkStarts[] = new long[listChunkStarts.size() + 1];
+		for (int i = 0; i < listChunkStarts.size(); i++)
+		{
+			chunkStarts[i] = listChunkStarts.get(i);
+		}
+		chunkStarts[listChunkStarts.size()] = fileSize;
+		return chunkStarts;
 	}
 	
 	/**
-	 * Function to check if a string contain non alphabet
-	 * @param word : word to be checked
-	 * @return true if all word's characters are alphabet, false if there's one word's character that 
-	 *         is non alphabet
+	 * Function to check if a byte of the file is the end of a line
+	 * @param character : byte of the file
+	 * @return true if the byte is '\n' or '\r'
 	 */
-	private static boolean isValidWord(String word)
+	private static boolean isLineSeparator(byte character)
 	{
-		for (int i = 0; i < word.length(); i++)
+		return character == '\n' || character == '\r';
+	}
+	
+	/**
+	 * Function to check if the rest of an ASCII line after the word is a frequency (a number), the same as
+	 * the frequency parsed by the dictionaries
+	 * @param mappedChunk : the chunk that contain the line
+	 * @param start : position after the space or tab after the word
+	 * @param end : position of the end of the line
+	 * @return true if the rest of the line is a number
+	 */
+	private static boolean isFrequency(ByteBuffer mappedChunk, int start, int end)
+	{
+		byte frequencyBytes[] = new byte[end - start];
+		for (int i = 0; i < frequencyBytes.length; i++)
+		{
+			frequencyBytes[i] = mappedChunk.get(start + i);
+		}
+		
+		try
+		{
+			Integer.parseInt(new String(frequencyBytes, StandardCharsets.US_ASCII).trim());
+			return true;
+		}
+		catch (NumberFormatException e)
+		{
+			return false;
+		}
+	}
+	
+	/**
+	 * Function to pack the signature of a line, the same as KeypadLayout.wordToPackedSignature
+	 * but the word is read from the bytes of the file
+	 * @param mappedChunk : the chunk that contain the line
+	 * @param lineStart : position of the beginning of the line in the chunk
+	 * @param lineLength : length of the line, not longer than SignatureConverter.MAX_PACKED_LENGTH
+	 * @param layout : keypad layout used to convert the characters (the line only have ASCII bytes)
+	 * @return the packed signature, or SignatureConverter.INVALID_PACKED_SIGNATURE if the line contain
+	 *         character that is not on the keypad
+	 */
+	private static long packSignature(ByteBuffer mappedChunk, int lineStart, int lineLength, KeypadLayout layout)
+	{
+		long packedSignature = 1;
+		for (int i = lineStart; i < lineStart + lineLength; i++)
 		{
-			if ((word.charAt(i) < 'a' || word.charAt(i) > 'z') &&
-				(word.charAt(i) < 'A' || word.charAt(i) > 'Z'))
+			char signature = layout.signatureOf((char)mappedChunk.get(i));
+			if (signature == KeypadLayout.NO_SIGNATURE)
 			{
-				return false;
+				return SignatureConverter.INVALID_PACKED_SIGNATURE;
 			}
+			packedSignature = (packedSignature << 3) | (signature - '2');
 		}
-		return true;
+		return packedSignature;
+	}
+	
+	/**
+	 * Function to scan one chunk of the dictionary file
+	 * @param mappedChunk : the memory mapped chunk, begin at the beginning of a line
+	 * @param scanTarget : the signatures that are searched
+	 * @return Set of words for every signature of scanTarget, null for signature without word
+	 */
+	private static Set<String>[] scanChunk(ByteBuffer mappedChunk, ScanTarget scanTarget)
+	{
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		Set<String> wordsOfTarget[] = new Set[scanTarget.getTargetCount()];
+		
+		KeypadLayout layout = scanTarget.getLayout();
+		
+		// the line that is not ASCII is parsed the same as the dictionaries parse every line
+		DictionaryLineParser lineParser = new DictionaryLineParser(layout);
+		
+		int chunkSize = mappedChunk.limit();
+		int position = 0;
+		while (position < chunkSize)
+		{
+			// find the end of the line first, the line that doesn't have the length of any signature
+			// is skipped without converting the characters
+			// the bytes are joined by OR, so it's negative if one of the byte is not ASCII
+			// the word end at the first space or tab if the line have frequency after the word
+			int lineStart = position;
+			int lineLength = -1;
+			int joinedBytes = 0;
+			while (position < chunkSize && isLineSeparator(mappedChunk.get(position)) == false)
+			{
+				byte character = mappedChunk.get(position);
+				if (lineLength < 0 && (character == ' ' || character == '\t'))
+				{
+					lineLength = position - lineStart;
+				}
+				joinedBytes |= character;
+				position += 1;
+			}
+			int lineEnd = position;
+			if (lineLength < 0)
+			{
+				lineLength = lineEnd - lineStart;
+			}
+			
+			// skip the line separator, the next line begin after it
+			position += 1;
+			
+			if (joinedBytes < 0)
+			{
+				// the line is not ASCII (other language or letter with diacritic that is folded by the layout)
+				// the String is needed to know the characters and the length of the word
+				byte lineBytes[] = new byte[lineEnd - lineStart];
+				for (int i = 0; i < lineBytes.length; i++)
+				{
+					lineBytes[i] = mappedChunk.get(lineStart + i);
+				}
+				
+				int targetIndex = -1;
+				if (lineParser.parse(new String(lineBytes, StandardCharsets.UTF_8)) &&
+					scanTarget.hasLength(lineParser.getWord().length()))
+				{
+					targetIndex = scanTarget.indexOfWord(lineParser.getWord());
+				}
+				if (targetIndex >= 0)
+				{
+					if (wordsOfTarget[targetIndex] == null)
+					{
+						wordsOfTarget[targetIndex] = new HashSet<String>();
+					}
+					wordsOfTarget[targetIndex].add(lineParser.getWord());
+				}
+			}
+			else if (scanTarget.hasLength(lineLength))
+			{
+				int targetIndex = lineLength <= SignatureConverter.MAX_PACKED_LENGTH ?
+								  scanTarget.indexOfPacked(packSignature(mappedChunk, lineStart, lineLength, layout)) :
+								  scanTarget.indexOfLong(mappedChunk, lineStart, lineLength);
+				
+				// the frequency is only checked for the matched word, the line with frequency that is
+				// not a number is not a valid word
+				if (targetIndex >= 0 && lineLength < lineEnd - lineStart &&
+					isFrequency(mappedChunk, lineStart + lineLength + 1, lineEnd) == false)
+				{
+					targetIndex = -1;
+				}
+				if (targetIndex >= 0)
+				{
+					if (wordsOfTarget[targetIndex] == null)
+					{
+						wordsOfTarget[targetIndex] = new HashSet<String>();
+					}
+					
+					// the word is changed to lower case, all the bytes are ASCII letters
+					char word[] = new char[lineLength];
+					for (int i = 0; i < lineLength; i++)
+					{
+						word[i] = Character.toLowerCase((char)mappedChunk.get(lineStart + i));
+					}
+					wordsOfTarget[targetIndex].add(new String(word));
+				}
+			}
+		}
+		
+		return wordsOfTarget;
 	}
 	
 	/**
@@ -175,4 +417,322 @@ public class PredictivePrototype {
 		}
 		return true;
 	}
+	
+	/**
+	 * The signatures searched by signaturesToWords, every different valid signature has an index
+	 * the signatures that can be packed are sorted by the packed value (binary search for every line),
+	 * the longer signatures are after them and stored as bytes (compared with the bytes of the line)
+	 * @author Hans Sean Nathanael
+	 *
+	 */
+	private static class ScanTarget {
+		
+		// sorted packed signatures, the index is the index of the signature
+		private long packedSignatures[];
+		
+		// signatures that can't be packed, the index is packedSignatures.length + index of this array
+		private byte longSignatures[][];
+		
+		// true for the length of a signature, the line with other length is not searched
+		private boolean hasLengthOfLine[];
+		
+		// keypad layout used to convert the words of the lines to signature
+		private KeypadLayout layout;
+		
+		/**
+		 * Constructor of this class
+		 * @param signatures : the searched signatures, the invalid signature is skipped
+		 * @param layout : keypad layout used to convert the words of the lines to signature
+		 */
+		public ScanTarget(Collection<String> signatures, KeypadLayout layout)
+		{
+			this.layout = layout;
+			
+			long packedSignaturesOfTarget[] = new long[signatures.size()];
+			int packedCount = 0;
+			List<String> listLongSignatures = new ArrayList<String>();
+			int maxLength = 0;
+			
+			for (String element : signatures)
+			{
+				if (element.length() == 0 || isNumericWord(element) == false)
+				{
+					continue;
+				}
+				
+				if (element.length() <= SignatureConverter.MAX_PACKED_LENGTH)
+				{
+					packedSignaturesOfTarget[packedCount] = SignatureConverter.packSignature(element);
+					packedCount += 1;
+				}
+				else if (listLongSignatures.contains(element) == false)
+				{
+					listLongSignatures.add(element);
+				}
+				maxLength = Math.max(maxLength, element.length());
+			}
+			
+			// sorted and without the same signature twice
+			Arrays.sort(packedSignaturesOfTarget, 0, packedCount);
+			int distinctCount = 0;
+			for (int i = 0; i < packedCount; i++)
+			{
+				if (distinctCount == 0 || packedSignaturesOfTarget[distinctCount - 1] != packedSignaturesOfTarget[i])
+				{
+					packedSignaturesOfTarget[distinctCount] = packedSignaturesOfTarget[i];
+					distinctCount += 1;
+				}
+			}
+			this.packedSignatures = Arrays.copyOf(packedSignaturesOfTarget, distinctCount);
+			
+			this.longSignatures = new byte[listLongSignatures.size()][];
+			for (int i = 0; i < this.longSignatures.length; i++)
+			{
+				this.longSignatures[i] = new byte[listLongSignatures.get(i).length()];
+				for (int j = 0; j < this.longSignatures[i].length; j++)
+				{
+					this.longSignatures[i][j] = (byte)listLongSignatures.get(i).charAt(j);
+				}
+			}
+			
+			this.hasLengthOfLine = new boolean[maxLength + 1];
+			for (String element : signatures)
+			{
+				if (element.length() > 0 && isNumericWord(element))
+				{
+					this.hasLengthOfLine[element.length()] = true;
+				}
+			}
+		}
+		
+		/**
+		 * Method to get the keypad layout used to convert the words
+		 * @return the keypad layout
+		 */
+		public KeypadLayout getLayout()
+		{
+			return this.layout;
+		}
+		
+		/**
+		 * Method to get the number of different valid signatures
+		 * @return number of signatures that are searched
+		 */
+		public int getTargetCount()
+		{
+			return this.packedSignatures.length + this.longSignatures.length;
+		}
+		
+		/**
+		 * Method to check if there is a signature with the length of a line
+		 * @param length : length of the line
+		 * @return true if a signature have the length
+		 */
+		public boolean hasLength(int length)
+		{
+			return length < this.hasLengthOfLine.length && this.hasLengthOfLine[length];
+		}
+		
+		/**
+		 * Method to get the index of a signature
+		 * @param signature : signature given to signaturesToWords
+		 * @return index of the signature, or -1 if the signature is not valid
+		 */
+		public int indexOf(String signature)
+		{
+			if (signature.length() == 0 || isNumericWord(signature) == false)
+			{
+				return -1;
+			}
+			
+			if (signature.length() <= SignatureConverter.MAX_PACKED_LENGTH)
+			{
+				return this.indexOfPacked(SignatureConverter.packSignature(signature));
+			}
+			for (int i = 0; i < this.longSignatures.length; i++)
+			{
+				if (this.longSignatures[i].length == signature.length() && isSameSignature(this.longSignatures[i], signature))
+				{
+					return this.packedSignatures.length + i;
+				}
+			}
+			return -1;
+		}
+		
+		/**
+		 * Method to get the index of a packed signature
+		 * @param packedSignature : signature packed by SignatureConverter
+		 * @return index of the signature, or negative if the signature is not searched
+		 */
+		public int indexOfPacked(long packedSignature)
+		{
+			return Arrays.binarySearch(this.packedSignatures, packedSignature);
+		}
+		
+		/**
+		 * Method to get the index of the signature of a line that is too long to be packed
+		 * the line is converted to signature byte by byte while compared, without making any object
+		 * @param mappedChunk : the chunk that contain the line
+		 * @param lineStart : position of the beginning of the line in the chunk
+		 * @param lineLength : length of the line (the line only have ASCII bytes)
+		 * @return index of the signature, or -1 if the signature of the line is not searched
+		 */
+		public int indexOfLong(ByteBuffer mappedChunk, int lineStart, int lineLength)
+		{
+			for (int i = 0; i < this.longSignatures.length; i++)
+			{
+				if (this.longSignatures[i].length != lineLength)
+				{
+					continue;
+				}
+				
+				int j = 0;
+				while (j < lineLength &&
+					   this.layout.signatureOf((char)mappedChunk.get(lineStart + j)) == this.longSignatures[i][j])
+				{
+					j += 1;
+				}
+				if (j == lineLength)
+				{
+					return this.packedSignatures.length + i;
+				}
+			}
+			return -1;
+		}
+		
+		/**
+		 * Method to get the index of the signature of a word that is already decoded
+		 * (the line that is not ASCII)
+		 * @param word : the word of the line
+		 * @return index of the signature, or negative if the signature of the word is not searched
+		 */
+		public int indexOfWord(String word)
+		{
+			if (word.length() <= SignatureConverter.MAX_PACKED_LENGTH)
+			{
+				return this.indexOfPacked(this.layout.wordToPackedSignature(word));
+			}
+			
+			for (int i = 0; i < this.longSignatures.length; i++)
+			{
+				if (this.longSignatures[i].length != word.length())
+				{
+					continue;
+				}
+				
+				int j = 0;
+				while (j < word.length() && this.layout.signatureOf(word.charAt(j)) == this.longSignatures[i][j])
+				{
+					j += 1;
+				}
+				if (j == word.length())
+				{
+					return this.packedSignatures.length + i;
+				}
+			}
+			return -1;
+		}
+		
+		/**
+		 * Method to check if signature in byte array is the same as signature in String
+		 * @param signatureOfWord : signature in byte array, the length must not be shorter than signature
+		 * @param signature : signature in String
+		 * @return true if all characters of signature is the same with signatureOfWord
+		 */
+		private static boolean isSameSignature(byte signatureOfWord[], String signature)
+		{
+			for (int i = 0; i < signature.length(); i++)
+			{
+				if (signatureOfWord[i] != signature.charAt(i))
+				{
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+	
+	/**
+	 * Task to scan chunks of the dictionary file, the chunks are split into two tasks until one chunk
+	 * is left, then the chunk is mapped and scanned
+	 * @author Hans Sean Nathanael
+	 *
+	 */
+	private static class ScanChunksTask extends RecursiveTask<Set<String>[]> {
+		
+		private static final long serialVersionUID = 1L;
+		
+		// channel of the dictionary file
+		private FileChannel dictionaryChannel;
+		
+		// position of the beginning of every chunk, followed by the size of the file
+		private long chunkStarts[];
+		
+		// the chunks scanned by this task (from index to before index)
+		private int fromChunk;
+		private int toChunk;
+		
+		// the searched signatures
+		private ScanTarget scanTarget;
+		
+		/**
+		 * Constructor of the task
+		 * @param dictionaryChannel : channel of the dictionary file
+		 * @param chunkStarts : position of the beginning of every chunk, followed by the size of the file
+		 * @param fromChunk : index of the first chunk scanned by this task
+		 * @param toChunk : index after the last chunk scanned by this task
+		 * @param scanTarget : the searched signatures
+		 */
+		public ScanChunksTask(FileChannel dictionaryChannel, long chunkStarts[], int fromChunk, int toChunk,
+							  ScanTarget scanTarget)
+		{
+			this.dictionaryChannel = dictionaryChannel;
+			this.chunkStarts = chunkStarts;
+			this.fromChunk = fromChunk;
+			this.toChunk = toChunk;
+			this.scanTarget = scanTarget;
+		}
+		
+		@Override
+		protected Set<String>[] compute()
+		{
+			if (this.toChunk - this.fromChunk <= 1)
+			{
+				try
+				{
+					ByteBuffer mappedChunk = this.dictionaryChannel.map(FileChannel.MapMode.READ_ONLY,
+							this.chunkStarts[this.fromChunk], this.chunkStarts[this.toChunk] - this.chunkStarts[this.fromChunk]);
+					return scanChunk(mappedChunk, this.scanTarget);
+				}
+				catch (IOException e)
+				{
+					// compute can't throw IOException, it's thrown again by signaturesToWords
+					throw new UncheckedIOException(e);
+				}
+			}
+			
+			int middleChunk = (this.fromChunk + this.toChunk) >>> 1;
+			ScanChunksTask leftTask = new ScanChunksTask(this.dictionaryChannel, this.chunkStarts, this.fromChunk,
+														 middleChunk, this.scanTarget);
+			ScanChunksTask rightTask = new ScanChunksTask(this.dictionaryChannel, this.chunkStarts, middleChunk,
+														  this.toChunk, this.scanTarget);
+			leftTask.fork();
+			Set<String> wordsOfTarget[] = rightTask.compute();
+			Set<String> leftWordsOfTarget[] = leftTask.join();
+			
+			// the words found by both task are joined to the Set of the right task
+			for (int i = 0; i < wordsOfTarget.length; i++)
+			{
+				if (wordsOfTarget[i] == null)
+				{
+					wordsOfTarget[i] = leftWordsOfTarget[i];
+				}
+				else if (leftWordsOfTarget[i] != null)
+				{
+					wordsOfTarget[i].addAll(leftWordsOfTarget[i]);
+				}
+			}
+			return wordsOfTarget;
+		}
+	}
 }
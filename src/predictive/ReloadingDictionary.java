@@ -0,0 +1,276 @@
+package predictive;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * This class is a dictionary that create a new dictionary again when the dictionary file is changed
+ * The active dictionary is stored in an atomic reference, the new dictionary is fully created by the watcher
+ * thread first and then swapped, so the search never wait for the reload and never see a dictionary
+ * that is not fully created (the old dictionary is still used by the search that already started)
+ * The dictionaries print the IOException and create an empty dictionary if the file can't be read, so the
+ * file is checked before and after the new dictionary is created, the old dictionary is kept if the file
+ * is deleted, can't be read, is empty, or is changed while the new dictionary is created
+ * @author Hans Sean Nathanael
+ *
+ */
+public class ReloadingDictionary implements Dictionary, Closeable {
+
+	// time to wait for more change of the file before the dictionary is created again, so a file
+	// that is written in many steps is only read once after it's finished
+	private static final long QUIET_PERIOD_MILLIS = 200;
+
+	// directory path to dictionary file
+	private Path dictionaryPath;
+
+	// used to create the dictionary from the dictionary file, called for the first dictionary and every reload
+	private Function<String, Dictionary> dictionaryFactory;
+
+	// the dictionary that is used by the search
+	private AtomicReference<Dictionary> activeDictionary = new AtomicReference<Dictionary>();
+
+	// number of times the dictionary is created again after the first dictionary
+	private volatile int reloadCount = 0;
+
+	// number of times the dictionary file is changed but the old dictionary is kept
+	private volatile int failedReloadCount = 0;
+
+	// watch the directory of the dictionary file, closed to stop the watcher thread
+	private WatchService watchService;
+	private Thread watcherThread;
+
+	/**
+	 * Constructor of this class
+	 * the first dictionary is created in this thread, and then the directory of dictionary file is watched
+	 * @param path : directory path to dictionary file
+	 * @param dictionaryFactory : function to create the dictionary from the directory path to dictionary file
+	 * @throws IOException if the directory of dictionary file can't be watched
+	 */
+	public ReloadingDictionary(String path, Function<String, Dictionary> dictionaryFactory) throws IOException
+	{
+		this.dictionaryPath = Paths.get(path).toAbsolutePath();
+		this.dictionaryFactory = dictionaryFactory;
+		this.activeDictionary.set(dictionaryFactory.apply(path));
+
+		// WatchService can only watch directory, so the events are filtered by the file name
+		this.watchService = FileSystems.getDefault().newWatchService();
+		this.dictionaryPath.getParent().register(this.watchService,
+												 StandardWatchEventKinds.ENTRY_CREATE,
+												 StandardWatchEventKinds.ENTRY_MODIFY);
+
+		this.watcherThread = new Thread(new Runnable() {
+
+			@Override
+			public void run()
+			{
+				watchDictionaryFile();
+			}
+		}, "dictionary-watcher");
+
+		// the watcher thread must not keep the program running
+		this.watcherThread.setDaemon(true);
+		this.watcherThread.start();
+	}
+
+	/**
+	 * Method run by the watcher thread, wait for the change of dictionary file and reload the dictionary
+	 * until the watch service is closed
+	 */
+	private void watchDictionaryFile()
+	{
+		try
+		{
+			while (true)
+			{
+				WatchKey watchKey = this.watchService.take();
+				boolean isChanged = this.isDictionaryFileChanged(watchKey);
+
+				// take all the change of the file until there's no change for QUIET_PERIOD_MILLIS
+				while (isChanged && (watchKey = this.watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) != null)
+				{
+					this.isDictionaryFileChanged(watchKey);
+				}
+
+				if (isChanged)
+				{
+					// the old dictionary is kept if the new one can't be created, and the file is still watched
+					try
+					{
+						this.reload();
+					}
+					catch (IOException | RuntimeException e)
+					{
+						this.failedReloadCount += 1;
+						e.printStackTrace();
+					}
+				}
+			}
+		}
+		catch (ClosedWatchServiceException e)
+		{
+			// the dictionary is closed, stop watching
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Method to check if one of the events of the watch key is the change of dictionary file
+	 * the watch key is reset, so it can take the next events
+	 * @param watchKey : watch key of the directory of dictionary file
+	 * @return true if the dictionary file is created or modified
+	 */
+	private boolean isDictionaryFileChanged(WatchKey watchKey)
+	{
+		boolean isChanged = false;
+		for (WatchEvent<?> element : watchKey.pollEvents())
+		{
+			// overflow event doesn't have the file name, some events might be lost so just reload
+			if (element.kind() == StandardWatchEventKinds.OVERFLOW ||
+				this.dictionaryPath.getFileName().equals(element.context()))
+			{
+				isChanged = true;
+			}
+		}
+		watchKey.reset();
+		return isChanged;
+	}
+
+	/**
+	 * Method to create the dictionary again from the dictionary file and swap the active dictionary
+	 * the search that run at the same time keep using the old dictionary until it's finished
+	 * synchronized so two reload at the same time can't swap the older dictionary after the newer one
+	 * (the search never use the lock, so it's never blocked by the reload)
+	 * @throws IOException if the dictionary file is deleted, can't be read, is empty, or is changed
+	 *         while the new dictionary is created (the old dictionary is kept)
+	 */
+	public synchronized void reload() throws IOException
+	{
+		// the file that is written while it's read would create a dictionary with only some of the words,
+		// it's changed again after this, so the watcher will reload it again
+		long fileStateBefore[] = this.getDictionaryFileState();
+		Dictionary newDictionary = this.dictionaryFactory.apply(this.dictionaryPath.toString());
+		if (Arrays.equals(fileStateBefore, this.getDictionaryFileState()) == false)
+		{
+			throw new IOException(this.dictionaryPath + " is changed while the dictionary is created");
+		}
+
+		this.activeDictionary.set(newDictionary);
+		this.reloadCount += 1;
+	}
+
+	/**
+	 * Method to check the dictionary file can be used to create the dictionary and get its size and the time
+	 * it's modified, so the change while the dictionary is created can be found
+	 * @return {size, time modified in milliseconds} of the dictionary file
+	 * @throws IOException if the dictionary file doesn't exist, can't be read, or is empty
+	 */
+	private long[] getDictionaryFileState() throws IOException
+	{
+		if (Files.isReadable(this.dictionaryPath) == false)
+		{
+			throw new IOException(this.dictionaryPath + " doesn't exist or can't be read");
+		}
+
+		long fileSize = Files.size(this.dictionaryPath);
+		if (fileSize == 0)
+		{
+			throw new IOException(this.dictionaryPath + " is empty");
+		}
+		return new long[] {fileSize, Files.getLastModifiedTime(this.dictionaryPath).toMillis()};
+	}
+
+	/**
+	 * Method to get the dictionary that is used by the search right now
+	 * @return the active dictionary
+	 */
+	public Dictionary getDictionary()
+	{
+		return this.activeDictionary.get();
+	}
+
+	/**
+	 * Method to get the number of reload
+	 * @return number of times the dictionary is created again after the first dictionary
+	 */
+	public int getReloadCount()
+	{
+		return this.reloadCount;
+	}
+
+	/**
+	 * Method to get the number of reload that failed
+	 * @return number of times the dictionary file is changed but the old dictionary is kept
+	 */
+	public int getFailedReloadCount()
+	{
+		return this.failedReloadCount;
+	}
+
+	@Override
+	public String wordToSignature(String word)
+	{
+		return this.activeDictionary.get().wordToSignature(word);
+	}
+
+	@Override
+	public Set<String> signatureToWords(String signature)
+	{
+		return this.activeDictionary.get().signatureToWords(signature);
+	}
+
+	@Override
+	public List<Set<String>> signaturesToWords(Collection<String> signatures)
+	{
+		// the whole batch is searched in the same dictionary
+		return this.activeDictionary.get().signaturesToWords(signatures);
+	}
+
+	@Override
+	public KeypadLayout getLayout()
+	{
+		return this.activeDictionary.get().getLayout();
+	}
+
+	@Override
+	public Iterator<String> signatureToWordsIterator(String signature)
+	{
+		// the iterator keep the dictionary when it's created, even if the dictionary is swapped
+		return this.activeDictionary.get().signatureToWordsIterator(signature);
+	}
+
+	@Override
+	public Stream<String> signatureToWordsStream(String signature)
+	{
+		return this.activeDictionary.get().signatureToWordsStream(signature);
+	}
+
+	/**
+	 * Method to stop watching the dictionary file, the active dictionary can still be used
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		this.watchService.close();
+	}
+}
@@ -0,0 +1,299 @@
+package predictive;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This class is used to translate the signatures of a whole sentence into the most probable sentences
+ * The words of every signature are searched in the dictionary, then the sentences are searched from the
+ * first word to the last word with Viterbi search using the probability of BigramModel :
+ * the probability of a sentence that end with a word only depend on the best sentences that end with
+ * the previous word, so only the best maxSentences sentences for every word are kept (not all combination)
+ * and only beamWidth sentences are kept after every word (beam search), so the time is linear to the number
+ * of signatures and doesn't depend on the number of words of a common signature
+ * @author Hans Sean Nathanael
+ *
+ */
+public class SentenceDecoder {
+
+	// number of sentences kept after every word if not given to the constructor
+	public static final int DEFAULT_BEAM_WIDTH = 32;
+
+	// dictionary to search the words of every signature
+	private Dictionary dictionary;
+
+	// probability of the words
+	private BigramModel bigramModel;
+
+	// number of sentences kept after every word, also the maximum number of words of a signature
+	// (the words with the smallest probability are not used if a signature have more words)
+	private int beamWidth;
+
+	/**
+	 * One possible sentence until a word, the sentence is linked to the sentence until the previous word,
+	 * so the sentences with the same beginning share the beginning
+	 * @author Hans Sean Nathanael
+	 *
+	 */
+	private static class Hypothesis {
+
+		// the last word and it's index in BigramModel
+		private String word;
+		private int wordIndex;
+
+		// index of the last word in the words of the signature, the same word index always have the
+		// same probability to the next word
+		private int candidateIndex;
+
+		// logarithm of the probability of the sentence
+		private double logProbability;
+
+		// the sentence until the previous word, null for the beginning
+		private Hypothesis previous;
+
+		/**
+		 * Constructor of the hypothesis
+		 * @param word : the last word
+		 * @param wordIndex : index of the last word in BigramModel
+		 * @param candidateIndex : index of the last word in the words of the signature
+		 * @param logProbability : logarithm of the probability of the sentence
+		 * @param previous : the sentence until the previous word
+		 */
+		public Hypothesis(String word, int wordIndex, int candidateIndex, double logProbability, Hypothesis previous)
+		{
+			this.word = word;
+			this.wordIndex = wordIndex;
+			this.candidateIndex = candidateIndex;
+			this.logProbability = logProbability;
+			this.previous = previous;
+		}
+	}
+
+	// the more probable sentence is first
+	private static final Comparator<Hypothesis> MOST_PROBABLE_FIRST = new Comparator<Hypothesis>() {
+
+		@Override
+		public int compare(Hypothesis first, Hypothesis second)
+		{
+			return Double.compare(second.logProbability, first.logProbability);
+		}
+	};
+
+	/**
+	 * Constructor of this class with DEFAULT_BEAM_WIDTH
+	 * @param dictionary : dictionary to search the words of every signature (exact signature is better,
+	 *        the words of a prefix dictionary are only the beginning of the words)
+	 * @param bigramModel : probability of the words
+	 */
+	public SentenceDecoder(Dictionary dictionary, BigramModel bigramModel)
+	{
+		this(dictionary, bigramModel, DEFAULT_BEAM_WIDTH);
+	}
+
+	/**
+	 * Constructor of this class
+	 * @param dictionary : dictionary to search the words of every signature
+	 * @param bigramModel : probability of the words
+	 * @param beamWidth : number of sentences kept after every word (bigger is slower but could find better sentence)
+	 */
+	public SentenceDecoder(Dictionary dictionary, BigramModel bigramModel, int beamWidth)
+	{
+		if (beamWidth < 1)
+		{
+			throw new IllegalArgumentException("beam width must be positive");
+		}
+		this.dictionary = dictionary;
+		this.bigramModel = bigramModel;
+		this.beamWidth = beamWidth;
+	}
+
+	/**
+	 * Method to get the most probable sentence of the signatures
+	 * @param signatures : signatures of the words separated by whitespace, like "4663 8447"
+	 * @return words of the most probable sentence, empty if there is no signature
+	 */
+	public List<String> decodeBest(String signatures)
+	{
+		List<List<String>> listSentences = this.decode(signatures, 1);
+		return listSentences.isEmpty() ? new ArrayList<String>() : listSentences.get(0);
+	}
+
+	/**
+	 * Method to get the most probable sentences of the signatures
+	 * @param signatures : signatures of the words separated by whitespace, like "4663 8447"
+	 * @param maxSentences : maximum number of sentences
+	 * @return words of the most probable sentences, the most probable first
+	 */
+	public List<List<String>> decode(String signatures, int maxSentences)
+	{
+		String trimmedSignatures = signatures.trim();
+		if (trimmedSignatures.isEmpty())
+		{
+			return new ArrayList<List<String>>();
+		}
+		return this.decode(Arrays.asList(trimmedSignatures.split("\\s+")), maxSentences);
+	}
+
+	/**
+	 * Method to get the most probable sentences of the signatures
+	 * the signature that doesn't have any word in the dictionary is kept as the word, so every sentence
+	 * have the same number of words as the signatures
+	 * @param signatures : signature of every word
+	 * @param maxSentences : maximum number of sentences (not more than the beam width)
+	 * @return words of the most probable sentences, the most probable first
+	 */
+	public List<List<String>> decode(List<String> signatures, int maxSentences)
+	{
+		List<List<String>> listSentences = new ArrayList<List<String>>();
+		if (signatures.isEmpty() || maxSentences < 1)
+		{
+			return listSentences;
+		}
+
+		// the words of all signatures are searched together, the dictionary could search faster
+		List<Set<String>> listWords = this.dictionary.signaturesToWords(signatures);
+
+		// the beginning of the sentence is the sentence boundary
+		int sentenceBoundary = this.bigramModel.getSentenceBoundary();
+		List<Hypothesis> beam = new ArrayList<Hypothesis>();
+		beam.add(new Hypothesis(null, sentenceBoundary, 0, 0, null));
+		int previousCandidateCount = 1;
+
+		for (int i = 0; i < signatures.size(); i++)
+		{
+			String candidates[] = this.getCandidates(signatures.get(i), listWords.get(i));
+			int candidateIndexes[] = new int[candidates.length];
+			for (int j = 0; j < candidates.length; j++)
+			{
+				candidateIndexes[j] = this.bigramModel.getWordIndex(candidates[j]);
+			}
+
+			// probability of every word after every previous word, only computed for the previous
+			// word that is still in the beam
+			double transitions[][] = new double[previousCandidateCount][];
+
+			List<Hypothesis> nextBeam = new ArrayList<Hypothesis>();
+			Hypothesis bestOfWord[] = new Hypothesis[maxSentences];
+			for (int j = 0; j < candidates.length; j++)
+			{
+				// the best maxSentences sentences that end with this word
+				int bestCount = 0;
+				for (Hypothesis element : beam)
+				{
+					if (transitions[element.candidateIndex] == null)
+					{
+						transitions[element.candidateIndex] = new double[candidates.length];
+						for (int k = 0; k < candidates.length; k++)
+						{
+							transitions[element.candidateIndex][k] =
+									this.bigramModel.getLogProbability(element.wordIndex, candidateIndexes[k]);
+						}
+					}
+
+					double logProbability = element.logProbability + transitions[element.candidateIndex][j];
+					if (bestCount < maxSentences || logProbability > bestOfWord[bestCount - 1].logProbability)
+					{
+						bestCount = insertSorted(bestOfWord, bestCount,
+												 new Hypothesis(candidates[j], candidateIndexes[j], j, logProbability, element));
+					}
+				}
+				nextBeam.addAll(Arrays.asList(bestOfWord).subList(0, bestCount));
+			}
+
+			// only the best sentences are continued to the next word
+			Collections.sort(nextBeam, MOST_PROBABLE_FIRST);
+			beam = nextBeam.size() > this.beamWidth ? nextBeam.subList(0, this.beamWidth) : nextBeam;
+			previousCandidateCount = candidates.length;
+		}
+
+		// the end of the sentence is the sentence boundary too
+		List<Hypothesis> listEnded = new ArrayList<Hypothesis>();
+		for (Hypothesis element : beam)
+		{
+			listEnded.add(new Hypothesis(null, sentenceBoundary, 0,
+										 element.logProbability + this.bigramModel.getLogProbability(element.wordIndex, sentenceBoundary),
+										 element));
+		}
+		Collections.sort(listEnded, MOST_PROBABLE_FIRST);
+
+		for (Hypothesis element : listEnded.subList(0, Math.min(maxSentences, listEnded.size())))
+		{
+			// the words are linked from the last word, so the sentence is reversed
+			List<String> sentence = new ArrayList<String>(signatures.size());
+			for (Hypothesis word = element.previous; word.previous != null; word = word.previous)
+			{
+				sentence.add(word.word);
+			}
+			Collections.reverse(sentence);
+			listSentences.add(sentence);
+		}
+		return listSentences;
+	}
+
+	/**
+	 * Method to get the words that could be the word of a signature
+	 * @param signature : the signature
+	 * @param words : words of the signature from the dictionary
+	 * @return the most probable words (not more than the beam width), or the signature if there is no word
+	 */
+	private String[] getCandidates(String signature, Set<String> words)
+	{
+		if (words.isEmpty())
+		{
+			return new String[] {signature};
+		}
+
+		String candidates[] = words.toArray(new String[words.size()]);
+		if (candidates.length > this.beamWidth)
+		{
+			// the word that is more often used is more probable in every sentence
+			final double wordProbabilities[] = new double[candidates.length];
+			Integer sortedIndex[] = new Integer[candidates.length];
+			for (int i = 0; i < candidates.length; i++)
+			{
+				wordProbabilities[i] = this.bigramModel.getLogProbability(this.bigramModel.getWordIndex(candidates[i]));
+				sortedIndex[i] = i;
+			}
+			Arrays.sort(sortedIndex, new Comparator<Integer>() {
+
+				@Override
+				public int compare(Integer first, Integer second)
+				{
+					return Double.compare(wordProbabilities[second], wordProbabilities[first]);
+				}
+			});
+
+			String mostProbableCandidates[] = new String[this.beamWidth];
+			for (int i = 0; i < this.beamWidth; i++)
+			{
+				mostProbableCandidates[i] = candidates[sortedIndex[i]];
+			}
+			candidates = mostProbableCandidates;
+		}
+		return candidates;
+	}
+
+	/**
+	 * Method to insert a sentence to array of sentences sorted from the most probable
+	 * the least probable sentence is removed if the array is full
+	 * @param sortedHypotheses : the sorted sentences
+	 * @param count : number of sentences in the array
+	 * @param hypothesis : the inserted sentence, more probable than the last sentence if the array is full
+	 * @return number of sentences in the array after the insertion
+	 */
+	private static int insertSorted(Hypothesis sortedHypotheses[], int count, Hypothesis hypothesis)
+	{
+		int position = Math.min(count, sortedHypotheses.length - 1);
+		while (position > 0 && sortedHypotheses[position - 1].logProbability < hypothesis.logProbability)
+		{
+			sortedHypotheses[position] = sortedHypotheses[position - 1];
+			position -= 1;
+		}
+		sortedHypotheses[position] = hypothesis;
+		return Math.min(count + 1, sortedHypotheses.length);
+	}
+}
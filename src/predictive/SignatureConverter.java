@@ -0,0 +1,143 @@
+package predictive;
+
+/**
+ * This class is used to convert words to signature without making new object for every word
+ * the signature is written to array given by the caller or packed into a long, so the same
+ * array can be used again for all words when reading dictionary file
+ * "Hello" become "43556" not "4433555555666"
+ * The words are converted with KeypadLayout.STANDARD, the dictionaries with other layout use
+ * the same methods of their KeypadLayout
+ * @author Hans Sean Nathanael
+ *
+ */
+public class SignatureConverter {
+
+	// the longest signature that can be packed into a long (1 bit beginning mark + 21 * 3 bits = 64 bits)
+	public static final int MAX_PACKED_LENGTH = 21;
+
+	// packed signature always have the beginning mark bit, so 0 is never a packed signature
+	// and used to tell the word can't be packed (contain non alphabet or too long)
+	public static final long INVALID_PACKED_SIGNATURE = 0;
+
+	/**
+	 * This class just have static method, so no need to be created
+	 */
+	private SignatureConverter() {}
+
+	/**
+	 * Method to get signature of a character, the same as changing the character to lower case first
+	 * @param character : character of a word
+	 * @return signature of the character ('2' - '9'), or ' ' (space) if the character is not alphabet
+	 */
+	public static char signatureOf(char character)
+	{
+		return KeypadLayout.STANDARD.signatureOf(character);
+	}
+
+	/**
+	 * Method to convert a word to signature and write it to a char array
+	 * @param word : word that will be converted to its signature
+	 * @param signature : array to write the signature, the length must not be shorter than the word
+	 * @return length of the signature (the same as length of the word)
+	 */
+	public static int wordToSignature(CharSequence word, char signature[])
+	{
+		return KeypadLayout.STANDARD.wordToSignature(word, signature);
+	}
+
+	/**
+	 * Method to convert a word to signature and write it to a byte array as ASCII character
+	 * @param word : word that will be converted to its signature
+	 * @param signature : array to write the signature
+	 * @param offset : index of signature array to write the first signature
+	 * @return length of the signature (the same as length of the word)
+	 */
+	public static int wordToSignature(CharSequence word, byte signature[], int offset)
+	{
+		return KeypadLayout.STANDARD.wordToSignature(word, signature, offset);
+	}
+
+	/**
+	 * Method to convert a word to signature packed into a long, 3 bits each character
+	 * (signature 2 is 000, 3 is 001, until 9 is 111) after one bit 1 as the beginning mark,
+	 * so "2" (1 000) and "22" (1 000 000) are different
+	 * @param word : word that will be converted to its signature
+	 * @return the packed signature, or INVALID_PACKED_SIGNATURE if the word is empty, longer
+	 *         than MAX_PACKED_LENGTH, or contain non alphabet
+	 */
+	public static long wordToPackedSignature(CharSequence word)
+	{
+		return KeypadLayout.STANDARD.wordToPackedSignature(word);
+	}
+
+	/**
+	 * Method to pack a signature into a long, the same packing as wordToPackedSignature
+	 * @param signature : signature to be packed
+	 * @return the packed signature, or INVALID_PACKED_SIGNATURE if the signature is empty, longer
+	 *         than MAX_PACKED_LENGTH, or contain character outside 2-9
+	 */
+	public static long packSignature(CharSequence signature)
+	{
+		if (signature.length() == 0 || signature.length() > MAX_PACKED_LENGTH)
+		{
+			return INVALID_PACKED_SIGNATURE;
+		}
+
+		long packedSignature = 1;
+		for (int i = 0; i < signature.length(); i++)
+		{
+			if (signature.charAt(i) < '2' || signature.charAt(i) > '9')
+			{
+				return INVALID_PACKED_SIGNATURE;
+			}
+			packedSignature = (packedSignature << 3) | (signature.charAt(i) - '2');
+		}
+		return packedSignature;
+	}
+
+	/**
+	 * Method to convert many words to signature at once, all words use the same char array for conversion
+	 * so the only new object is the String of every signature
+	 * @param words : words that will be converted to signature
+	 * @return signature of every word with the same index, null for null word
+	 */
+	public static String[] wordsToSignatures(String words[])
+	{
+		String signatures[] = new String[words.length];
+		char signature[] = new char[16];
+
+		for (int i = 0; i < words.length; i++)
+		{
+			if (words[i] == null)
+			{
+				continue;
+			}
+			if (signature.length < words[i].length())
+			{
+				signature = new char[words[i].length() * 2];
+			}
+			signatures[i] = new String(signature, 0, wordToSignature(words[i], signature));
+		}
+
+		return signatures;
+	}
+
+	/**
+	 * Method to convert many words to packed signature at once, without making any object
+	 * @param words : words that will be converted to signature
+	 * @param packedSignatures : array to write the packed signature of every word with the same index,
+	 *        the length must not be shorter than words
+	 */
+	public static void wordsToPackedSignatures(String words[], long packedSignatures[])
+	{
+		if (packedSignatures.length < words.length)
+		{
+			throw new IllegalArgumentException("packed signature array is shorter than the words");
+		}
+
+		for (int i = 0; i < words.length; i++)
+		{
+			packedSignatures[i] = words[i] == null ? INVALID_PACKED_SIGNATURE : wordToPackedSignature(words[i]);
+		}
+	}
+}
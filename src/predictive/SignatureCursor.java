@@ -0,0 +1,65 @@
+package predictive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Interface for cursor that search words in dictionary one signature at a time
+ * the cursor remember the position of the previous signatures, so adding or removing
+ * one signature doesn't need to search all the signature from the beginning again
+ * @author Hans Sean Nathanael
+ *
+ */
+public interface SignatureCursor {
+
+	/**
+	 * Method to add one signature after the current signature
+	 * @param signature : the next signature (2-9), other character will make the result empty
+	 */
+	void advance(char signature);
+
+	/**
+	 * Method to remove the last signature, nothing will happen if the signature is empty
+	 */
+	void back();
+
+	/**
+	 * Method to remove all signature, the cursor will be in the beginning again
+	 */
+	void reset();
+
+	/**
+	 * Method to get length of the current signature
+	 * @return number of signature that have been added
+	 */
+	int length();
+
+	/**
+	 * Method to get all words in dictionary with the current signature
+	 * @return set of words that have the current signature, the same result as Dictionary.signatureToWords
+	 */
+	Set<String> getWords();
+
+	/**
+	 * Method to get the k most frequent words with the current signature, searched from the position of the cursor
+	 * (the default implementation is for the dictionary without frequency, every word have the same frequency
+	 * so it's the first k words of getWords in lexicographic order)
+	 * @param k : maximum number of words
+	 * @return list of at most k words, the most frequent first (the same frequency ordered by the word)
+	 */
+	default List<String> topK(int k)
+	{
+		List<String> mostFrequentWords = new ArrayList<String>();
+		for (String element : new TreeSet<String>(this.getWords()))
+		{
+			if (mostFrequentWords.size() >= k)
+			{
+				break;
+			}
+			mostFrequentWords.add(element);
+		}
+		return mostFrequentWords;
+	}
+}
@@ -0,0 +1,185 @@
+package predictive;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * This class is used to store many words in one byte array (one byte each character) with the offset of
+ * every word, rather than one String object for every word
+ * Every String have the object header, the hash, and the array with it's own header, it's more than the
+ * characters of a short word, so the String is only created when the word is returned by the dictionary
+ * If one of the words have character after ISO-8859-1 (the words of other keypad layout, like Greek),
+ * all words are stored in char array instead (two bytes each character), like compact String of Java
+ * @author Hans Sean Nathanael
+ *
+ */
+public class WordArena {
+
+	// characters of all words packed without separator, one byte each character
+	// null if one of the words have character after ISO-8859-1, then wordChars is used
+	private byte wordBytes[];
+
+	// characters of all words packed without separator if they can't be stored in wordBytes, otherwise null
+	private char wordChars[];
+
+	// the characters of word i are wordBytes from wordOffsets[i] until wordOffsets[i + 1] (exclusive)
+	private int wordOffsets[];
+
+	/**
+	 * Constructor of this class, the words are copied to the byte array in the same order
+	 * @param listWords : the words that will be stored
+	 */
+	public WordArena(List<String> listWords)
+	{
+		int wordCharsLength = 0;
+		boolean isLatin1 = true;
+		for (String element : listWords)
+		{
+			wordCharsLength += element.length();
+			for (int i = 0; i < element.length() && isLatin1; i++)
+			{
+				isLatin1 = element.charAt(i) <= 0xFF;
+			}
+		}
+
+		if (isLatin1)
+		{
+			this.wordBytes = new byte[wordCharsLength];
+		}
+		else
+		{
+			this.wordChars = new char[wordCharsLength];
+		}
+		this.wordOffsets = new int[listWords.size() + 1];
+
+		int offset = 0;
+		for (int i = 0; i < listWords.size(); i++)
+		{
+			String word = listWords.get(i);
+			this.wordOffsets[i] = offset;
+			if (isLatin1)
+			{
+				for (int j = 0; j < word.length(); j++)
+				{
+					this.wordBytes[offset + j] = (byte)word.charAt(j);
+				}
+			}
+			else
+			{
+				word.getChars(0, word.length(), this.wordChars, offset);
+			}
+			offset += word.length();
+		}
+		this.wordOffsets[listWords.size()] = offset;
+	}
+
+	/**
+	 * Method to get the number of words
+	 * @return number of words stored
+	 */
+	public int size()
+	{
+		return this.wordOffsets.length - 1;
+	}
+
+	/**
+	 * Method to get the length of a word without creating the String
+	 * @param index : index of the word
+	 * @return number of characters of the word
+	 */
+	public int getLength(int index)
+	{
+		return this.wordOffsets[index + 1] - this.wordOffsets[index];
+	}
+
+	/**
+	 * Method to create the String of a word
+	 * @param index : index of the word
+	 * @return the word
+	 */
+	public String getWord(int index)
+	{
+		return this.getWord(index, this.getLength(index));
+	}
+
+	/**
+	 * Method to create the String of the beginning of a word, so the word doesn't need to be
+	 * created first and then trimmed by substring
+	 * @param index : index of the word
+	 * @param length : number of characters from the beginning of the word, must not longer than the word
+	 * @return the first length characters of the word
+	 */
+	public String getWord(int index, int length)
+	{
+		if (this.wordBytes == null)
+		{
+			return new String(this.wordChars, this.wordOffsets[index], length);
+		}
+
+		// ISO-8859-1 map every byte to the same character, so the bytes are copied without decoding
+		return new String(this.wordBytes, this.wordOffsets[index], length, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Method to get all words as a list, the String of a word is only created when it's taken from the list
+	 * @return read only list of all words in the same order
+	 */
+	public List<String> asList()
+	{
+		return new WordList();
+	}
+
+	/**
+	 * Method to estimate how many bytes of memory used by this arena
+	 * (array header 16 bytes, 1 byte each character (2 bytes for char array), and 4 bytes each offset)
+	 * @return estimation of memory cost of all words in bytes
+	 */
+	public long getMemoryCost()
+	{
+		long charactersCost = this.wordBytes == null ? 2L * this.wordChars.length : this.wordBytes.length;
+		return 16 + charactersCost + 16 + 4L * this.wordOffsets.length;
+	}
+
+	/**
+	 * Method to estimate how many bytes of memory used by the same words stored as String array
+	 * the estimation is based on 64 bit JVM with compressed reference and compact string (String object 24 bytes,
+	 * byte array 16 bytes plus 1 byte each character rounded up to 8 bytes, and 4 bytes for the reference)
+	 * @param listWords : the words that stored as String
+	 * @return estimation of memory cost of the String array in bytes
+	 */
+	public static long getStringMemoryCost(List<String> listWords)
+	{
+		long memoryCost = 16 + 4L * listWords.size();
+		for (String element : listWords)
+		{
+			memoryCost += 24 + ((16 + element.length() + 7) / 8) * 8;
+		}
+		return memoryCost;
+	}
+
+	/**
+	 * Read only list of the words of the arena, sub list of this list is also a view without copying
+	 * @author Hans Sean Nathanael
+	 *
+	 */
+	private class WordList extends AbstractList<String> implements RandomAccess {
+
+		@Override
+		public String get(int index)
+		{
+			if (index < 0 || index >= size())
+			{
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+			}
+			return getWord(index);
+		}
+
+		@Override
+		public int size()
+		{
+			return WordArena.this.size();
+		}
+	}
+}
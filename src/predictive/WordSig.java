@@ -8,6 +8,7 @@ package predictive;
 public class WordSig implements Comparable<WordSig> {
 	private String word;
 	private String signature;
+	private int frequency;
 	
 	/**
 	 * Constructor with signature of a word and the word
@@ -15,9 +16,21 @@ public class WordSig implements Comparable<WordSig> {
 	 * @param word : word to be pair with it's signature
 	 */
 	public WordSig(String signature, String word)
+	{
+		this(signature, word, 0);
+	}
+	
+	/**
+	 * Constructor with signature of a word, the word, and how often the word is used
+	 * @param signature : signature of the word
+	 * @param word : word to be pair with it's signature
+	 * @param frequency : frequency of the word (bigger is more often used)
+	 */
+	public WordSig(String signature, String word, int frequency)
 	{
 		this.signature = signature;
 		this.word = word;
+		this.frequency = frequency;
 	}
 	
 	/**
@@ -37,6 +50,15 @@ public class WordSig implements Comparable<WordSig> {
 	{
 		return this.signature;
 	}
+	
+	/**
+	 * Method get value of frequency
+	 * @return frequency of the word, 0 if the frequency is unknown
+	 */
+	public int getFrequency()
+	{
+		return this.frequency;
+	}
 
 	@Override
 	public int compareTo(WordSig o) {
@@ -0,0 +1,67 @@
+package predictivegui;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event for one stage of the work done by PredictiveDictionaryModel after a key is pressed
+ * (like moving the signature cursor, searching the most frequent words, adding the other words, or creating the text)
+ * so the stage that make the application slow can be found with the standard JFR tools
+ * @author Hans Sean Nathanael
+ *
+ */
+@Name("predictive.KeystrokeStage")
+@Label("Keystroke Stage")
+@Category({"Predictive Dictionary", "GUI"})
+@Description("One stage of the work done by the model after a key is pressed")
+public class KeystrokeStageEvent extends Event {
+	
+	// result size of the stage that only move the cursor, the words of the new signature are not searched yet
+	static final int UNKNOWN_RESULT_SIZE = -1;
+	
+	@Label("Operation")
+	@Description("Method of the model called by the key (addSignature, backspaceSignature, changeWords, or enterUserInputWord)")
+	private String operation;
+	
+	@Label("Stage")
+	private String stage;
+	
+	@Label("Signature Length")
+	private int signatureLength;
+	
+	@Label("Result Size")
+	@Description("Number of words found for the signature after the stage, -1 if the words are not searched yet")
+	private int resultSize;
+	
+	/**
+	 * Constructor of the event, the event is begun by this constructor
+	 * @param operation : method of the model called by the key
+	 * @param stage : name of the stage
+	 */
+	KeystrokeStageEvent(String operation, String stage)
+	{
+		this.operation = operation;
+		this.stage = stage;
+		this.begin();
+	}
+	
+	/**
+	 * Method to end and record the event
+	 * @param signatureLength : length of the signature after the stage
+	 * @param resultSize : number of words found for the signature after the stage, UNKNOWN_RESULT_SIZE if
+	 *        the stage doesn't search the words
+	 */
+	void finish(int signatureLength, int resultSize)
+	{
+		this.end();
+		if (this.shouldCommit())
+		{
+			this.signatureLength = signatureLength;
+			this.resultSize = resultSize;
+			this.commit();
+		}
+	}
+}
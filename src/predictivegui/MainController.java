@@ -8,9 +8,11 @@ import java.util.Observer;
 /**
  * Class for main controller for the MainView (UI) and the PredictiveDictionaryModel
  * The class implement observer for the PredictiveDictionaryModel and ActionListener for the UI
+ * (Observer is deprecated since Java 9, the warning is suppressed the same as PredictiveDictionaryModel)
  * @author Hans Sean Nathanael
  *
  */
+@SuppressWarnings("deprecation")
 public class MainController implements Observer, ActionListener {
 
 	// main view or main UI
@@ -36,6 +38,9 @@ public class MainController implements Observer, ActionListener {
 		
 		// this class become observer of the dictionary
 		this.dictionary.addObserver(this);
+		
+		// the first word is predicted before anything is typed
+		this.mainView.setNextWordsTo(this.dictionary.getNextWordPredictions());
 	}
 
 	@Override
@@ -45,6 +50,9 @@ public class MainController implements Observer, ActionListener {
 			// PredictiveDictionaryModel just have one method that call notifyObservers
 			// and the argument was the text need to showed in UI
 			this.mainView.setUserTextFieldTo(arg.toString());
+			
+			// the predicted next words are changed together with the text
+			this.mainView.setNextWordsTo(this.dictionary.getNextWordPredictions());
 		}
 	}
 
@@ -6,7 +6,10 @@ import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.event.ActionListener;
 
+import java.util.List;
+
 import javax.swing.JButton;
+import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
@@ -46,6 +49,9 @@ public class MainPanel extends JPanel {
 	// scroll pane for the userTextField to allow scroll bar when userTextField is full
 	private JScrollPane scrollPaneForUserTextField = new JScrollPane(this.userTextField);
 	
+	// label used to show the predicted next words
+	private JLabel nextWordsLabel = new JLabel(" ");
+	
 	// array of button for all button in this UI
 	// the action command for each button is from commandButton with the same index
 	// and the text from buttonDescription with the same index
@@ -84,6 +90,11 @@ public class MainPanel extends JPanel {
 		gridBagConstraint.weighty = 0.5;
 		
 		this.addComponentToGridBagLayout(scrollPaneForUserTextField, gridBagLayout, gridBagConstraint);
+		
+		// the predicted next words are in one line under the text area, the height is not stretched
+		gridBagConstraint.weighty = 0;
+		this.nextWordsLabel.setFont(new Font("Arial", Font.ITALIC, 14));
+		this.addComponentToGridBagLayout(nextWordsLabel, gridBagLayout, gridBagConstraint);
 
 		// buttons will take the second half of frame (bottom half), supposedly... 
 		gridBagConstraint.weightx = 0.5 / 3;
@@ -94,7 +105,7 @@ public class MainPanel extends JPanel {
 		// setting all buttons (text, UI style, and listener)
 		for (int i = 0; i < 12; i++)
 		{
-			gridBagConstraint.gridy = 1 + i / 3; // the first row for the scrollPaneForUserTextField
+			gridBagConstraint.gridy = 2 + i / 3; // the first row for the scrollPaneForUserTextField and the second for nextWordsLabel
 			
 			buttonNumber[i] = new JButton();
 			buttonNumber[i].setFont(new Font("Arial", Font.PLAIN, 16));
@@ -140,4 +151,20 @@ public class MainPanel extends JPanel {
 			this.userTextField.setText(words);	
 		}
 	}
+	
+	/**
+	 * Method to change the predicted next words in nextWordsLabel
+	 * @param words : the predicted next words
+	 */
+	public void setNextWordsTo(List<String> words)
+	{
+		// the label keep one space when there is no word, so the height of the label is not changed
+		StringBuffer text = new StringBuffer(" ");
+		for (String element : words)
+		{
+			text.append(element);
+			text.append("  ");
+		}
+		this.nextWordsLabel.setText(text.toString());
+	}
 }
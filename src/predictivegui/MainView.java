@@ -2,6 +2,7 @@ package predictivegui;
 
 import java.awt.Dimension;
 import java.awt.event.ActionListener;
+import java.util.List;
 
 import javax.swing.JFrame;
 
@@ -50,4 +51,13 @@ public class MainView extends JFrame {
 	{
 		this.mainPanel.setUserTextFieldWordsTo(words);
 	}
+	
+	/**
+	 * Function to change the predicted next words showed under the text area
+	 * @param words : the predicted next words
+	 */
+	public void setNextWordsTo(List<String> words)
+	{
+		this.mainPanel.setNextWordsTo(words);
+	}
 }
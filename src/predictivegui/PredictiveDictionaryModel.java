@@ -1,49 +1,80 @@
 package predictivegui;
 
+import java.io.File;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
 import java.util.Observable;
 import java.util.Set;
 import java.util.TreeSet;
 
-import predictive.Dictionary;
-import predictive.DictionaryTreeImpl;
+import predictive.DictionaryArrayTreeImpl;
+import predictive.NextWordIndex;
+import predictive.SignatureCursor;
 
 /**
  * Class for dictionary model and backbone data for application
  * This class extends Observable
+ * Observable is deprecated since Java 9, but it's enough for one model and one controller in the same thread
+ * so the deprecation warning is suppressed
  * @author Hans Sean Nathanael
  *
  */
+@SuppressWarnings("deprecation")
 public class PredictiveDictionaryModel extends Observable {
 	
+	// corpus used to predict the next word, there is no prediction if the file doesn't exist
+	private static final String CORPUS_PATH = "assets/corpus";
+	
+	// number of predicted next words showed in the UI
+	private static final int MAX_PREDICTED_WORDS = 5;
+	
+	// number of the most frequent words searched by topK after every signature, the other words
+	// are only searched when the user change the word after all of these words
+	private static final int RANKED_WORDS = 10;
+	
 	// string signature for word that still been written by user and still not entered (or finished)
 	private StringBuffer signature = new StringBuffer();
 	
-	// dictionary class (Tree Dictionary) that store all words from dictionary file
-	private Dictionary dictionary = new DictionaryTreeImpl("assets/words");
+	// dictionary class (Array Tree Dictionary) that store all words from dictionary file
+	// the array tree is used because it can find the most frequent words first (topK)
+	private DictionaryArrayTreeImpl dictionary = new DictionaryArrayTreeImpl("assets/words");
 	
-	// result of words from search in dictionary by prefix signature
-	// it is better for resultOfDictionary implement TreeSet
-	// HashSet is faster but no ordering, meanwhile TreeSet could give better
-	// experience when changing the word, because the change will ordered by lexicographic
-	// this will slow the a little bit but the difference is not significant
-	private Set<String> resultOfDictionary = new TreeSet<String>();
+	// cursor of the dictionary that always at the same signature with this.signature
+	// so every new signature or backspace doesn't need to search from the root of the tree again
+	private SignatureCursor signatureCursor = this.dictionary.cursor();
+	
+	// result of words from search in dictionary by prefix signature, in the order showed when changing the word
+	// the most frequent words are first (the first word showed is the most frequent word, the words with the
+	// same frequency ordered by lexicographic), then the other words ordered by lexicographic, so the words
+	// of a dictionary file without frequency are all lexicographic
+	private List<String> resultOfDictionary = new ArrayList<String>();
+	
+	// true if resultOfDictionary have all words of the signature, false if it only have the most frequent words
+	private boolean isResultComplete = true;
 	
 	// list of words that have been written (finished) and entered by user
 	private List<String> listWords = new ArrayList<String>();
 	
-	// iterator to iterate resultOfDictionary to get words in index currentIndex
-	private Iterator<String> wordGetterIterator = null;
+	// index of the word in resultOfDictionary that showed, -1 if no word showed yet
+	private int currentIndex = -1;
 	
 	// word that still being typed by the user (still not finished and entered)
 	private String beingTypedWord = null;
 	
+	// index of the words after other words in the corpus, null if there is no corpus
+	private NextWordIndex nextWordIndex = new File(CORPUS_PATH).isFile() ? new NextWordIndex(CORPUS_PATH) : null;
+	
+	// the predicted next words after the entered words, the most probable first
+	private List<String> nextWordPredictions = new ArrayList<String>();
+	
 	/**
-	 * Constructor of this class (empty constructor)
+	 * Constructor of this class, the first word of the text is predicted
 	 */
-	public PredictiveDictionaryModel() {}
+	public PredictiveDictionaryModel()
+	{
+		this.updateNextWordPredictions();
+	}
 	
 	/**
 	 * Method to add signature from user input
@@ -53,12 +84,14 @@ public class PredictiveDictionaryModel extends Observable {
 	{
 		// add signature, then do search with the new signature and reset the iterator
 		// to get the first word found in search result
-		// resultOfDictionary convert dictionary search result HashSet to TreeSet for better
-		// user experience, this will slow a little bit but not very significant
+		// every stage is recorded by Java Flight Recorder (KeystrokeStageEvent)
+		KeystrokeStageEvent stageEvent = new KeystrokeStageEvent("addSignature", "advance");
 		this.signature.append(signature);
-		this.resultOfDictionary.clear();
-		this.resultOfDictionary.addAll(this.dictionary.signatureToWords(this.signature.toString()));
-		this.wordGetterIterator = this.resultOfDictionary.iterator();
+		this.signatureCursor.advance(signature);
+		stageEvent.finish(this.signature.length(), KeystrokeStageEvent.UNKNOWN_RESULT_SIZE);
+		
+		this.updateResultOfDictionary("addSignature");
+		this.updateNextWordPredictions();
 		
 		// change the words of the still typed words
 		this.changeWords();
@@ -79,14 +112,19 @@ public class PredictiveDictionaryModel extends Observable {
 				
 				// set the signature to the previous word signature and remove the word from
 				// entered words list
+				KeystrokeStageEvent stageEvent = new KeystrokeStageEvent("backspaceSignature", "replay");
 				this.signature.append(dictionary.wordToSignature(this.listWords.get(this.listWords.size() - 1)));
 				this.listWords.remove(this.listWords.size() - 1);
 				
-				// resultOfDictionary convert dictionary search result HashSet to TreeSet for better
-				// user experience, this will slow a little bit but not very significant
-				this.resultOfDictionary.clear();
-				this.resultOfDictionary.addAll(this.dictionary.signatureToWords(this.signature.toString()));
-				this.wordGetterIterator = this.resultOfDictionary.iterator();
+				// the cursor must walk all the signature of the previous word
+				this.signatureCursor.reset();
+				for (int i = 0; i < this.signature.length(); i++)
+				{
+					this.signatureCursor.advance(this.signature.charAt(i));
+				}
+				stageEvent.finish(this.signature.length(), KeystrokeStageEvent.UNKNOWN_RESULT_SIZE);
+				
+				this.updateResultOfDictionary("backspaceSignature");
 			}
 			
 			// no need to do anything when no words have been written
@@ -96,41 +134,80 @@ public class PredictiveDictionaryModel extends Observable {
 			// if doing backspace after input a character on being-typed-word-by-user
 			// it just need to delete the last signature and update the result from dictionary
 			// and reset the iterator for new words
+			KeystrokeStageEvent stageEvent = new KeystrokeStageEvent("backspaceSignature", "back");
 			this.signature.deleteCharAt(this.signature.length()-1);
-			this.resultOfDictionary.clear();
-			this.resultOfDictionary.addAll(this.dictionary.signatureToWords(this.signature.toString()));
-			this.wordGetterIterator = this.resultOfDictionary.iterator();
+			this.signatureCursor.back();
+			stageEvent.finish(this.signature.length(), KeystrokeStageEvent.UNKNOWN_RESULT_SIZE);
+			
+			this.updateResultOfDictionary("backspaceSignature");
 		}
 		
+		this.updateNextWordPredictions();
 		this.changeWords();
 	}
 	
+	/**
+	 * Method to search the most frequent words of the signature from the cursor and reset the index of the showed word
+	 * the other words are searched later by completeResultOfDictionary, only if the user need them
+	 * @param operation : method of this class that update the result (for the recorded event)
+	 */
+	private void updateResultOfDictionary(String operation)
+	{
+		KeystrokeStageEvent stageEvent = new KeystrokeStageEvent(operation, "lookup");
+		this.resultOfDictionary = this.signatureCursor.topK(RANKED_WORDS);
+		this.isResultComplete = this.resultOfDictionary.size() < RANKED_WORDS;
+		this.currentIndex = -1;
+		stageEvent.finish(this.signature.length(), this.resultOfDictionary.size());
+	}
+	
+	/**
+	 * Method to add the words of the signature that are not the most frequent words to resultOfDictionary
+	 * the words are taken from the cursor and ordered by lexicographic, the search and the copy
+	 * are recorded as one stage
+	 */
+	private void completeResultOfDictionary()
+	{
+		KeystrokeStageEvent stageEvent = new KeystrokeStageEvent("changeWords", "complete");
+		Set<String> otherWords = new TreeSet<String>(this.signatureCursor.getWords());
+		otherWords.removeAll(this.resultOfDictionary);
+		this.resultOfDictionary.addAll(otherWords);
+		this.isResultComplete = true;
+		stageEvent.finish(this.signature.length(), this.resultOfDictionary.size());
+	}
+	
 	/**
 	 * Method to change the word to the next word with the same prefix signature
 	 */
 	public void changeWords()
 	{
+		// the other words are only searched when the user already see all the most frequent words
+		if (this.isResultComplete == false && this.currentIndex + 1 == this.resultOfDictionary.size())
+		{
+			this.completeResultOfDictionary();
+		}
+		
+		KeystrokeStageEvent stageEvent = new KeystrokeStageEvent("changeWords", "select");
 		if (this.resultOfDictionary.size() > 0)
 		{
 			// must check if resultOfDictionary size is more than 0
 			// because if the size is 0, the word can't be changed
 			
-			// return to the first element if iterator at last element
-			if (this.wordGetterIterator.hasNext() == false)
-			{
-				this.wordGetterIterator = this.resultOfDictionary.iterator();
-			}
-			this.beingTypedWord = this.wordGetterIterator.next(); // get next word
+			// return to the first element if the index at last element
+			this.currentIndex = (this.currentIndex + 1) % this.resultOfDictionary.size();
+			this.beingTypedWord = this.resultOfDictionary.get(this.currentIndex); // get next word
 		}
 		else
 		{
-			// iterator and typed word will be null to tell the result is empty
-			this.wordGetterIterator = null;
+			// index and typed word will be reset to tell the result is empty
+			this.currentIndex = -1;
 			this.beingTypedWord = null;
 		}
+		stageEvent.finish(this.signature.length(), this.resultOfDictionary.size());
 		
 		// change the text showed in UI
+		stageEvent = new KeystrokeStageEvent("changeWords", "text");
 		this.getText();
+		stageEvent.finish(this.signature.length(), this.resultOfDictionary.size());
 	}
 	
 	/**
@@ -148,12 +225,53 @@ public class PredictiveDictionaryModel extends Observable {
 		}
 		
 		// reset the signature, resultOfDictionary, and beingTypedWord to become ready for next text
+		KeystrokeStageEvent stageEvent = new KeystrokeStageEvent("enterUserInputWord", "reset");
 		this.signature.delete(0, signature.length());
-		this.resultOfDictionary.clear();
-		this.wordGetterIterator = null;
+		this.signatureCursor.reset();
+		this.resultOfDictionary = new ArrayList<String>();
+		this.isResultComplete = true;
+		this.currentIndex = -1;
 		this.beingTypedWord = null;
+		stageEvent.finish(this.signature.length(), this.resultOfDictionary.size());
+		
+		// the next word is predicted after the entered word, before any signature is typed
+		this.updateNextWordPredictions();
 					
+		stageEvent = new KeystrokeStageEvent("enterUserInputWord", "text");
 		this.getText();
+		stageEvent.finish(this.signature.length(), this.resultOfDictionary.size());
+	}
+	
+	/**
+	 * Method to get the predicted next words after the entered words, the words begin with the
+	 * first typed signature if one signature is typed, and empty if more signatures are typed
+	 * (the words from the dictionary are used)
+	 * @return the predicted next words, the most probable first
+	 */
+	public List<String> getNextWordPredictions()
+	{
+		return Collections.unmodifiableList(this.nextWordPredictions);
+	}
+	
+	/**
+	 * Method to predict the next words from the last entered words and the typed signature
+	 */
+	private void updateNextWordPredictions()
+	{
+		KeystrokeStageEvent stageEvent = new KeystrokeStageEvent("updateNextWordPredictions", "predict");
+		if (this.nextWordIndex == null || this.signature.length() > 1)
+		{
+			this.nextWordPredictions.clear();
+		}
+		else if (this.signature.length() == 1)
+		{
+			this.nextWordPredictions = this.nextWordIndex.predictNextWords(this.listWords, this.signature.charAt(0), MAX_PREDICTED_WORDS);
+		}
+		else
+		{
+			this.nextWordPredictions = this.nextWordIndex.predictNextWords(this.listWords, MAX_PREDICTED_WORDS);
+		}
+		stageEvent.finish(this.signature.length(), this.nextWordPredictions.size());
 	}
 	
 	/**
@@ -0,0 +1,413 @@
+package predictiveserver;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import predictive.Dictionary;
+import predictive.DictionaryTreeImpl;
+import predictive.KeypadLayout;
+
+/**
+ * This class is used to load one dictionary in one process and serve the search to other processes by HTTP,
+ * so the heap and the load time of the dictionary are only paid once for every host
+ * The server use the HTTP server of the JDK (com.sun.net.httpserver), every request is handled by its own
+ * virtual thread if the JDK have virtual threads (Java 21 or newer), a waiting request only take a few
+ * hundred bytes so thousands of clients can wait at the same time, the older JDK use a cached thread pool
+ * Requests (the response is text/plain in UTF-8) :
+ *   GET  /words?signature=4663             all words of the signature, one word for every line
+ *   GET  /prefix?signature=4&limit=10      the first limit words of the signature, the search is stopped after
+ *                                          limit words are found (signatureToWordsIterator), so a short signature
+ *                                          doesn't build the set of all its words
+ *   POST /batch                            one signature for every line of the body, the response have one line
+ *                                          for every signature with the words separated by space (empty if no word)
+ * The dictionary is only read after it's loaded, so it can be searched by many threads at the same time
+ * The server doesn't have any authentication, so main only listen on the loopback address (only the processes
+ * of the same host can connect) unless another bind address is given
+ * The JDK server send the small response without TCP_NODELAY by default, so the response wait for the delayed
+ * ACK of the client (about 40 ms), main set the system property sun.net.httpserver.nodelay to true if it's not
+ * given, the property is global for the JVM and read once when the first JDK server is created, so a program
+ * that use this class without main should set it (-Dsun.net.httpserver.nodelay=true) before any server is created
+ * @author Hans Sean Nathanael
+ *
+ */
+public class DictionaryServer {
+
+	// the biggest number of signatures in one batch request, a bigger batch is rejected
+	public static final int MAX_BATCH_SIZE = 10000;
+
+	// the biggest number of words returned by /prefix
+	public static final int MAX_PREFIX_LIMIT = 1000;
+
+	// number of words returned by /prefix if the limit is not given
+	private static final int DEFAULT_PREFIX_LIMIT = 10;
+
+	// number of connections waiting to be accepted
+	private static final int BACKLOG = 1024;
+
+	// system property of the JDK server to send the response with TCP_NODELAY
+	private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+	// the dictionary that is searched
+	private Dictionary dictionary;
+
+	// the HTTP server and the executor that run the handlers
+	private HttpServer httpServer;
+	private ExecutorService executor;
+
+	/**
+	 * Constructor of the server, the server is not started until start is called
+	 * @param dictionary : the loaded dictionary that will be searched
+	 * @param address : address and port of the server (port 0 to use any free port)
+	 * @throws IOException if the address can't be used
+	 */
+	public DictionaryServer(Dictionary dictionary, InetSocketAddress address) throws IOException
+	{
+		this.dictionary = dictionary;
+		this.httpServer = HttpServer.create(address, BACKLOG);
+		this.executor = newPerRequestExecutor();
+		this.httpServer.setExecutor(this.executor);
+
+		this.httpServer.createContext("/words", new HttpHandler() {
+
+			@Override
+			public void handle(HttpExchange exchange) throws IOException
+			{
+				handleWords(exchange);
+			}
+		});
+		this.httpServer.createContext("/prefix", new HttpHandler() {
+
+			@Override
+			public void handle(HttpExchange exchange) throws IOException
+			{
+				handlePrefix(exchange);
+			}
+		});
+		this.httpServer.createContext("/batch", new HttpHandler() {
+
+			@Override
+			public void handle(HttpExchange exchange) throws IOException
+			{
+				handleBatch(exchange);
+			}
+		});
+	}
+
+	/**
+	 * Method to create the executor that run every request in its own thread
+	 * Executors.newVirtualThreadPerTaskExecutor is called by reflection, so the server can be compiled and run
+	 * by the JDK without virtual threads
+	 * @return executor with one virtual thread for every request, or a cached thread pool if the JDK doesn't
+	 *         have virtual threads
+	 */
+	private static ExecutorService newPerRequestExecutor()
+	{
+		try
+		{
+			Method virtualExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService)virtualExecutor.invoke(null);
+		}
+		catch (ReflectiveOperationException e)
+		{
+			return Executors.newCachedThreadPool();
+		}
+	}
+
+	/**
+	 * Method to start the server, the requests are accepted after this
+	 */
+	public void start()
+	{
+		this.httpServer.start();
+	}
+
+	/**
+	 * Method to stop the server, the requests that are handled are waited for at most delaySeconds
+	 * @param delaySeconds : the longest time to wait for the requests that are handled
+	 */
+	public void stop(int delaySeconds)
+	{
+		this.httpServer.stop(delaySeconds);
+		this.executor.shutdown();
+		try
+		{
+			this.executor.awaitTermination(delaySeconds, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Method to get the port of the server (the free port that is chosen if the server is created with port 0)
+	 * @return port of the server
+	 */
+	public int getPort()
+	{
+		return this.httpServer.getAddress().getPort();
+	}
+
+	/**
+	 * Method to get the dictionary that is searched
+	 * @return the dictionary of the server
+	 */
+	public Dictionary getDictionary()
+	{
+		return this.dictionary;
+	}
+
+	/**
+	 * Method to handle /words, all words of the signature
+	 * @param exchange : the request and the response
+	 * @throws IOException if the response can't be sent
+	 */
+	private void handleWords(HttpExchange exchange) throws IOException
+	{
+		if ("GET".equals(exchange.getRequestMethod()) == false)
+		{
+			sendText(exchange, 405, "only GET is allowed\n");
+			return;
+		}
+
+		String signature = parseQuery(exchange).get("signature");
+		if (signature == null)
+		{
+			sendText(exchange, 400, "signature is not given\n");
+			return;
+		}
+
+		StringBuilder response = new StringBuilder();
+		for (String element : this.dictionary.signatureToWords(signature))
+		{
+			response.append(element).append('\n');
+		}
+		sendText(exchange, 200, response.toString());
+	}
+
+	/**
+	 * Method to handle /prefix, the first limit words of the signature
+	 * @param exchange : the request and the response
+	 * @throws IOException if the response can't be sent
+	 */
+	private void handlePrefix(HttpExchange exchange) throws IOException
+	{
+		if ("GET".equals(exchange.getRequestMethod()) == false)
+		{
+			sendText(exchange, 405, "only GET is allowed\n");
+			return;
+		}
+
+		Map<String, String> query = parseQuery(exchange);
+		String signature = query.get("signature");
+		if (signature == null)
+		{
+			sendText(exchange, 400, "signature is not given\n");
+			return;
+		}
+
+		int limit = DEFAULT_PREFIX_LIMIT;
+		if (query.containsKey("limit"))
+		{
+			try
+			{
+				limit = Integer.parseInt(query.get("limit"));
+			}
+			catch (NumberFormatException e)
+			{
+				limit = -1;
+			}
+			if (limit < 0 || limit > MAX_PREFIX_LIMIT)
+			{
+				sendText(exchange, 400, "limit must be a number from 0 to " + MAX_PREFIX_LIMIT + "\n");
+				return;
+			}
+		}
+
+		// the iterator find the next word only when it's taken, so the search stop after limit words
+		StringBuilder response = new StringBuilder();
+		Iterator<String> iterator = this.dictionary.signatureToWordsIterator(signature);
+		for (int i = 0; i < limit && iterator.hasNext(); i++)
+		{
+			response.append(iterator.next()).append('\n');
+		}
+		sendText(exchange, 200, response.toString());
+	}
+
+	/**
+	 * Method to handle /batch, the words of every signature in the body
+	 * @param exchange : the request and the response
+	 * @throws IOException if the request can't be read or the response can't be sent
+	 */
+	private void handleBatch(HttpExchange exchange) throws IOException
+	{
+		if ("POST".equals(exchange.getRequestMethod()) == false)
+		{
+			sendText(exchange, 405, "only POST is allowed\n");
+			return;
+		}
+
+		List<String> signatures = new ArrayList<String>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8));
+		String line;
+		while ((line = reader.readLine()) != null)
+		{
+			if (signatures.size() == MAX_BATCH_SIZE)
+			{
+				sendText(exchange, 413, "batch must not have more than " + MAX_BATCH_SIZE + " signatures\n");
+				return;
+			}
+			signatures.add(line.trim());
+		}
+
+		// the dictionary can share the search of the signatures with the same prefix
+		StringBuilder response = new StringBuilder();
+		for (Set<String> element : this.dictionary.signaturesToWords(signatures))
+		{
+			boolean firstWord = true;
+			for (String word : element)
+			{
+				if (firstWord == false)
+				{
+					response.append(' ');
+				}
+				response.append(word);
+				firstWord = false;
+			}
+			response.append('\n');
+		}
+		sendText(exchange, 200, response.toString());
+	}
+
+	/**
+	 * Method to get the parameters of the query of the request URI
+	 * @param exchange : the request
+	 * @return map of the parameter names to the decoded values (the first value if the name is repeated)
+	 */
+	private static Map<String, String> parseQuery(HttpExchange exchange)
+	{
+		Map<String, String> parameters = new HashMap<String, String>();
+		String query = exchange.getRequestURI().getRawQuery();
+		if (query == null)
+		{
+			return parameters;
+		}
+
+		for (String element : query.split("&"))
+		{
+			int separatorIndex = element.indexOf('=');
+			String name = separatorIndex < 0 ? element : element.substring(0, separatorIndex);
+			String value = separatorIndex < 0 ? "" : element.substring(separatorIndex + 1);
+			try
+			{
+				name = URLDecoder.decode(name, "UTF-8");
+				value = URLDecoder.decode(value, "UTF-8");
+			}
+			catch (UnsupportedEncodingException | IllegalArgumentException e)
+			{
+				// the parameter that can't be decoded is ignored
+				continue;
+			}
+
+			if (parameters.containsKey(name) == false)
+			{
+				parameters.put(name, value);
+			}
+		}
+		return parameters;
+	}
+
+	/**
+	 * Method to send the response as text in UTF-8 and close the exchange
+	 * @param exchange : the request and the response
+	 * @param status : HTTP status code
+	 * @param text : body of the response
+	 * @throws IOException if the response can't be sent
+	 */
+	private static void sendText(HttpExchange exchange, int status, String text) throws IOException
+	{
+		byte body[] = text.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+		exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+		try (OutputStream output = exchange.getResponseBody())
+		{
+			output.write(body);
+		}
+		exchange.close();
+	}
+
+	/**
+	 * Method to get the standard keypad layout by its name
+	 * @param name : name of the layout (standard, greek, or russian)
+	 * @return the layout with the name
+	 */
+	private static KeypadLayout layoutByName(String name)
+	{
+		for (KeypadLayout element : new KeypadLayout[] {KeypadLayout.STANDARD, KeypadLayout.GREEK, KeypadLayout.RUSSIAN})
+		{
+			if (element.getName().equalsIgnoreCase(name))
+			{
+				return element;
+			}
+		}
+		throw new IllegalArgumentException("unknown layout " + name + " (standard, greek, or russian)");
+	}
+
+	/**
+	 * Load the dictionary and run the server until the process is stopped
+	 * @param args : first argument is the dictionary file (default assets/words), second argument is the port
+	 *        (default 8080), third argument is the keypad layout (default standard), fourth argument is the
+	 *        bind address (default the loopback address, 0.0.0.0 to listen on every network interface)
+	 */
+	public static void main(String[] args) throws IOException {
+		String path = args.length > 0 ? args[0] : "assets/words";
+		int port = args.length > 1 ? Integer.parseInt(args[1]) : 8080;
+		KeypadLayout layout = args.length > 2 ? layoutByName(args[2]) : KeypadLayout.STANDARD;
+		InetAddress bindAddress = args.length > 3 ? InetAddress.getByName(args[3]) : InetAddress.getLoopbackAddress();
+
+		// must be set before the first JDK server is created, the value given on the command line is kept
+		if (System.getProperty(NODELAY_PROPERTY) == null)
+		{
+			System.setProperty(NODELAY_PROPERTY, "true");
+		}
+
+		long startTime = System.nanoTime();
+		Dictionary dictionary = new DictionaryTreeImpl(path, layout);
+		System.out.println("loaded " + path + " (" + layout + ") in " + (System.nanoTime() - startTime) / 1000000 + " ms");
+
+		final DictionaryServer server = new DictionaryServer(dictionary, new InetSocketAddress(bindAddress, port));
+		server.start();
+		System.out.println("listening on " + bindAddress.getHostAddress() + " port " + server.getPort());
+
+		// the requests that are handled are finished before the process is stopped
+		Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+
+			@Override
+			public void run()
+			{
+				server.stop(1);
+			}
+		}));
+	}
+}
@@ -0,0 +1,85 @@
+package test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import predictive.Dictionary;
+import predictive.DictionaryDawgImpl;
+import predictive.DictionaryListImpl;
+import predictive.DictionaryMapImpl;
+import predictive.DictionaryTreeImpl;
+import predictive.KeypadLayout;
+import predictive.PredictivePrototype;
+
+public class AccentFoldingTest {
+
+	public static void main(String[] args) throws IOException {
+
+		// cafe, cafe with acute accent, naive with diaeresis, Angstrom with ring and diaeresis, resume with
+		// acute accents, and strasse with sharp s (sharp s is two letters, can't be folded), and fiance and creme
+		// only in decomposed form (the letter and the combining accent), they're composed when they're loaded
+		List<String> words = Arrays.asList("cafe", "caf\u00e9", "na\u00efve", "\u00c5ngstr\u00f6m", "r\u00e9sum\u00e9", "stra\u00dfe",
+										   "fiance\u0301", "cre\u0300me");
+		File wordsFile = File.createTempFile("accent", ".txt");
+		wordsFile.deleteOnExit();
+		Files.write(wordsFile.toPath(), words, StandardCharsets.UTF_8);
+		String path = wordsFile.getPath();
+
+		for (String element : words)
+		{
+			System.out.println(escape(element) + " : \"" + KeypadLayout.STANDARD.wordToSignature(element) + "\"");
+		}
+
+		// the word keep the diacritic, only the signature is folded
+		Dictionary dictionaries[] = {new DictionaryMapImpl(path), new DictionaryListImpl(path),
+									 new DictionaryTreeImpl(path), new DictionaryDawgImpl(path)};
+		for (Dictionary element : dictionaries)
+		{
+			System.out.println(element.getClass().getSimpleName() + " : 2233 " + escape(element.signatureToWords("2233")) +
+							   ", 62483 " + escape(element.signatureToWords("62483")) +
+							   ", 2647876 " + escape(element.signatureToWords("2647876")) +
+							   ", 342623 " + escape(element.signatureToWords("342623")) +
+							   ", 27363 " + escape(element.signatureToWords("27363")));
+		}
+		System.out.println("PredictivePrototype : 2233 " + escape(PredictivePrototype.signatureToWords("2233", path)) +
+						   ", 342623 " + escape(PredictivePrototype.signatureToWords("342623", path)));
+
+		// Greek letter with tonos is folded to the letter without tonos
+		System.out.println("greek alpha with tonos : " + KeypadLayout.GREEK.wordToSignature("\u03ac"));
+
+		// ASCII words are converted by the same table access as before, the load time should not change
+		for (int i = 0; i < 5; i++)
+		{
+			long startTime = System.nanoTime();
+			new DictionaryMapImpl("assets/words");
+			System.out.println("load assets/words : " + (System.nanoTime() - startTime) / 1000000 + " ms");
+		}
+	}
+
+	/**
+	 * Function to write the characters after ASCII as unicode escape, so the result can be read in any console
+	 * @param object : object to be printed
+	 * @return String of the object with unicode escape
+	 */
+	private static String escape(Object object)
+	{
+		StringBuilder escapedString = new StringBuilder();
+		for (char element : String.valueOf(object).toCharArray())
+		{
+			if (element < 0x80)
+			{
+				escapedString.append(element);
+			}
+			else
+			{
+				escapedString.append(String.format("\\u%04x", (int)element));
+			}
+		}
+		return escapedString.toString();
+	}
+
+}
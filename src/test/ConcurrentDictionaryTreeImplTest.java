@@ -0,0 +1,217 @@
+package test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import predictive.ConcurrentDictionaryTreeImpl;
+
+public class ConcurrentDictionaryTreeImplTest {
+
+	// number of words added by every branch writer
+	private static final int BRANCH_WORDS = 50000;
+
+	public static void main(String[] args) throws InterruptedException {
+		// the words are added by the test, so it doesn't depend on the dictionary file
+		final ConcurrentDictionaryTreeImpl dictionary = new ConcurrentDictionaryTreeImpl();
+		final String fixedWords[] = {"good", "gone", "home", "hood", "hoof", "in", "inn", "ion", "hello", "help"};
+		for (String element : fixedWords)
+		{
+			dictionary.addWord(element);
+		}
+
+		System.out.println(dictionary.signatureToWords("4663"));
+		System.out.println(dictionary.addWord("Gonf"));
+		System.out.println(dictionary.addWord("gonf"));
+		System.out.println(dictionary.signatureToWords("4663"));
+		System.out.println(dictionary.removeWord("gonf"));
+		System.out.println(dictionary.removeWord("gonf"));
+		System.out.println(dictionary.signatureToWords("4663"));
+		System.out.println(dictionary.addWord("g0nf"));
+
+		// stress test, learned writers add and remove words with signature 4663 while readers search it
+		// readers must always see the words that never removed, and every word must have the signature
+		final String learnedWords[] = {"gond", "hmmd", "honf", "imod", "inne", "ionf", "gmme", "hnne", "inmd", "hone"};
+		final Set<String> fixedWords4663 = dictionary.signatureToWords("4663");
+
+		// at the same time, branch writers add random words, so the new nodes of diverging branches are
+		// published while readers walk the same prefixes, two writers have the same seed so they race to
+		// create the same nodes, the last word added by every writer must be found by the readers
+		final int branchWriterCount = 4;
+		final AtomicReferenceArray<String> lastBranchWords = new AtomicReferenceArray<String>(branchWriterCount);
+		final AtomicInteger addedBranchWordCount = new AtomicInteger(0);
+
+		final AtomicBoolean isRunning = new AtomicBoolean(true);
+		final AtomicInteger errorCount = new AtomicInteger(0);
+		final AtomicInteger readCount = new AtomicInteger(0);
+		List<Thread> threads = new ArrayList<Thread>();
+
+		for (int i = 0; i < 4; i++)
+		{
+			final int seed = i;
+			threads.add(new Thread(new Runnable() {
+
+				@Override
+				public void run()
+				{
+					Random random = new Random(seed);
+					for (int j = 0; j < 200000; j++)
+					{
+						String word = learnedWords[random.nextInt(learnedWords.length)];
+						if (random.nextBoolean())
+						{
+							dictionary.addWord(word);
+						}
+						else
+						{
+							dictionary.removeWord(word);
+						}
+					}
+				}
+			}));
+		}
+
+		for (int i = 0; i < branchWriterCount; i++)
+		{
+			final int writer = i;
+			threads.add(new Thread(new Runnable() {
+
+				@Override
+				public void run()
+				{
+					Random random = new Random(writer / 2);
+					for (int j = 0; j < BRANCH_WORDS; j++)
+					{
+						String word = randomWord(random);
+						if (dictionary.addWord(word))
+						{
+							addedBranchWordCount.incrementAndGet();
+						}
+						lastBranchWords.set(writer, word);
+					}
+				}
+			}));
+		}
+
+		List<Thread> readers = new ArrayList<Thread>();
+		for (int i = 0; i < 4; i++)
+		{
+			final int seed = 100 + i;
+			readers.add(new Thread(new Runnable() {
+
+				@Override
+				public void run()
+				{
+					Random random = new Random(seed);
+					while (isRunning.get())
+					{
+						Set<String> words = dictionary.signatureToWords("4663");
+						if (words.containsAll(fixedWords4663) == false)
+						{
+							errorCount.incrementAndGet();
+						}
+						for (String element : words)
+						{
+							if (dictionary.wordToSignature(element).equals("4663") == false)
+							{
+								errorCount.incrementAndGet();
+							}
+						}
+
+						// short random prefix, where the branch writers are creating the nodes
+						String prefix = dictionary.wordToSignature(randomWord(random).substring(0, 1 + random.nextInt(3)));
+						for (String element : dictionary.signatureToWords(prefix))
+						{
+							if (dictionary.wordToSignature(element).equals(prefix) == false)
+							{
+								errorCount.incrementAndGet();
+							}
+						}
+
+						// a word that addWord already returned must be visible to every reader
+						for (int j = 0; j < branchWriterCount; j++)
+						{
+							String lastWord = lastBranchWords.get(j);
+							if (lastWord != null && dictionary.signatureToWords(dictionary.wordToSignature(lastWord)).contains(lastWord) == false)
+							{
+								errorCount.incrementAndGet();
+							}
+						}
+						readCount.incrementAndGet();
+					}
+				}
+			}));
+		}
+
+		for (Thread element : readers)
+		{
+			element.start();
+		}
+		for (Thread element : threads)
+		{
+			element.start();
+		}
+		for (Thread element : threads)
+		{
+			element.join();
+		}
+		isRunning.set(false);
+		for (Thread element : readers)
+		{
+			element.join();
+		}
+
+		// every word of the branch writers must be in the tree and added only once, a lost child node
+		// or a word added twice by the writers with the same seed is an error
+		Set<String> branchWords = new HashSet<String>();
+		for (int i = 0; i < branchWriterCount; i += 2)
+		{
+			Random random = new Random(i / 2);
+			for (int j = 0; j < BRANCH_WORDS; j++)
+			{
+				branchWords.add(randomWord(random));
+			}
+		}
+		int lostWordCount = 0;
+		for (String element : branchWords)
+		{
+			if (dictionary.signatureToWords(dictionary.wordToSignature(element)).contains(element) == false)
+			{
+				lostWordCount++;
+			}
+		}
+
+		// after all writers finished, add and remove must still work
+		for (String element : learnedWords)
+		{
+			dictionary.addWord(element);
+		}
+		System.out.println();
+		System.out.println("reads : " + readCount.get() + ", errors : " + errorCount.get());
+		System.out.println("branch words : " + branchWords.size() + ", added : " + addedBranchWordCount.get() + ", lost : " + lostWordCount);
+		System.out.println(dictionary.signatureToWords("4663").containsAll(Arrays.asList(learnedWords)));
+	}
+
+	/**
+	 * Method to make a random word from 6 to 9 letters, so the signatures diverge to new branches
+	 * (longer than the fixed words, the fixed words are never changed by the writers)
+	 * @param random : random generator of the writer or the reader
+	 * @return random lower case word
+	 */
+	private static String randomWord(Random random)
+	{
+		char word[] = new char[6 + random.nextInt(4)];
+		for (int i = 0; i < word.length; i++)
+		{
+			word[i] = (char)('a' + random.nextInt(26));
+		}
+		return new String(word);
+	}
+
+}
@@ -0,0 +1,60 @@
+package test;
+
+import predictive.DictionaryArrayTreeImpl;
+
+public class DictionaryArrayTreeImplTest {
+
+	public static void main(String[] args) {
+		DictionaryArrayTreeImpl dictionary = new DictionaryArrayTreeImpl("assets/words");
+		
+		System.out.println(dictionary.signatureToWords("2665"));
+		System.out.println(dictionary.signatureToWords("43556"));
+		System.out.println(dictionary.signatureToWords("4663"));
+		System.out.println(dictionary.signatureToWords("96753"));
+		System.out.println(dictionary.signatureToWords("26653288737"));
+		System.out.println(dictionary.signatureToWords("2264"));
+		System.out.println(dictionary.signatureToWords("2263245"));
+		System.out.println(dictionary.signatureToWords("aabcd"));
+		System.out.println(dictionary.signatureToWords("384667e"));
+		System.out.println(dictionary.signatureToWords("3846673"));
+		System.out.println(dictionary.signatureToWords("329"));
+		
+		System.out.println();
+		System.out.println(dictionary.signatureToWords("4663"));
+		System.out.println(dictionary.signatureToWords("43556"));
+		System.out.println(dictionary.signatureToWords("96753"));
+		System.out.println(dictionary.signatureToWords("69"));
+		System.out.println(dictionary.signatureToWords("6263"));
+		System.out.println(dictionary.signatureToWords("47"));
+		
+		System.out.println();
+		System.out.println(dictionary.signatureToWords("123"));
+		System.out.println(dictionary.signatureToWords("2267444625"));
+		
+		// the most frequent words first (words without frequency have frequency 0)
+		System.out.println();
+		System.out.println(dictionary.topK("4663", 3));
+		System.out.println(dictionary.topK("4", 2));
+		System.out.println(dictionary.topK("2665", 10));
+		System.out.println(dictionary.topK("123", 3));
+		
+		// the short signatures have less distinct trimmed words than k and the biggest sub branch,
+		// they're ranked when the tree is created so topK doesn't take all the words of the sub branch
+		// topK is used many times first so the time is not the time of the JIT
+		for (String element : new String[] {"4", "46"})
+		{
+			for (int i = 0; i < 10000; i++)
+			{
+				dictionary.topK(element, 10);
+			}
+			long startTime = System.nanoTime();
+			for (int i = 0; i < 10000; i++)
+			{
+				dictionary.topK(element, 10);
+			}
+			System.out.println(String.format("topK %s : %.3f us %s", element, (System.nanoTime() - startTime) / 1e3 / 10000,
+											 dictionary.topK(element, 10)));
+		}
+	}
+
+}
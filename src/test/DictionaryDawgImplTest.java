@@ -0,0 +1,39 @@
+package test;
+
+import predictive.DictionaryDawgImpl;
+import predictive.DictionaryTreeImpl;
+
+public class DictionaryDawgImplTest {
+
+	public static void main(String[] args) {
+		DictionaryDawgImpl dictionary = new DictionaryDawgImpl("assets/words");
+		
+		System.out.println(dictionary.signatureToWords("2665"));
+		System.out.println(dictionary.signatureToWords("43556"));
+		System.out.println(dictionary.signatureToWords("4663"));
+		System.out.println(dictionary.signatureToWords("96753"));
+		System.out.println(dictionary.signatureToWords("26653288737"));
+		System.out.println(dictionary.signatureToWords("2264"));
+		System.out.println(dictionary.signatureToWords("aabcd"));
+		System.out.println(dictionary.signatureToWords("384667e"));
+		System.out.println(dictionary.signatureToWords("329"));
+		
+		System.out.println();
+		System.out.println(dictionary.signatureToWords("4663"));
+		System.out.println(dictionary.signatureToWords("69"));
+		System.out.println(dictionary.signatureToWords("47"));
+		
+		System.out.println();
+		System.out.println(dictionary.signatureToWords("123"));
+		System.out.println(dictionary.signatureToWords(""));
+		
+		// the result must be the same with the tree
+		DictionaryTreeImpl treeDictionary = new DictionaryTreeImpl("assets/words");
+		System.out.println();
+		System.out.println(treeDictionary.signatureToWords("466").equals(dictionary.signatureToWords("466")));
+		System.out.println(treeDictionary.signatureToWords("4663").equals(dictionary.signatureToWords("4663")));
+		System.out.println("states : " + dictionary.getStateCount() + ", edges : " + dictionary.getEdgeCount());
+		System.out.println("memory cost : " + dictionary.getMemoryCost() + " bytes");
+	}
+
+}
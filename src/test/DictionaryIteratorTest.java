@@ -0,0 +1,45 @@
+package test;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import predictive.Dictionary;
+import predictive.DictionaryArrayTreeImpl;
+import predictive.DictionaryMapImpl;
+import predictive.DictionaryPackedMapImpl;
+import predictive.DictionaryTreeImpl;
+
+public class DictionaryIteratorTest {
+
+	public static void main(String[] args) {
+		Dictionary dictionaries[] = {new DictionaryTreeImpl("assets/words"),
+									 new DictionaryTreeImpl("assets/words", 2),
+									 new DictionaryArrayTreeImpl("assets/words"),
+									 new DictionaryMapImpl("assets/words"),
+									 new DictionaryPackedMapImpl("assets/words")};
+		
+		String signatures[] = {"4", "46", "4663", "43556", "2665", "123", ""};
+		
+		for (Dictionary dictionary : dictionaries)
+		{
+			System.out.println(dictionary.getClass().getSimpleName());
+			
+			for (String signature : signatures)
+			{
+				// all words from the iterator must be the same as signatureToWords
+				Set<String> iteratedWords = new HashSet<String>();
+				Iterator<String> wordsIterator = dictionary.signatureToWordsIterator(signature);
+				while (wordsIterator.hasNext())
+				{
+					iteratedWords.add(wordsIterator.next());
+				}
+				
+				System.out.println(signature + " : " + iteratedWords.equals(dictionary.signatureToWords(signature)) + " " +
+								   dictionary.signatureToWordsStream(signature).limit(3).collect(Collectors.toList()));
+			}
+			System.out.println();
+		}
+	}
+}
@@ -31,6 +31,15 @@ public class DictionaryListImplTest {
 		System.out.println();
 		System.out.println(dictionary.signatureToWords("123"));
 		System.out.println(dictionary.signatureToWords("2267444625"));
+		
+		System.out.println();
+		System.out.println(dictionary.signatureToWordRange("4663"));
+		System.out.println(dictionary.signatureToWordRange("384667e"));
+		System.out.println(dictionary.prefixToWordRange("43556"));
+		System.out.println(dictionary.prefixSignatureToWords("4663"));
+		System.out.println(dictionary.prefixSignatureToWords("2"));
+		System.out.println(dictionary.prefixSignatureToWords(""));
+		System.out.println(dictionary.prefixSignatureToWords("123"));
 	}
 
 }
@@ -0,0 +1,76 @@
+package test;
+
+import java.io.File;
+import java.io.IOException;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import predictive.ConcurrentDictionaryTreeImpl;
+import predictive.DictionaryArrayTreeImpl;
+import predictive.DictionaryCompiler;
+import predictive.DictionaryDawgImpl;
+import predictive.DictionaryListImpl;
+import predictive.DictionaryMapImpl;
+import predictive.DictionaryMappedImpl;
+import predictive.DictionaryPackedMapImpl;
+import predictive.DictionaryTreeImpl;
+import predictive.ParallelDictionaryBuilder;
+import predictivegui.PredictiveDictionaryModel;
+
+public class DictionaryLoadEventTest {
+
+	public static void main(String[] args) throws IOException {
+		File imageFile = File.createTempFile("dictionary", ".dict");
+		imageFile.deleteOnExit();
+		DictionaryCompiler.compile("assets/words", imageFile.getPath());
+		
+		Recording recording = new Recording();
+		recording.enable("predictive.DictionaryLoad");
+		recording.enable("predictive.KeystrokeStage");
+		recording.start();
+		
+		new DictionaryTreeImpl("assets/words");
+		new DictionaryMapImpl("assets/words");
+		new DictionaryListImpl("assets/words");
+		new DictionaryArrayTreeImpl("assets/words");
+		new DictionaryPackedMapImpl("assets/words");
+		new DictionaryDawgImpl("assets/words");
+		new ConcurrentDictionaryTreeImpl("assets/words");
+		new DictionaryMappedImpl(imageFile.getPath());
+		ParallelDictionaryBuilder.buildTree("assets/words");
+		ParallelDictionaryBuilder.buildMap("assets/words");
+		
+		PredictiveDictionaryModel model = new PredictiveDictionaryModel();
+		model.addSignature('4');
+		model.addSignature('6');
+		model.backspaceSignature();
+		model.changeWords();
+		model.enterUserInputWord();
+		
+		recording.stop();
+		File recordingFile = File.createTempFile("dictionary", ".jfr");
+		recordingFile.deleteOnExit();
+		recording.dump(recordingFile.toPath());
+		recording.close();
+		
+		for (RecordedEvent element : RecordingFile.readAllEvents(recordingFile.toPath()))
+		{
+			if (element.getEventType().getName().equals("predictive.DictionaryLoad"))
+			{
+				System.out.println(element.getString("dictionaryClass") + " : " + element.getInt("wordCount") + " words, read " +
+								   element.getDuration("readTime").toMillis() + " ms, parse " +
+								   element.getDuration("parseTime").toMillis() + " ms, insert " +
+								   element.getDuration("insertTime").toMillis() + " ms, total " +
+								   element.getDuration().toMillis() + " ms");
+			}
+			else
+			{
+				System.out.println(element.getString("operation") + " " + element.getString("stage") + " : signature length " +
+								   element.getInt("signatureLength") + ", " + element.getInt("resultSize") + " words, " +
+								   element.getDuration().toNanos() + " ns");
+			}
+		}
+	}
+
+}
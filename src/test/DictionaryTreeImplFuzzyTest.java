@@ -0,0 +1,75 @@
+package test;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import predictive.DictionaryTreeImpl;
+import predictive.LatencyHistogram;
+
+public class DictionaryTreeImplFuzzyTest {
+
+	public static void main(String[] args) throws IOException {
+		DictionaryTreeImpl dictionary = new DictionaryTreeImpl("assets/words");
+		
+		System.out.println(dictionary.signatureToWords("43566"));
+		System.out.println(dictionary.signatureToWordsFuzzy("43566", 0));
+		System.out.println(dictionary.signatureToWordsFuzzy("43566", 1));
+		System.out.println(dictionary.signatureToWordsFuzzy("4356", 1));
+		System.out.println(dictionary.signatureToWordsFuzzy("435566", 1));
+		System.out.println(dictionary.signatureToWordsFuzzy("4663", 1).size());
+		System.out.println(dictionary.signatureToWordsFuzzy("4663", 2).size());
+		System.out.println(dictionary.signatureToWordsFuzzy("aabcd", 1));
+		
+		// maxErrors bigger than the depth of the tree find all words, and Integer.MAX_VALUE doesn't overflow
+		System.out.println(dictionary.signatureToWordsFuzzy("4663", Integer.MAX_VALUE).size() + " " +
+						   dictionary.signatureToWordsFuzzy("4663", Integer.MAX_VALUE).equals(dictionary.signatureToWordsFuzzy("4663", 100)));
+		
+		// the signature of the words with one or two random error, measured on all dictionary
+		List<String> listSignatures = new ArrayList<String>();
+		BufferedReader fileReader = new BufferedReader(new FileReader("assets/words"));
+		String fileOneLine = null;
+		while ((fileOneLine = fileReader.readLine()) != null)
+		{
+			if (fileOneLine.matches("[a-zA-Z]+"))
+			{
+				listSignatures.add(dictionary.wordToSignature(fileOneLine));
+			}
+		}
+		fileReader.close();
+		
+		Random random = new Random(1);
+		for (int maxErrors = 1; maxErrors <= 2; maxErrors++)
+		{
+			LatencyHistogram latencyHistogram = new LatencyHistogram();
+			int foundCount = 0;
+			for (int i = 0; i < 4000; i++)
+			{
+				String signature = listSignatures.get(random.nextInt(listSignatures.size()));
+				StringBuilder typedSignature = new StringBuilder(signature);
+				for (int j = 0; j < maxErrors; j++)
+				{
+					typedSignature.setCharAt(random.nextInt(typedSignature.length()), (char)('2' + random.nextInt(8)));
+				}
+				
+				long startTime = System.nanoTime();
+				int resultSize = dictionary.signatureToWordsFuzzy(typedSignature.toString(), maxErrors).size();
+				
+				// the first half is only used so the time is not the time of the JIT
+				if (i >= 2000)
+				{
+					latencyHistogram.record(System.nanoTime() - startTime);
+					foundCount += resultSize;
+				}
+			}
+			System.out.println(String.format("maxErrors %d : p50 %.1f us, p99 %.1f us, max %.1f us, %.1f words",
+											 maxErrors, latencyHistogram.getValueAtPercentile(50) / 1e3,
+											 latencyHistogram.getValueAtPercentile(99) / 1e3,
+											 latencyHistogram.getMax() / 1e3, foundCount / 2000.0));
+		}
+	}
+
+}
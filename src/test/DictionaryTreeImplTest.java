@@ -1,5 +1,7 @@
 package test;
 
+import java.util.Arrays;
+
 import predictive.DictionaryTreeImpl;
 
 public class DictionaryTreeImplTest {
@@ -30,6 +32,22 @@ public class DictionaryTreeImplTest {
 		System.out.println();
 		System.out.println(dictionary.signatureToWords("123"));
 		System.out.println(dictionary.signatureToWords("2267444625"));
+		
+		// the result must be the same with precomputed words of signature with length until 3
+		DictionaryTreeImpl precomputedDictionary = new DictionaryTreeImpl("assets/words", 3);
+		
+		System.out.println();
+		System.out.println(precomputedDictionary.signatureToWords("2"));
+		System.out.println(precomputedDictionary.signatureToWords("4"));
+		System.out.println(precomputedDictionary.signatureToWords("46"));
+		System.out.println(precomputedDictionary.signatureToWords("466"));
+		System.out.println(precomputedDictionary.signatureToWords("4663"));
+		System.out.println(dictionary.signatureToWords("466").equals(precomputedDictionary.signatureToWords("466")));
+		System.out.println("precomputed memory cost : " + precomputedDictionary.getPrecomputedMemoryCost() + " bytes");
+		
+		// the result of batch search is in the same order as the signatures
+		System.out.println();
+		System.out.println(dictionary.signaturesToWords(Arrays.asList("4663", "43556", "466", "4663", "123", "", "96753")));
 	}
 
 }
@@ -0,0 +1,60 @@
+package test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import predictive.DictionaryTreeImpl;
+import predictive.InstrumentedDictionary;
+import predictive.LatencyHistogram;
+
+public class InstrumentedDictionaryTest {
+
+	public static void main(String[] args) throws JMException {
+		InstrumentedDictionary dictionary = new InstrumentedDictionary(new DictionaryTreeImpl("assets/words"));
+		
+		System.out.println(dictionary.signatureToWords("4663"));
+		System.out.println(dictionary.signatureToWords("43556"));
+		System.out.println(dictionary.signatureToWords("96753"));
+		System.out.println(dictionary.signatureToWords("2267444625"));
+		System.out.println(dictionary.signatureToWords("123"));
+		System.out.println(dictionary.signatureToWords(""));
+		System.out.println(dictionary.signaturesToWords(Arrays.asList("4663", "69")));
+		
+		System.out.println();
+		System.out.println("lookups : " + dictionary.getLookupCount() + ", hits : " + dictionary.getHitCount() +
+						   ", misses : " + dictionary.getMissCount() + ", invalid : " + dictionary.getInvalidSignatureCount());
+		System.out.println("lookups by length : " + Arrays.toString(Arrays.copyOf(dictionary.getLookupCountByLength(), 11)));
+		System.out.println("average result size by length : " + Arrays.toString(Arrays.copyOf(dictionary.getAverageResultSizeByLength(), 6)));
+		
+		for (int i = 0; i < 100000; i++)
+		{
+			dictionary.signatureToWords("4663");
+		}
+		System.out.println("p50 : " + dictionary.getLatencyP50Nanos() + " ns, p99 : " + dictionary.getLatencyP99Nanos() +
+						   " ns, p999 : " + dictionary.getLatencyP999Nanos() + " ns, max : " + dictionary.getLatencyMaxNanos() + " ns");
+		
+		// the same statistics read by JMX
+		ObjectName objectName = dictionary.registerMBean("test");
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		System.out.println();
+		System.out.println(objectName);
+		System.out.println("LookupCount by JMX : " + mBeanServer.getAttribute(objectName, "LookupCount"));
+		mBeanServer.invoke(objectName, "reset", null, null);
+		System.out.println("LookupCount after reset : " + mBeanServer.getAttribute(objectName, "LookupCount"));
+		
+		// the percentile of the histogram is never more than 12.5% bigger than the real latency
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+		for (long i = 1; i <= 1000; i++)
+		{
+			latencyHistogram.record(i * 1000);
+		}
+		System.out.println();
+		System.out.println("p50 : " + latencyHistogram.getValueAtPercentile(50) + ", p99 : " + latencyHistogram.getValueAtPercentile(99) +
+						   ", p100 : " + latencyHistogram.getValueAtPercentile(100) + ", mean : " + latencyHistogram.getMean());
+	}
+
+}
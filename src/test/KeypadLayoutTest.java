@@ -0,0 +1,87 @@
+package test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import predictive.ConcurrentDictionaryTreeImpl;
+import predictive.Dictionary;
+import predictive.DictionaryArrayTreeImpl;
+import predictive.DictionaryCompiler;
+import predictive.DictionaryDawgImpl;
+import predictive.DictionaryListImpl;
+import predictive.DictionaryMapImpl;
+import predictive.DictionaryMappedImpl;
+import predictive.DictionaryPackedMapImpl;
+import predictive.DictionaryTreeImpl;
+import predictive.KeypadLayout;
+import predictive.ParallelDictionaryBuilder;
+import predictive.PredictivePrototype;
+
+public class KeypadLayoutTest {
+
+	public static void main(String[] args) throws IOException {
+
+		// Greek words (kalimera, geia, sas, kalos, kali, logos, KALOS in upper case), "hello" is not on the Greek keypad
+		List<String> greekWords = Arrays.asList("\u03ba\u03b1\u03bb\u03b7\u03bc\u03b5\u03c1\u03b1", "\u03b3\u03b5\u03b9\u03b1",
+												"\u03c3\u03b1\u03c2", "\u03ba\u03b1\u03bb\u03bf\u03c2", "\u03ba\u03b1\u03bb\u03b7",
+												"\u03bb\u03bf\u03b3\u03bf\u03c2", "\u039a\u0391\u039b\u039f\u03a3", "hello");
+		File greekFile = File.createTempFile("greek", ".txt");
+		greekFile.deleteOnExit();
+		Files.write(greekFile.toPath(), greekWords, StandardCharsets.UTF_8);
+		String greekPath = greekFile.getPath();
+
+		File greekImage = File.createTempFile("greek", ".dict");
+		greekImage.deleteOnExit();
+		DictionaryCompiler.compile(greekPath, greekImage.getPath(), KeypadLayout.GREEK);
+
+		// the upper case letter is on the same key as the lower case letter
+		String signature = KeypadLayout.GREEK.wordToSignature(greekWords.get(3));
+		System.out.println("signature of kalos : " + signature);
+		System.out.println("signature of KALOS : " + KeypadLayout.GREEK.wordToSignature(greekWords.get(6)));
+		System.out.println("signature of hello on Greek keypad : \"" + KeypadLayout.GREEK.wordToSignature("hello") + "\"");
+
+		// dictionaries with different layout in the same program
+		Dictionary standardDictionary = new DictionaryTreeImpl("assets/words");
+		System.out.println("standard 4355 : " + standardDictionary.signatureToWords("4355") +
+						   " (" + standardDictionary.getLayout() + ")");
+
+		Dictionary greekDictionaries[] = {new DictionaryMapImpl(greekPath, KeypadLayout.GREEK),
+										  new DictionaryListImpl(greekPath, KeypadLayout.GREEK),
+										  new DictionaryPackedMapImpl(greekPath, KeypadLayout.GREEK),
+										  new DictionaryMappedImpl(greekImage.getPath(), KeypadLayout.GREEK),
+										  ParallelDictionaryBuilder.buildMap(greekPath, KeypadLayout.GREEK),
+										  new DictionaryTreeImpl(greekPath, KeypadLayout.GREEK),
+										  new ConcurrentDictionaryTreeImpl(greekPath, KeypadLayout.GREEK),
+										  new DictionaryArrayTreeImpl(greekPath, KeypadLayout.GREEK),
+										  new DictionaryDawgImpl(greekPath, KeypadLayout.GREEK),
+										  ParallelDictionaryBuilder.buildTree(greekPath, 2, KeypadLayout.GREEK)};
+
+		// kalos and KALOS are the same word in lower case, so every dictionary have one word
+		Set<String> prototypeWords = PredictivePrototype.signaturesToWords(Arrays.asList(signature), greekPath, KeypadLayout.GREEK).get(0);
+		System.out.println("PredictivePrototype : " + prototypeWords.size() + " words, " +
+						   prototypeWords.contains(greekWords.get(3)));
+		for (Dictionary element : greekDictionaries)
+		{
+			Set<String> words = element.signatureToWords(signature);
+			System.out.println(element.getClass().getSimpleName() + " (" + element.getLayout() + ") : " +
+							   words.size() + " words, " + words.contains(greekWords.get(3)) + ", hello " +
+							   element.signatureToWords("43556").size());
+		}
+
+		// the same letter on two keys is not a valid layout
+		try
+		{
+			new KeypadLayout("invalid", new String[] {"abc", "def", "ghi", "jkl", "mno", "pqrs", "tuv", "wxya"});
+		}
+		catch (IllegalArgumentException e)
+		{
+			System.out.println("invalid layout : " + e.getMessage());
+		}
+	}
+
+}
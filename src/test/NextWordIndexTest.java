@@ -0,0 +1,45 @@
+package test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import predictive.NextWordIndex;
+
+public class NextWordIndexTest {
+
+	public static void main(String[] args) throws IOException {
+		File corpusFile = TestCorpus.createCorpusFile();
+		
+		NextWordIndex nextWordIndex = new NextWordIndex(corpusFile.getPath());
+		System.out.println("words : " + nextWordIndex.getWordCount() + ", bigrams : " + nextWordIndex.getBigramCount() +
+						   ", trigrams : " + nextWordIndex.getTrigramCount());
+		System.out.println("count(i, am) : " + nextWordIndex.getCount("i", "am"));
+		System.out.println("count(i, am, going) : " + nextWordIndex.getCount("i", "am", "going"));
+		
+		System.out.println(nextWordIndex.predictNextWords(Collections.<String>emptyList(), 3));
+		System.out.println(nextWordIndex.predictNextWords(Arrays.asList("i"), 3));
+		System.out.println(nextWordIndex.predictNextWords(Arrays.asList("i", "am"), 5));
+		System.out.println(nextWordIndex.predictNextWords(Arrays.asList("he", "is"), 5));
+		System.out.println(nextWordIndex.predictNextWords(Arrays.asList("he", "is"), '4', 5));
+		System.out.println(nextWordIndex.predictNextWords(Arrays.asList("unknown"), 3));
+		System.out.println(nextWordIndex.predictNextWords(Arrays.asList("the"), '1', 3));
+		
+		// the prediction is used many times first so the time is not the time of the JIT
+		List<String> previousWords = new ArrayList<String>(Arrays.asList("he", "is"));
+		for (int i = 0; i < 100000; i++)
+		{
+			nextWordIndex.predictNextWords(previousWords, 5);
+		}
+		long startTime = System.nanoTime();
+		for (int i = 0; i < 100000; i++)
+		{
+			nextWordIndex.predictNextWords(previousWords, 5);
+		}
+		System.out.println(String.format("prediction : %.3f us", (System.nanoTime() - startTime) / 1e3 / 100000));
+	}
+
+}
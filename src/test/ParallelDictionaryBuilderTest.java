@@ -0,0 +1,40 @@
+package test;
+
+import predictive.Dictionary;
+import predictive.DictionaryMapImpl;
+import predictive.DictionaryTreeImpl;
+import predictive.ParallelDictionaryBuilder;
+
+public class ParallelDictionaryBuilderTest {
+
+	public static void main(String[] args) {
+		
+		long startTime = System.nanoTime();
+		Dictionary treeDictionary = new DictionaryTreeImpl("assets/words");
+		System.out.println("sequential tree : " + (System.nanoTime() - startTime) / 1000000 + " ms");
+		
+		startTime = System.nanoTime();
+		Dictionary parallelTreeDictionary = ParallelDictionaryBuilder.buildTree("assets/words");
+		System.out.println("parallel tree : " + (System.nanoTime() - startTime) / 1000000 + " ms");
+		
+		startTime = System.nanoTime();
+		Dictionary mapDictionary = new DictionaryMapImpl("assets/words");
+		System.out.println("sequential map : " + (System.nanoTime() - startTime) / 1000000 + " ms");
+		
+		startTime = System.nanoTime();
+		Dictionary parallelMapDictionary = ParallelDictionaryBuilder.buildMap("assets/words");
+		System.out.println("parallel map : " + (System.nanoTime() - startTime) / 1000000 + " ms");
+		
+		String signatures[] = {"2", "4", "69", "2665", "43556", "4663", "96753", "26653288737", "2264",
+							   "2263245", "aabcd", "384667e", "3846673", "329", "123", "2267444625"};
+		
+		System.out.println();
+		for (String signature : signatures)
+		{
+			System.out.println(signature + " : " + 
+							   treeDictionary.signatureToWords(signature).equals(parallelTreeDictionary.signatureToWords(signature)) + " " +
+							   mapDictionary.signatureToWords(signature).equals(parallelMapDictionary.signatureToWords(signature)));
+		}
+	}
+
+}
@@ -1,5 +1,7 @@
 package test;
 
+import java.util.Arrays;
+
 import predictive.PredictivePrototype;
 
 public class PredictivePrototypeTest {
@@ -25,5 +27,7 @@ public class PredictivePrototypeTest {
 		System.out.println(PredictivePrototype.signatureToWords("384667e"));
 		System.out.println(PredictivePrototype.signatureToWords("3846673"));
 		System.out.println(PredictivePrototype.signatureToWords("329"));
+		
+		System.out.println(PredictivePrototype.signaturesToWords(Arrays.asList("4663", "2665", "329", "aabcd", "4663"), "assets/words"));
 	}
 }
@@ -0,0 +1,72 @@
+package test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.function.Function;
+
+import predictive.Dictionary;
+import predictive.DictionaryTreeImpl;
+import predictive.ReloadingDictionary;
+
+public class ReloadingDictionaryTest {
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+		File dictionaryFile = File.createTempFile("words", ".txt");
+		dictionaryFile.deleteOnExit();
+		writeWords(dictionaryFile, "good\nhome\n");
+		
+		ReloadingDictionary dictionary = new ReloadingDictionary(dictionaryFile.getPath(), new Function<String, Dictionary>() {
+			
+			@Override
+			public Dictionary apply(String path)
+			{
+				return new DictionaryTreeImpl(path);
+			}
+		});
+		
+		System.out.println(dictionary.signatureToWords("4663"));
+		
+		// the watcher thread reload the dictionary after the file is changed
+		writeWords(dictionaryFile, "good\nhome\ngone\nhood\n");
+		for (int i = 0; i < 100 && dictionary.getReloadCount() == 0; i++)
+		{
+			Thread.sleep(100);
+		}
+		
+		System.out.println("reload count : " + dictionary.getReloadCount());
+		System.out.println(dictionary.signatureToWords("4663"));
+		
+		// the truncated file is not loaded, the old words are still found
+		writeWords(dictionaryFile, "");
+		for (int i = 0; i < 100 && dictionary.getFailedReloadCount() == 0; i++)
+		{
+			Thread.sleep(100);
+		}
+		
+		System.out.println("reload count : " + dictionary.getReloadCount() + ", failed : " + dictionary.getFailedReloadCount());
+		System.out.println(dictionary.signatureToWords("4663"));
+		
+		// the deleted file is not loaded too
+		dictionaryFile.delete();
+		try
+		{
+			dictionary.reload();
+		}
+		catch (IOException e)
+		{
+			System.out.println("reload of deleted file : " + e.getMessage().endsWith("doesn't exist or can't be read"));
+		}
+		System.out.println(dictionary.signatureToWords("4663"));
+		
+		dictionary.close();
+	}
+	
+	private static void writeWords(File dictionaryFile, String words) throws IOException
+	{
+		FileWriter fileWriter = new FileWriter(dictionaryFile);
+		fileWriter.write(words);
+		fileWriter.close();
+	}
+
+}
@@ -0,0 +1,61 @@
+package test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import predictive.BigramCompiler;
+import predictive.BigramModel;
+import predictive.DictionaryMapImpl;
+import predictive.SentenceDecoder;
+
+public class SentenceDecoderTest {
+
+	public static void main(String[] args) throws IOException {
+		File corpusFile = TestCorpus.createCorpusFile();
+		
+		File tableFile = File.createTempFile("corpus", ".bigram");
+		tableFile.deleteOnExit();
+		BigramCompiler.compile(corpusFile.getPath(), tableFile.getPath());
+		
+		BigramModel bigramModel = new BigramModel(tableFile.getPath());
+		System.out.println("words : " + bigramModel.getWordCount() + ", bigrams : " + bigramModel.getBigramCount());
+		System.out.println("count(the, book) : " + bigramModel.getCount(bigramModel.getWordIndex("the"), bigramModel.getWordIndex("book")));
+		System.out.println("log P(book | the) : " + bigramModel.getLogProbability("the", "book"));
+		System.out.println("log P(good | the) : " + bigramModel.getLogProbability("the", "good"));
+		
+		SentenceDecoder sentenceDecoder = new SentenceDecoder(new DictionaryMapImpl("assets/words"), bigramModel);
+		System.out.println(sentenceDecoder.decodeBest("4 26 46464 4663"));
+		System.out.println(sentenceDecoder.decodeBest("843 2665 47 4663"));
+		System.out.println(sentenceDecoder.decode("43 47 28 4663", 3));
+		System.out.println(sentenceDecoder.decodeBest("4663 1234 4663"));
+		System.out.println(sentenceDecoder.decodeBest(""));
+		
+		// 20 words message, the decoder is used many times first so the time is not the time of the JIT
+		Random random = new Random(1);
+		String signatures[] = {"4", "26", "46464", "4663", "43", "47", "28", "843", "2665", "2665"};
+		List<String> message = new ArrayList<String>();
+		for (int i = 0; i < 20; i++)
+		{
+			message.add(signatures[random.nextInt(signatures.length)]);
+		}
+		for (int i = 0; i < 200; i++)
+		{
+			sentenceDecoder.decode(message, 5);
+		}
+		long startTime = System.nanoTime();
+		List<List<String>> listSentences = sentenceDecoder.decode(message, 5);
+		System.out.println(String.format("20 words : %.3f ms", (System.nanoTime() - startTime) / 1e6));
+		System.out.println(listSentences.get(0));
+		
+		// the table that doesn't exist make an empty model, the decoder still decode with the dictionary only
+		File missingFile = new File(tableFile.getPath() + ".missing");
+		BigramModel emptyModel = new BigramModel(missingFile.getPath());
+		System.out.println("empty model words : " + emptyModel.getWordCount() + ", count(boundary) : " +
+						   emptyModel.getCount(emptyModel.getSentenceBoundary()));
+		System.out.println(new SentenceDecoder(new DictionaryMapImpl("assets/words"), emptyModel).decodeBest("4663 2"));
+	}
+
+}
@@ -0,0 +1,33 @@
+package test;
+
+import java.util.Arrays;
+
+import predictive.SignatureConverter;
+
+public class SignatureConverterTest {
+
+	public static void main(String[] args) {
+		
+		char signature[] = new char[32];
+		System.out.println(new String(signature, 0, SignatureConverter.wordToSignature("Hello", signature)));
+		System.out.println(new String(signature, 0, SignatureConverter.wordToSignature("world", signature)));
+		System.out.println(new String(signature, 0, SignatureConverter.wordToSignature("1010a[bf", signature)));
+		
+		byte signatureBytes[] = new byte[32];
+		int length = SignatureConverter.wordToSignature("Book", signatureBytes, 2);
+		System.out.println(new String(signatureBytes, 2, length));
+		
+		System.out.println(Long.toOctalString(SignatureConverter.wordToPackedSignature("hello")));
+		System.out.println(SignatureConverter.wordToPackedSignature("hello") == SignatureConverter.packSignature("43556"));
+		System.out.println(SignatureConverter.wordToPackedSignature("a") != SignatureConverter.wordToPackedSignature("aa"));
+		System.out.println(SignatureConverter.wordToPackedSignature("can't"));
+		System.out.println(SignatureConverter.wordToPackedSignature("antidisestablishmentarianism"));
+		
+		String words[] = {"Hello", "Book", "gone", null, ""};
+		System.out.println(Arrays.toString(SignatureConverter.wordsToSignatures(words)));
+		
+		long packedSignatures[] = new long[words.length];
+		SignatureConverter.wordsToPackedSignatures(words, packedSignatures);
+		System.out.println(Arrays.toString(packedSignatures));
+	}
+}
@@ -0,0 +1,62 @@
+package test;
+
+import java.util.ArrayList;
+import java.util.TreeSet;
+
+import predictive.DictionaryArrayTreeImpl;
+import predictive.DictionaryTreeImpl;
+import predictive.SignatureCursor;
+
+public class SignatureCursorTest {
+
+	public static void main(String[] args) {
+		DictionaryTreeImpl treeDictionary = new DictionaryTreeImpl("assets/words");
+		DictionaryArrayTreeImpl arrayTreeDictionary = new DictionaryArrayTreeImpl("assets/words");
+		
+		SignatureCursor treeCursor = treeDictionary.cursor();
+		SignatureCursor arrayTreeCursor = arrayTreeDictionary.cursor();
+		
+		// typing "43556" one signature at a time, then backspace until empty
+		String signature = "43556";
+		for (int i = 0; i < signature.length(); i++)
+		{
+			treeCursor.advance(signature.charAt(i));
+			arrayTreeCursor.advance(signature.charAt(i));
+			
+			String prefix = signature.substring(0, i + 1);
+			System.out.println(prefix + " : " + treeCursor.getWords() + " " +
+							   treeCursor.getWords().equals(treeDictionary.signatureToWords(prefix)) + " " +
+							   arrayTreeCursor.getWords().equals(arrayTreeDictionary.signatureToWords(prefix)));
+			
+			// the top words from the node of the cursor must be the same as searched from the root
+			// (the tree doesn't have frequency, so it's the first words in lexicographic order)
+			System.out.println(prefix + " top : " + arrayTreeCursor.topK(5) + " " +
+							   arrayTreeCursor.topK(5).equals(arrayTreeDictionary.topK(prefix, 5)) + " " +
+							   treeCursor.topK(5).equals(new ArrayList<String>(new TreeSet<String>(treeDictionary.signatureToWords(prefix))).subList(0, Math.min(5, treeCursor.getWords().size()))));
+		}
+		
+		System.out.println();
+		while (treeCursor.length() > 0)
+		{
+			treeCursor.back();
+			arrayTreeCursor.back();
+			
+			String prefix = signature.substring(0, treeCursor.length());
+			System.out.println(prefix + " : " + treeCursor.getWords() + " " +
+							   treeCursor.getWords().equals(treeDictionary.signatureToWords(prefix)) + " " +
+							   arrayTreeCursor.getWords().equals(arrayTreeDictionary.signatureToWords(prefix)));
+		}
+		
+		// signature that doesn't exist and then back to the signature that exist
+		System.out.println();
+		treeCursor.reset();
+		treeCursor.advance('4');
+		treeCursor.advance('1');
+		treeCursor.advance('3');
+		System.out.println(treeCursor.getWords());
+		treeCursor.back();
+		treeCursor.back();
+		System.out.println(treeCursor.getWords());
+	}
+
+}
@@ -0,0 +1,30 @@
+package test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+public class TestCorpus {
+
+	// the corpus of the sentence decoder and the next word tests, the sentences end with '.', '!', '?'
+	// and the empty line, the punctuation inside the sentence is removed
+	private static final String CORPUS = "I am going home. He is at home!\n" +
+										 "The book is good. The book is cool, he is good.\n\n" +
+										 "I am good at home\n\n" +
+										 "I am gone. (Going home?) he is in the book. I am home.";
+
+	/**
+	 * Method to write the test corpus to a temporary file, the file is deleted when the test exit
+	 * @return the corpus file
+	 * @throws IOException if the file can't be written
+	 */
+	public static File createCorpusFile() throws IOException {
+		File corpusFile = File.createTempFile("corpus", ".txt");
+		corpusFile.deleteOnExit();
+		FileWriter corpusWriter = new FileWriter(corpusFile);
+		corpusWriter.write(CORPUS);
+		corpusWriter.close();
+		return corpusFile;
+	}
+
+}
@@ -0,0 +1,86 @@
+package test;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import predictive.KeypadLayout;
+import predictive.WordArena;
+
+public class WordArenaTest {
+
+	public static void main(String[] args) throws IOException {
+		WordArena wordArena = new WordArena(Arrays.asList("good", "home", "", "hello"));
+		
+		System.out.println(wordArena.size());
+		System.out.println(wordArena.getWord(0) + " " + wordArena.getWord(1) + " [" + wordArena.getWord(2) + "] " + wordArena.getWord(3));
+		System.out.println(wordArena.getWord(3, 3) + " " + wordArena.getLength(3));
+		System.out.println(wordArena.asList());
+		System.out.println(wordArena.asList().subList(1, 3));
+		
+		// memory report, the same words stored as String array and stored in the arena
+		// the file is parsed the same as the dictionaries (UTF-8, composed, lower case, without the frequency,
+		// invalid words skipped, every word once), so the words are the words that the dictionaries store
+		Set<String> setWords = new LinkedHashSet<String>();
+		BufferedReader fileReader = new BufferedReader(new InputStreamReader(new FileInputStream("assets/words"), StandardCharsets.UTF_8));
+		String fileOneLine = null;
+		while((fileOneLine = fileReader.readLine()) != null)
+		{
+			String word = KeypadLayout.composeWord(fileOneLine).toLowerCase();
+			int separatorIndex = indexOfSeparator(word);
+			if (separatorIndex != -1)
+			{
+				try
+				{
+					Integer.parseInt(word.substring(separatorIndex + 1).trim());
+				}
+				catch (NumberFormatException e)
+				{
+					continue;
+				}
+				word = word.substring(0, separatorIndex);
+			}
+			if (word.length() > 0 && KeypadLayout.STANDARD.isValidWord(word))
+			{
+				setWords.add(word);
+			}
+		}
+		fileReader.close();
+		List<String> listWords = new ArrayList<String>(setWords);
+		
+		long stringMemoryCost = WordArena.getStringMemoryCost(listWords);
+		long arenaMemoryCost = new WordArena(listWords).getMemoryCost();
+		
+		System.out.println();
+		System.out.println("words : " + listWords.size());
+		System.out.println("String array : " + stringMemoryCost + " bytes, " +
+						   String.format("%.2f", (double)stringMemoryCost / listWords.size()) + " bytes per word");
+		System.out.println("word arena : " + arenaMemoryCost + " bytes, " +
+						   String.format("%.2f", (double)arenaMemoryCost / listWords.size()) + " bytes per word");
+	}
+	
+	/**
+	 * Method to find the first space or tab in a line of dictionary file (the same as the dictionaries)
+	 * @param line : line of dictionary file
+	 * @return index of the first space or tab, -1 if there's no space or tab
+	 */
+	private static int indexOfSeparator(String line)
+	{
+		for (int i = 0; i < line.length(); i++)
+		{
+			if (line.charAt(i) == ' ' || line.charAt(i) == '\t')
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+}
@@ -0,0 +1,58 @@
+package test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import predictive.ConcurrentDictionaryTreeImpl;
+import predictive.Dictionary;
+import predictive.DictionaryArrayTreeImpl;
+import predictive.DictionaryCompiler;
+import predictive.DictionaryDawgImpl;
+import predictive.DictionaryListImpl;
+import predictive.DictionaryMapImpl;
+import predictive.DictionaryMappedImpl;
+import predictive.DictionaryPackedMapImpl;
+import predictive.DictionaryTreeImpl;
+import predictive.ParallelDictionaryBuilder;
+import predictive.PredictivePrototype;
+
+public class WordFrequencyFileTest {
+
+	public static void main(String[] args) throws IOException {
+
+		// the frequency is separated by tab or space, "home" doesn't have frequency (frequency 0)
+		// and "hood x" is not a valid line (the frequency is not a number)
+		List<String> lines = Arrays.asList("good\t120", "home", "gone 75", "hoof\t3", "hood x", "in\t500");
+		File wordsFile = File.createTempFile("frequency", ".txt");
+		wordsFile.deleteOnExit();
+		Files.write(wordsFile.toPath(), lines, StandardCharsets.UTF_8);
+		String path = wordsFile.getPath();
+
+		File imageFile = File.createTempFile("frequency", ".dict");
+		imageFile.deleteOnExit();
+		DictionaryCompiler.compile(path, imageFile.getPath());
+
+		// every dictionary read the same words from the file with frequency
+		Dictionary dictionaries[] = {new DictionaryMapImpl(path), new DictionaryListImpl(path),
+									 new DictionaryPackedMapImpl(path), new DictionaryMappedImpl(imageFile.getPath()),
+									 ParallelDictionaryBuilder.buildMap(path), new DictionaryTreeImpl(path),
+									 new ConcurrentDictionaryTreeImpl(path), new DictionaryArrayTreeImpl(path),
+									 new DictionaryDawgImpl(path), ParallelDictionaryBuilder.buildTree(path, 2)};
+		for (Dictionary element : dictionaries)
+		{
+			System.out.println(element.getClass().getSimpleName() + " : 4663 " + element.signatureToWords("4663") +
+							   ", 46 " + element.signatureToWords("46"));
+		}
+		System.out.println("PredictivePrototype : 4663 " + PredictivePrototype.signatureToWords("4663", path));
+
+		// the most frequent word first
+		DictionaryArrayTreeImpl arrayTree = new DictionaryArrayTreeImpl(path);
+		System.out.println("topK 4663 : " + arrayTree.topK("4663", 10));
+		System.out.println("topK 4 : " + arrayTree.topK("4", 10));
+	}
+
+}